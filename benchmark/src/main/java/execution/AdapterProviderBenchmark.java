@@ -4,11 +4,15 @@ import common.Store;
 import dev.anhcraft.config.ConfigFactory;
 import dev.anhcraft.config.ConfigNormalizer;
 import dev.anhcraft.config.adapter.CacheableAdapterProvider;
+import dev.anhcraft.config.adapter.ClassValueAdapterProvider;
 import dev.anhcraft.config.adapter.IndexedAdapterProvider;
 import dev.anhcraft.config.adapter.SimpleAdapterProvider;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -21,6 +25,12 @@ public class AdapterProviderBenchmark {
   private ConfigNormalizer normalizerUsingSimpleAdapter;
   private ConfigNormalizer normalizerUsingIndexedAdapter;
   private ConfigNormalizer normalizerUsingCacheableAdapter;
+  private ConfigNormalizer normalizerUsingClassValueAdapter;
+  private ConfigFactory factoryUsingCacheableAdapter;
+  private ConfigFactory factoryUsingClassValueAdapter;
+  private final Class<?>[] lookupTypes = {
+    String.class, Integer.class, double.class, UUID.class, URI.class, ArrayList.class, Store.class
+  };
 
   @Setup
   public void setup() {
@@ -28,6 +38,9 @@ public class AdapterProviderBenchmark {
     normalizerUsingSimpleAdapter = ConfigFactory.create().useAdapterProvider(SimpleAdapterProvider.class).build().getNormalizer();
     normalizerUsingIndexedAdapter = ConfigFactory.create().useAdapterProvider(IndexedAdapterProvider.class).build().getNormalizer();
     normalizerUsingCacheableAdapter = ConfigFactory.create().useAdapterProvider(CacheableAdapterProvider.class).build().getNormalizer();
+    normalizerUsingClassValueAdapter = ConfigFactory.create().useAdapterProvider(ClassValueAdapterProvider.class).build().getNormalizer();
+    factoryUsingCacheableAdapter = ConfigFactory.create().useAdapterProvider(CacheableAdapterProvider.class).build();
+    factoryUsingClassValueAdapter = ConfigFactory.create().useAdapterProvider(ClassValueAdapterProvider.class).build();
   }
 
   @Benchmark
@@ -44,4 +57,39 @@ public class AdapterProviderBenchmark {
   public void useCacheableAdapter(Blackhole hell) throws Exception {
     hell.consume(normalizerUsingCacheableAdapter.normalize(model));
   }
+
+  @Benchmark
+  public void useClassValueAdapter(Blackhole hell) throws Exception {
+    hell.consume(normalizerUsingClassValueAdapter.normalize(model));
+  }
+
+  // the following benchmarks share the provider among threads
+
+  @Benchmark
+  @Threads(4)
+  public void useCacheableAdapterConcurrently(Blackhole hell) throws Exception {
+    hell.consume(normalizerUsingCacheableAdapter.normalize(model));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void useClassValueAdapterConcurrently(Blackhole hell) throws Exception {
+    hell.consume(normalizerUsingClassValueAdapter.normalize(model));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void lookupCacheableAdapterConcurrently(Blackhole hell) {
+    for (Class<?> type : lookupTypes) {
+      hell.consume(factoryUsingCacheableAdapter.getTypeAdapter(type));
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void lookupClassValueAdapterConcurrently(Blackhole hell) {
+    for (Class<?> type : lookupTypes) {
+      hell.consume(factoryUsingClassValueAdapter.getTypeAdapter(type));
+    }
+  }
 }
@@ -25,6 +25,7 @@ public class JsonParsingBenchmark {
   private ConfigDenormalizer denormalizer;
   private Gson gson;
   private String json;
+  private JsonParser parser;
 
   @Setup
   public void setup() throws Exception {
@@ -34,6 +35,7 @@ public class JsonParsingBenchmark {
     denormalizer = fac.getDenormalizer();
     gson = new Gson();
     json = gson.toJson(Store.createDummy());
+    parser = new JsonParser(new StringReader(json));
     denormalizer.denormalize(json, Store.class); // trigger cache
   }
 
@@ -49,6 +51,13 @@ public class JsonParsingBenchmark {
     hell.consume(denormalizer.denormalize(jp.parse(), Store.class));
   }
 
+  @Benchmark
+  public void parsingJsonToModelUsingStreaming(Blackhole hell) throws Exception {
+    StringReader sr = new StringReader(json);
+    JsonParser jp = new JsonParser(new BufferedReader(sr));
+    hell.consume(jp.parse(denormalizer, Store.class));
+  }
+
   @Benchmark
   public void parsingJsonToDictionaryUsingGson(Blackhole hell) {
     hell.consume(gson.fromJson(json, JsonObject.class));
@@ -60,4 +69,9 @@ public class JsonParsingBenchmark {
     JsonParser jp = new JsonParser(new BufferedReader(sr));
     hell.consume(jp.parse());
   }
+
+  @Benchmark
+  public void parsingJsonToDictionaryUsingReusedParser(Blackhole hell) throws IOException {
+    hell.consume(parser.reset(new StringReader(json)).parse());
+  }
 }
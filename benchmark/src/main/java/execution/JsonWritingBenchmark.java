@@ -47,6 +47,14 @@ public class JsonWritingBenchmark {
     hell.consume(sw.toString());
   }
 
+  @Benchmark
+  public void writingJsonFromModelUsingStreaming(Blackhole hell) throws Exception {
+    StringWriter sw = new StringWriter();
+    JsonWriter jw = new JsonWriter(new BufferedWriter(sw));
+    jw.serialize(normalizer, model);
+    hell.consume(sw.toString());
+  }
+
   @Benchmark
   public void writingJsonFromDictionaryUsingGson(Blackhole hell) {
     hell.consume(gson.toJson(dictionary));
@@ -0,0 +1,61 @@
+package execution;
+
+import common.Product;
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.PropertyAccessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 5)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+  private Product model;
+  private Field nameField;
+  private Field priceField;
+  private PropertyAccessor nameAccessor;
+  private PropertyAccessor priceAccessor;
+
+  @Setup
+  public void setup() {
+    model = new Product("p1", "Cookie", 100.0);
+    ConfigFactory factory = ConfigFactory.create().build();
+    ClassProperty name = factory.getSchema(Product.class).property("name");
+    ClassProperty price = factory.getSchema(Product.class).property("price");
+    nameField = name.field();
+    priceField = price.field();
+    nameAccessor = name.accessor();
+    priceAccessor = price.accessor();
+  }
+
+  @Benchmark
+  public void readUsingField(Blackhole hell) throws Exception {
+    hell.consume(nameField.get(model));
+    hell.consume(priceField.get(model));
+  }
+
+  @Benchmark
+  public void readUsingAccessor(Blackhole hell) {
+    hell.consume(nameAccessor.get(model));
+    hell.consume(priceAccessor.get(model));
+  }
+
+  @Benchmark
+  public void writeUsingField() throws Exception {
+    nameField.set(model, "Cookie");
+    priceField.set(model, 100.0);
+  }
+
+  @Benchmark
+  public void writeUsingAccessor() {
+    nameAccessor.set(model, "Cookie");
+    priceAccessor.set(model, 100.0);
+  }
+}
@@ -0,0 +1,53 @@
+package execution;
+
+import common.Product;
+import common.Store;
+import common.Transaction;
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.blueprint.SchemaIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 5)
+@Fork(1)
+public class SchemaIndexBenchmark {
+  private final Class<?>[] types = {Store.class, Product.class, Transaction.class};
+  private SchemaIndex index;
+
+  @Setup
+  public void setup() throws IOException {
+    SchemaIndex scanned = new SchemaIndex();
+    ConfigFactory factory = ConfigFactory.create().useSchemaIndex(scanned).build();
+    for (Class<?> type : types) {
+      factory.getSchema(type);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    scanned.save(out);
+    index = SchemaIndex.load(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  private void scanSchemas(ConfigFactory factory, Blackhole hell) {
+    for (Class<?> type : types) {
+      hell.consume(factory.getSchema(type));
+    }
+  }
+
+  @Benchmark
+  public void coldStart(Blackhole hell) {
+    scanSchemas(ConfigFactory.create().build(), hell);
+  }
+
+  @Benchmark
+  public void warmStart(Blackhole hell) {
+    scanSchemas(ConfigFactory.create().useSchemaIndex(index).build(), hell);
+  }
+}
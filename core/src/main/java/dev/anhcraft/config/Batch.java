@@ -0,0 +1,89 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.context.Context;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A batch converts a sequence of items with one context.<br>
+ * The context is reused from one item to the next, or forked once per task if the batch runs in parallel. If an error
+ * handler is given, a failed item results in {@code null} and does not affect the others: the context is left to the
+ * exception and a new one is used for the next item, and the handler is called with the exception and the index of
+ * the item, in order, once the whole batch completes. Otherwise, the batch stops at the first failed item.
+ */
+@ApiStatus.Internal
+final class Batch {
+  private Batch() {}
+
+  /**
+   * Copies the given items into an array.
+   * @param items the items
+   * @return the array
+   */
+  static @NotNull Object[] toArray(@NotNull Iterable<?> items) {
+    if (items instanceof Collection) return ((Collection<?>) items).toArray();
+    List<Object> list = new ArrayList<>();
+    for (Object item : items) {
+      list.add(item);
+    }
+    return list.toArray();
+  }
+
+  /**
+   * Converts the given items.
+   * @param contextSupplier the supplier of new contexts
+   * @param parallelTasks the parallel tasks or {@code null} to run sequentially
+   * @param items the items
+   * @param conversion the conversion of an item
+   * @param errorHandler the error handler or {@code null} to stop at the first failed item
+   * @return the results in the same order as the items
+   * @throws Exception the exception of the first failed item if there is no error handler
+   */
+  static @Nullable Object @NotNull [] run(
+      @NotNull Supplier<Context> contextSupplier,
+      @Nullable ParallelTasks parallelTasks,
+      @Nullable Object @NotNull [] items,
+      @NotNull Conversion conversion,
+      @Nullable ObjIntConsumer<Exception> errorHandler)
+      throws Exception {
+    Object[] results = new Object[items.length];
+    Exception[] errors = errorHandler == null ? null : new Exception[items.length];
+    Context ctx = contextSupplier.get();
+
+    if (parallelTasks != null && parallelTasks.accepts(items.length)) {
+      parallelTasks.forEach(
+          ctx, items.length, (c, i) -> results[i] = conversion.apply(c, items[i]), errors);
+    } else {
+      for (int i = 0; i < items.length; i++) {
+        try {
+          results[i] = conversion.apply(ctx, items[i]);
+        } catch (Exception e) {
+          if (errors == null) throw e;
+          errors[i] = e;
+          ctx = contextSupplier.get();
+        }
+      }
+    }
+
+    if (errors != null) {
+      for (int i = 0; i < errors.length; i++) {
+        if (errors[i] != null) errorHandler.accept(errors[i], i);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * The conversion of an item.
+   */
+  @FunctionalInterface
+  interface Conversion {
+    @Nullable Object apply(@NotNull Context ctx, @Nullable Object item) throws Exception;
+  }
+}
@@ -0,0 +1,103 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.type.ComplexTypes;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A canonical constructor is a constructor taking the values of all properties of a {@link ClassSchema} as its
+ * parameters, in the same order as {@link ClassSchema#properties()} and of the same (erased) types. Records and
+ * classes with an all-args constructor usually have one.<br>
+ * Constant properties are not denormalized, so they are not parameters of the constructor; their values are
+ * initialized by the constructor itself. The arguments are still indexed by the properties of the schema, and the
+ * arguments of constant properties are ignored.<br>
+ * When denormalizing via the canonical constructor, the values of properties are collected first and the instance is
+ * created at once. As such, no constructor is skipped and final fields are never written reflectively.<br>
+ * A schema having denormalizer processors has no canonical constructor since the processors require an instance.<br>
+ * This class is immutable and thread-safe.
+ * @see SettingFlag.Denormalizer#PREFER_CANONICAL_CONSTRUCTOR
+ */
+public final class CanonicalConstructor {
+  private static final MethodType INVOKER_TYPE =
+      MethodType.methodType(Object.class, Object[].class);
+
+  private final MethodHandle invoker;
+  private final Object[] defaultArguments;
+
+  private CanonicalConstructor(MethodHandle invoker, Object[] defaultArguments) {
+    this.invoker = invoker;
+    this.defaultArguments = defaultArguments;
+  }
+
+  /**
+   * Finds the canonical constructor of the given schema.
+   * @param schema the schema
+   * @return the canonical constructor or {@code null} if not exists
+   */
+  static @Nullable CanonicalConstructor of(@NotNull ClassSchema schema) {
+    if (!ComplexTypes.isInstantiable(schema.type())) return null;
+    List<ClassProperty> properties = schema.properties();
+    if (properties.isEmpty()) return null;
+    Class<?>[] types = new Class<?>[properties.size()];
+    Object[] defaultArguments = new Object[types.length];
+    List<Class<?>> parameterTypes = new ArrayList<>(types.length);
+    try {
+      for (int i = 0; i < types.length; i++) {
+        ClassProperty property = properties.get(i);
+        if (property.denormalizer() != null) return null;
+        types[i] = ComplexTypes.erasure(property.type());
+        if (types[i].isPrimitive())
+          defaultArguments[i] = Array.get(Array.newInstance(types[i], 1), 0);
+        if (!property.isConstant()) parameterTypes.add(types[i]);
+      }
+      if (parameterTypes.isEmpty()) return null;
+      Constructor<?> constructor =
+          schema.type().getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]));
+      constructor.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      for (int i = 0; i < types.length; i++) {
+        if (properties.get(i).isConstant())
+          handle = MethodHandles.dropArguments(handle, i, types[i]);
+      }
+      MethodHandle invoker = handle.asSpreader(Object[].class, types.length).asType(INVOKER_TYPE);
+      return new CanonicalConstructor(invoker, defaultArguments);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // e.g. the constructor does not exist or is inaccessible
+      return null;
+    }
+  }
+
+  /**
+   * Creates a new array of arguments.<br>
+   * The array is initialized with the default values: {@code null} for objects and zero for primitives.
+   * @return the arguments
+   */
+  public @NotNull Object[] newArguments() {
+    return defaultArguments.clone();
+  }
+
+  /**
+   * Creates a new instance with the given arguments.
+   * @param arguments the arguments
+   * @return the new instance
+   * @throws Exception any exception thrown by the constructor
+   */
+  public @NotNull Object newInstance(@NotNull Object[] arguments) throws Exception {
+    try {
+      return (Object) invoker.invokeExact(arguments);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+}
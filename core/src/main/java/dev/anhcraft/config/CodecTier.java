@@ -0,0 +1,56 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.blueprint.ClassSchema;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The codec tier decides when a class schema is promoted from the reflective path to a {@link SchemaCodec}.<br>
+ * Similar to tiered compilation, every schema starts in the reflective path. Each invocation is counted and once the
+ * count reaches the threshold, the codec is compiled and used for subsequent calls. A codec compiled from a schema
+ * which is no longer cached in the schema scanner is recompiled on the next call.<br>
+ * Counters are attached to the classes via {@link ClassValue}, so that the tier does not keep classes of other class
+ * loaders from being unloaded.
+ */
+@ApiStatus.Internal
+final class CodecTier {
+  private final ConfigFactory factory;
+  private final int threshold;
+  private final ClassValue<Counter> counters =
+      new ClassValue<>() {
+        @Override
+        protected Counter computeValue(Class<?> type) {
+          return new Counter();
+        }
+      };
+
+  CodecTier(@NotNull ConfigFactory factory, int threshold) {
+    this.factory = factory;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Records an invocation of the given schema and gets the codec if it is compiled.
+   * @param schema the schema
+   * @return the codec or {@code null} if the schema is still in the reflective path
+   */
+  @Nullable SchemaCodec get(@NotNull ClassSchema schema) {
+    Counter counter = counters.get(schema.type());
+    SchemaCodec codec = counter.codec;
+    if (codec != null && codec.schema() == schema) return codec;
+    if (codec == null && counter.invocations.getAndIncrement() < threshold) return null;
+    synchronized (counter) {
+      codec = counter.codec;
+      if (codec == null || codec.schema() != schema)
+        counter.codec = codec = SchemaCodec.compile(factory, schema);
+    }
+    return codec;
+  }
+
+  private static final class Counter {
+    private final AtomicInteger invocations = new AtomicInteger();
+    private volatile SchemaCodec codec;
+  }
+}
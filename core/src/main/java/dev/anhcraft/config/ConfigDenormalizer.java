@@ -2,22 +2,22 @@ package dev.anhcraft.config;
 
 import dev.anhcraft.config.adapter.TypeAdapter;
 import dev.anhcraft.config.adapter.TypeInferencer;
+import dev.anhcraft.config.adapter.defaults.IterableAdapter;
 import dev.anhcraft.config.blueprint.*;
 import dev.anhcraft.config.context.Context;
-import dev.anhcraft.config.context.ElementScope;
-import dev.anhcraft.config.context.PropertyScope;
-import dev.anhcraft.config.context.ValueScope;
 import dev.anhcraft.config.error.IllegalTypeException;
 import dev.anhcraft.config.error.InvalidValueException;
 import dev.anhcraft.config.meta.Denormalizer;
-import dev.anhcraft.config.meta.Fallback;
 import dev.anhcraft.config.type.ComplexTypes;
 import dev.anhcraft.config.type.SimpleTypes;
 import dev.anhcraft.config.type.TypeResolver;
 import dev.anhcraft.config.type.TypeToken;
+import dev.anhcraft.config.util.BoundedCache;
+import dev.anhcraft.config.validate.Validator;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.function.ObjIntConsumer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,21 +39,38 @@ import org.jetbrains.annotations.Nullable;
  * recursively, which results in a complete denormalization.<br>
  * It is possible to hide certain data by specifying the superclass as the target type. This results in implicit
  * creation of the schema of the superclass. The result hides the details of the actual class and only contains the
- * information from the superclass up to the root of class hierarchy.
+ * information from the superclass up to the root of class hierarchy.<br>
+ * Large arrays and containers can be denormalized in parallel, see
+ * {@link ConfigFactory.Builder#useParallelDenormalization(int)}. A simple object can also be streamed from a
+ * {@link DenormalizationSource} without building it, see {@link #denormalize(Context, DenormalizationSource, Type)}.
  * @see TypeAdapter
  * @see TypeToken
  */
 public class ConfigDenormalizer {
+  private static final int RESOLVER_CACHE_SIZE = 256;
   private final ConfigFactory configFactory;
   private final Set<SettingFlag.Denormalizer> settings;
+  private final boolean validation;
+  private final ParallelTasks parallelTasks;
+  private final BoundedCache<Type, TypeResolver> resolverCache =
+      new BoundedCache<>(RESOLVER_CACHE_SIZE);
 
   /**
    * Use {@link ConfigFactory#getDenormalizer()}
    */
   @ApiStatus.Internal
   public ConfigDenormalizer(ConfigFactory configFactory, Set<SettingFlag.Denormalizer> settings) {
+    this(configFactory, settings, null);
+  }
+
+  ConfigDenormalizer(
+      ConfigFactory configFactory,
+      Set<SettingFlag.Denormalizer> settings,
+      @Nullable ParallelTasks parallelTasks) {
     this.configFactory = configFactory;
+    this.parallelTasks = parallelTasks;
     this.settings = Collections.unmodifiableSet(settings);
+    this.validation = !settings.contains(SettingFlag.Denormalizer.DISABLE_VALIDATION);
   }
 
   private Context createContext() {
@@ -98,6 +115,50 @@ public class ConfigDenormalizer {
     return _denormalize(ctx, simple, targetType);
   }
 
+  /**
+   * Denormalizes the simple object read from the given source into a complex object.<br>
+   * This creates a new {@link Context} to facilitate recursive calls.
+   * @param source the source
+   * @param targetType the target complex type
+   * @return the complex object or {@code null} if the object cannot be denormalized
+   * @throws Exception may throw exceptions during denormalization
+   * @see #denormalize(Context, DenormalizationSource, Type)
+   */
+  public @Nullable Object denormalize(
+      @NotNull DenormalizationSource source, @NotNull Type targetType) throws Exception {
+    return denormalize(createContext(), source, targetType);
+  }
+
+  /**
+   * Denormalizes the simple object read from the given source into a complex object.<br>
+   * This results in the same complex object as {@link #denormalize(Context, Object, Type)} with the simple object read
+   * as a whole, but the source is streamed into the target type: the entries of a dictionary are routed to the
+   * properties as they are read, and the values are denormalized in place. A value is only read as a whole if it is
+   * needed as a simple object:
+   * <ul>
+   *   <li>The settings caught by the fallback property</li>
+   *   <li>The value of a property with a {@link Denormalizer.Strategy#REPLACE} processor</li>
+   *   <li>The value matched by an alias, since a name of higher priority may follow</li>
+   *   <li>The value of a property with aliases if the fallback property catches its unmatched names</li>
+   *   <li>The value given to a type adapter, except arrays given to the built-in {@link IterableAdapter}</li>
+   * </ul>
+   * The keys are matched speculatively in the schema order before the key index is looked up. The properties are
+   * processed in the schema order once the dictionary ends, but a streamed value is denormalized when it is read.
+   * Besides, the container of {@link dev.anhcraft.config.context.PropertyScope} is {@code null} and the
+   * denormalization is always sequential.
+   * @param ctx the {@link Context} to use
+   * @param source the source
+   * @param targetType the target complex type
+   * @return the complex object or {@code null} if the object cannot be denormalized
+   * @throws Exception may throw exceptions during denormalization
+   * @see DenormalizationSource
+   */
+  public @Nullable Object denormalize(
+      @NotNull Context ctx, @NotNull DenormalizationSource source, @NotNull Type targetType)
+      throws Exception {
+    return _stream(ctx, source, targetType);
+  }
+
   /**
    * Denormalizes the given dictionary into the given instance.<br>
    * This creates a new {@link Context} to facilitate recursive calls.
@@ -131,8 +192,111 @@ public class ConfigDenormalizer {
     _denormalizeToInstance(ctx, simple, targetType, instance);
   }
 
+  /**
+   * Denormalizes the given dictionaries into complex objects of the same type.<br>
+   * This is equivalent to calling {@link #denormalize(Context, Object, Type)} for each dictionary, but the erasure and
+   * the type adapter of {@code targetType} are resolved once and one {@link Context} is created for the whole batch.
+   * If parallel denormalization is enabled and the number of dictionaries reaches the threshold, the dictionaries are
+   * denormalized in parallel. The batch stops at the first dictionary which fails.
+   * @param simples the dictionaries
+   * @param targetType the target complex type
+   * @return the complex objects in the same order, {@code null} for a {@code null} dictionary or a dictionary that
+   * cannot be denormalized
+   * @throws Exception may throw exceptions during denormalization
+   * @see #denormalizeAll(Iterable, Type, ObjIntConsumer)
+   */
+  public @NotNull List<Object> denormalizeAll(
+      @NotNull Iterable<? extends Dictionary> simples, @NotNull Type targetType) throws Exception {
+    return denormalizeAll(simples, targetType, null);
+  }
+
+  /**
+   * Denormalizes the given dictionaries into complex objects of the same type with per-dictionary error isolation.<br>
+   * This is the same as {@link #denormalizeAll(Iterable, Type)}, except that a dictionary which fails results in
+   * {@code null} without affecting the others. Once the whole batch completes, the error handler is called on the
+   * current thread with the exception and the index of each failed dictionary, in order. The error handler may
+   * rethrow the exception to abort the batch.
+   * @param simples the dictionaries
+   * @param targetType the target complex type
+   * @param errorHandler the error handler or {@code null} to stop at the first failed dictionary
+   * @return the complex objects in the same order, {@code null} for a {@code null} dictionary or a dictionary that
+   * cannot be denormalized or fails
+   * @throws Exception may throw exceptions during denormalization
+   */
+  public @NotNull List<Object> denormalizeAll(
+      @NotNull Iterable<? extends Dictionary> simples,
+      @NotNull Type targetType,
+      @Nullable ObjIntConsumer<Exception> errorHandler)
+      throws Exception {
+    Class<?> erasureType;
+    TypeAdapter<?> adapter;
+    if (targetType == Object.class || ComplexTypes.isArray(targetType)) {
+      erasureType = null;
+      adapter = null;
+    } else {
+      erasureType = ComplexTypes.erasure(targetType);
+      adapter = configFactory.getTypeAdapter(erasureType);
+    }
+    Object[] results =
+        Batch.run(
+            this::createContext,
+            parallelTasks,
+            Batch.toArray(simples),
+            (ctx, simple) -> {
+              if (simple == null) return null;
+              if (erasureType == null) return _denormalize(ctx, simple, targetType);
+              return _denormalizeWith(ctx, simple, targetType, erasureType, adapter);
+            },
+            errorHandler);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Complexifies the given values independently into the given type using
+   * {@link Context#complexify(Context, Object, Type)}.<br>
+   * This is intended for type adapters of containers. If parallel denormalization is enabled and the number of values
+   * reaches the threshold, the values are complexified in parallel, each task with a context forked from the given
+   * one. In any case, the i-th result corresponds to the i-th value. A {@code null} value results in {@code null}.
+   * @param ctx the {@link Context} to use
+   * @param values the values
+   * @param targetType the target complex type
+   * @return the complex values
+   * @throws Exception may throw exceptions during denormalization
+   * @see ConfigFactory.Builder#useParallelDenormalization(int)
+   */
+  public @Nullable Object @NotNull [] complexifyAll(
+      @NotNull Context ctx, @Nullable Object @NotNull [] values, @NotNull Type targetType)
+      throws Exception {
+    Object[] result = new Object[values.length];
+    if (parallelTasks != null && parallelTasks.accepts(values.length)) {
+      parallelTasks.forEach(
+          ctx, values.length, (c, i) -> result[i] = complexify(c, values[i], targetType));
+      return result;
+    }
+    for (int i = 0; i < values.length; i++) {
+      result[i] = complexify(ctx, values[i], targetType);
+    }
+    return result;
+  }
+
+  private static Object complexify(Context ctx, Object value, Type targetType) throws Exception {
+    return value == null ? null : ctx.complexify(ctx, value, targetType);
+  }
+
   // ======== Internal implementations ========
 
+  /**
+   * Gets the type resolver for the given target type.<br>
+   * Resolvers are cached per target type, so the types of properties are resolved only once.
+   * @param targetType the target type
+   * @return the type resolver
+   */
+  @NotNull TypeResolver getTypeResolver(@NotNull Type targetType) {
+    Type type =
+        targetType instanceof TypeResolver ? ((TypeResolver) targetType).provideType() : targetType;
+    return resolverCache.getOrLoad(type, TypeResolver::of);
+  }
+
   private <T> void validateSimpleType(Context ctx, T simple) {
     if (!SimpleTypes.test(simple))
       throw new IllegalTypeException(ctx, "Supplied argument is not a simple object: " + simple);
@@ -150,99 +314,201 @@ public class ConfigDenormalizer {
     }
   }
 
-  @SuppressWarnings("rawtypes")
-  private <T> Object _denormalize(Context ctx, @Nullable T simple, @NotNull Type targetType)
+  <T> Object _denormalize(Context ctx, @Nullable T simple, @NotNull Type targetType)
       throws Exception {
     if (simple == null) return null;
     if (targetType == Object.class) return simple;
     if (ComplexTypes.isArray(targetType)) return _denormalizeToArray(ctx, targetType, simple);
     Class<?> erasureType = ComplexTypes.erasure(targetType);
-    TypeAdapter adapter = configFactory.getTypeAdapter(erasureType);
+    return _denormalizeWith(
+        ctx, simple, targetType, erasureType, configFactory.getTypeAdapter(erasureType));
+  }
+
+  // denormalizes a non-null object into a non-array type with the adapter already looked up for
+  // the erasure of the type
+  @SuppressWarnings("rawtypes")
+  private <T> Object _denormalizeWith(
+      Context ctx, T simple, Type targetType, Class<?> erasureType, TypeAdapter adapter)
+      throws Exception {
     if (adapter != null && !(adapter instanceof TypeInferencer)) {
-      Object result = adapter.complexify(ctx, simple, targetType);
-      if (result != null
-          && !ComplexTypes.wrapPrimitive(erasureType).isAssignableFrom(result.getClass())) {
-        String msg =
-            String.format(
-                "Adapter returned incompatible type '%s' while the desire is '%s'",
-                result.getClass().getName(), erasureType.getName());
-        throw new IllegalTypeException(ctx, msg);
-      }
-      return result;
+      return checkAdapterResult(ctx, adapter.complexify(ctx, simple, targetType), erasureType);
     }
     if (!(simple instanceof Dictionary)) return null;
+    if (settings.contains(SettingFlag.Denormalizer.PREFER_CANONICAL_CONSTRUCTOR)
+        && ComplexTypes.isInstantiable(erasureType)) {
+      ClassSchema schema = configFactory.getSchema(erasureType);
+      CanonicalConstructor constructor =
+          configFactory.getInstanceFactory().getCanonicalConstructor(schema);
+      if (constructor != null)
+        return _denormalizeToConstructor(ctx, (Dictionary) simple, targetType, schema, constructor);
+    }
     Object object = configFactory.getInstanceFactory().newInstance(ctx, erasureType);
     _denormalizeToInstance(ctx, (Dictionary) simple, targetType, object);
     return object;
   }
 
+  private static Object checkAdapterResult(Context ctx, Object result, Class<?> erasureType) {
+    if (result != null
+        && !ComplexTypes.wrapPrimitive(erasureType).isAssignableFrom(result.getClass())) {
+      String msg =
+          String.format(
+              "Adapter returned incompatible type '%s' while the desire is '%s'",
+              result.getClass().getName(), erasureType.getName());
+      throw new IllegalTypeException(ctx, msg);
+    }
+    return result;
+  }
+
   private <T> Object _denormalizeToArray(Context ctx, Type targetType, T simple) throws Exception {
     Type elemType = ComplexTypes.getComponentType(targetType);
     if (elemType == null) return null;
     Class<?> erasureElemType = ComplexTypes.erasure(elemType);
     int len = SimpleTypes.getContainerSize(simple);
     Object object = Array.newInstance(erasureElemType, len);
+    if (parallelTasks != null && parallelTasks.accepts(len)) {
+      parallelTasks.forEach(
+          ctx, len, (c, i) -> _denormalizeElement(c, elemType, simple, object, i));
+      return object;
+    }
     for (int i = 0; i < len; i++) {
-      ctx.enterScope(new ElementScope(i));
-      {
-        Object value = _denormalize(ctx, SimpleTypes.getContainerElement(simple, i), elemType);
-        ctx.enterScope(new ValueScope(value));
-        Array.set(object, i, value);
-        ctx.exitScope();
-      }
-      ctx.exitScope();
+      _denormalizeElement(ctx, elemType, simple, object, i);
     }
     return object;
   }
 
+  private <T> void _denormalizeElement(Context ctx, Type elemType, T simple, Object object, int i)
+      throws Exception {
+    ctx.enterElement(i);
+    {
+      Object value = _denormalize(ctx, SimpleTypes.getContainerElement(simple, i), elemType);
+      ctx.enterValue(value);
+      Array.set(object, i, value);
+      ctx.exitValue();
+    }
+    ctx.exitElement();
+  }
+
   private void _denormalizeToInstance(
       Context ctx, Dictionary simple, Type targetType, Object instance) throws Exception {
-    TypeResolver resolver = TypeResolver.of(targetType);
     ClassSchema schema = configFactory.getSchema(ComplexTypes.erasure(targetType));
-    Set<String> settingsProcessed = new HashSet<>();
+    KeyIndex.Routing routing = schema.keyIndex().route(simple);
+    _denormalizeProperties(ctx, simple, targetType, schema, routing, null, instance, null);
+  }
 
-    for (ClassProperty property : schema.properties()) {
-      if (property.isConstant()) continue;
+  // collects the values of all properties, then creates the instance via the canonical constructor
+  private Object _denormalizeToConstructor(
+      Context ctx,
+      Dictionary simple,
+      Type targetType,
+      ClassSchema schema,
+      CanonicalConstructor constructor)
+      throws Exception {
+    Object[] arguments = constructor.newArguments();
+    KeyIndex.Routing routing = schema.keyIndex().route(simple);
+    _denormalizeProperties(ctx, simple, targetType, schema, routing, null, null, arguments);
+    return constructor.newInstance(arguments);
+  }
 
-      String setting;
-      Object value;
+  // denormalizes the routed settings into either the instance or the arguments of its canonical
+  // constructor; the modes only differ in how the settings are routed
+  // a streamed setting may be complexified already, see _streamProperties
+  private void _denormalizeProperties(
+      Context ctx,
+      Dictionary container,
+      Type targetType,
+      ClassSchema schema,
+      KeyIndex.Routing routing,
+      boolean[] complexified,
+      Object instance,
+      Object[] arguments)
+      throws Exception {
+    TypeResolver resolver = getTypeResolver(targetType);
+    AdapterBindings bindings = schema.adapterBindings(configFactory.getAdapterProvider());
+    // the codec writes primitive properties into the instance without boxing
+    SchemaCodec codec = arguments == null ? configFactory.getCodec(schema) : null;
+    List<ClassProperty> properties = schema.properties();
 
-      // if there is a fallback property at the end, we collect all remaining settings including the
-      // setting of the
-      // fallback property
+    // the key index contains the same properties in the same order except constant and fallback
+    // the fallback property is at the end and collects all remaining settings including its own
+    // setting
+    int routed = 0;
+    for (int i = 0; i < properties.size(); i++) {
+      ClassProperty property = properties.get(i);
+      if (property.isConstant()) continue;
       if (property.isFallback()) {
-        Fallback fallback = property.field().getAnnotation(Fallback.class);
-        Set<String> exclusion;
-        if (fallback.distinctBy() == Fallback.Distinct.NAME) {
-          exclusion = settingsProcessed;
-        } else {
-          exclusion = new HashSet<>();
-          for (String s : settingsProcessed) {
-            ClassProperty cp = schema.property(s);
-            if (cp != null) {
-              exclusion.add(cp.name());
-              exclusion.addAll(cp.aliases());
-            }
-          }
-        }
-        SchemalessDictionary trap = new SchemalessDictionary();
-        for (Map.Entry<String, Object> entry : simple.entrySet()) {
-          if (!exclusion.contains(entry.getKey())) trap.put(entry.getKey(), entry.getValue());
-        }
-        setting = "";
-        value = trap;
+        _denormalizeProperty(
+            ctx,
+            container,
+            resolver,
+            bindings,
+            codec,
+            instance,
+            property,
+            i,
+            "",
+            routing.trap(),
+            arguments,
+            false);
       } else {
-        Map.Entry<String, Object> entry = simple.search(property.name(), property.aliases());
-        setting = entry == null ? "" : entry.getKey();
-        value = entry == null ? null : entry.getValue();
+        _denormalizeProperty(
+            ctx,
+            container,
+            resolver,
+            bindings,
+            codec,
+            instance,
+            property,
+            i,
+            routing.key(routed),
+            routing.value(routed),
+            arguments,
+            complexified != null && complexified[routed]);
+        routed++;
       }
+    }
+  }
 
-      ctx.enterScope(new PropertyScope(property, setting, simple));
-      scope:
-      {
-        Processor processor = property.denormalizer();
+  private void _denormalizeProperty(
+      Context ctx,
+      Dictionary container,
+      TypeResolver resolver,
+      AdapterBindings bindings,
+      SchemaCodec codec,
+      Object instance,
+      ClassProperty property,
+      int index,
+      String setting,
+      Object value,
+      Object[] arguments,
+      boolean complexified)
+      throws Exception {
+    ctx.enterProperty(property, setting, container);
+    scope:
+    {
+      if (codec != null && !complexified && codec.denormalizePrimitive(ctx, index, value, instance))
+        break scope;
+
+      Processor processor = property.denormalizer();
 
-        if (processor != null && processor.strategy() == Denormalizer.Strategy.REPLACE) {
+      if (processor != null && processor.strategy() == Denormalizer.Strategy.REPLACE) {
+        if (processor.invoker() instanceof Processor.VoidDenormalizationInvoker) {
+          ((Processor.VoidDenormalizationInvoker) processor.invoker()).invoke(ctx, instance, value);
+          break scope;
+        }
+        value =
+            ((Processor.DenormalizationInvoker) processor.invoker()).invoke(ctx, instance, value);
+      } else {
+        if (value != null && !complexified) {
+          Type solvedType = resolver.resolve(property.type());
+          Class<?> erasure = bindings.erasure(index);
+          if (erasure == null) value = _denormalize(ctx, value, solvedType);
+          else
+            value =
+                _denormalizeWith(
+                    ctx, value, solvedType, erasure, bindings.denormalizationAdapter(index));
+        }
+
+        if (processor != null && processor.strategy() == Denormalizer.Strategy.AFTER) {
           if (processor.invoker() instanceof Processor.VoidDenormalizationInvoker) {
             ((Processor.VoidDenormalizationInvoker) processor.invoker())
                 .invoke(ctx, instance, value);
@@ -250,52 +516,248 @@ public class ConfigDenormalizer {
           }
           value =
               ((Processor.DenormalizationInvoker) processor.invoker()).invoke(ctx, instance, value);
-        } else {
-          if (value != null) {
-            Type solvedType = resolver.resolve(property.type());
-            value = _denormalize(ctx, value, solvedType);
-          }
-
-          if (processor != null && processor.strategy() == Denormalizer.Strategy.AFTER) {
-            if (processor.invoker() instanceof Processor.VoidDenormalizationInvoker) {
-              ((Processor.VoidDenormalizationInvoker) processor.invoker())
-                  .invoke(ctx, instance, value);
-              break scope;
-            }
-            value =
-                ((Processor.DenormalizationInvoker) processor.invoker())
-                    .invoke(ctx, instance, value);
-          }
         }
+      }
 
-        if (property.isOptional() && value == null) break scope;
+      if (property.isOptional() && value == null) break scope;
 
-        Class<?> propertyTypeErasure = ComplexTypes.erasure(property.type());
+      Class<?> propertyTypeErasure = ComplexTypes.erasure(property.type());
 
-        if (value == null && propertyTypeErasure.isPrimitive()) break scope;
+      if (value == null && propertyTypeErasure.isPrimitive()) break scope;
 
-        if (value != null
-            && !ComplexTypes.wrapPrimitive(propertyTypeErasure).isAssignableFrom(value.getClass()))
-          break scope;
+      if (value != null
+          && !ComplexTypes.wrapPrimitive(propertyTypeErasure).isAssignableFrom(value.getClass()))
+        break scope;
 
-        if (!ctx.getFactory()
-                .getDenormalizer()
-                .getSettings()
-                .contains(SettingFlag.Denormalizer.DISABLE_VALIDATION)
-            && !property.validator().check(value)) {
-          if (property.validator().silent()) break scope;
+      if (validation) {
+        Validator validator = property.validator();
+        int failure = validator.test(value);
+        if (failure != Validator.PASSED) {
+          if (validator.silent()) break scope;
           throw new InvalidValueException(
-              ctx,
-              String.format("Property '%s' %s", property.name(), property.validator().message()));
+              ctx, String.format("Property '%s' %s", property.name(), validator.message(failure)));
         }
+      }
+
+      ctx.enterValue(value);
+      if (arguments != null) arguments[index] = value;
+      else property.accessor().set(instance, value);
+      ctx.exitValue();
+    }
+    ctx.exitProperty();
+  }
 
-        ctx.enterScope(new ValueScope(value));
-        property.field().set(instance, value);
-        ctx.exitScope();
+  // ======== Streaming ========
+
+  private Object _stream(Context ctx, DenormalizationSource source, Type targetType)
+      throws Exception {
+    DenormalizationSource.Kind kind = source.peek();
+    if (kind == DenormalizationSource.Kind.NULL) {
+      source.skipValue();
+      return null;
+    }
+    if (targetType == Object.class) return source.nextValue();
+    if (ComplexTypes.isArray(targetType)) {
+      if (kind == DenormalizationSource.Kind.ARRAY) return _streamToArray(ctx, source, targetType);
+      return _denormalizeToArray(ctx, targetType, source.nextValue());
+    }
+    Class<?> erasureType = ComplexTypes.erasure(targetType);
+    return _streamWith(
+        ctx, source, targetType, erasureType, configFactory.getTypeAdapter(erasureType));
+  }
+
+  // the streaming counterpart of _denormalizeWith, the next value must not be null
+  @SuppressWarnings("rawtypes")
+  private Object _streamWith(
+      Context ctx,
+      DenormalizationSource source,
+      Type targetType,
+      Class<?> erasureType,
+      TypeAdapter adapter)
+      throws Exception {
+    DenormalizationSource.Kind kind = source.peek();
+    if (adapter == IterableAdapter.INSTANCE && kind == DenormalizationSource.Kind.ARRAY) {
+      Type componentType = ComplexTypes.getActualTypeArgument(targetType, 0);
+      if (componentType == null) {
+        source.skipValue();
+        return null;
+      }
+      Object[] elements = new Object[8];
+      int n = 0;
+      source.startArray();
+      while (source.nextElement()) {
+        if (n == elements.length) elements = Arrays.copyOf(elements, n << 1);
+        elements[n++] = _stream(ctx, source, componentType);
       }
-      ctx.exitScope();
+      Object result = IterableAdapter.INSTANCE.collect(erasureType, Arrays.copyOf(elements, n));
+      return checkAdapterResult(ctx, result, erasureType);
+    }
+    if (adapter != null && !(adapter instanceof TypeInferencer)) {
+      return _denormalizeWith(ctx, source.nextValue(), targetType, erasureType, adapter);
+    }
+    if (kind != DenormalizationSource.Kind.DICTIONARY) {
+      source.skipValue();
+      return null;
+    }
+    ClassSchema schema = configFactory.getSchema(erasureType);
+    if (settings.contains(SettingFlag.Denormalizer.PREFER_CANONICAL_CONSTRUCTOR)
+        && ComplexTypes.isInstantiable(erasureType)) {
+      CanonicalConstructor constructor =
+          configFactory.getInstanceFactory().getCanonicalConstructor(schema);
+      if (constructor != null) {
+        Object[] arguments = constructor.newArguments();
+        _streamProperties(ctx, source, targetType, schema, null, arguments);
+        return constructor.newInstance(arguments);
+      }
+    }
+    Object object = configFactory.getInstanceFactory().newInstance(ctx, erasureType);
+    _streamProperties(ctx, source, targetType, schema, object, null);
+    return object;
+  }
 
-      settingsProcessed.add(setting);
+  private Object _streamToArray(Context ctx, DenormalizationSource source, Type targetType)
+      throws Exception {
+    Type elemType = ComplexTypes.getComponentType(targetType);
+    if (elemType == null) {
+      source.skipValue();
+      return null;
     }
+    Class<?> erasureElemType = ComplexTypes.erasure(elemType);
+    Object object = Array.newInstance(erasureElemType, 8);
+    int n = 0;
+    source.startArray();
+    while (source.nextElement()) {
+      if (n == Array.getLength(object)) object = copyOf(object, erasureElemType, n, n << 1);
+      ctx.enterElement(n);
+      {
+        Object value = _stream(ctx, source, elemType);
+        ctx.enterValue(value);
+        Array.set(object, n++, value);
+        ctx.exitValue();
+      }
+      ctx.exitElement();
+    }
+    return n == Array.getLength(object) ? object : copyOf(object, erasureElemType, n, n);
+  }
+
+  private static Object copyOf(Object array, Class<?> componentType, int length, int newLength) {
+    Object copy = Array.newInstance(componentType, newLength);
+    System.arraycopy(array, 0, copy, 0, length);
+    return copy;
+  }
+
+  // routes the entries of the streamed dictionary like KeyIndex#route, the values which are not
+  // needed as simple objects are complexified while streaming
+  private void _streamProperties(
+      Context ctx,
+      DenormalizationSource source,
+      Type targetType,
+      ClassSchema schema,
+      Object instance,
+      Object[] arguments)
+      throws Exception {
+    TypeResolver resolver = getTypeResolver(targetType);
+    AdapterBindings bindings = schema.adapterBindings(configFactory.getAdapterProvider());
+    KeyIndex index = schema.keyIndex();
+    List<ClassProperty> indexed = index.properties();
+    int size = indexed.size();
+    String[] keys = new String[size];
+    Object[] values = new Object[size];
+    int[] ranks = new int[size];
+    boolean[] complexified = new boolean[size];
+    Dictionary trap = index.fallback() == null ? null : new SchemalessDictionary();
+    // entries of aliased properties are caught in order; the winning entry is released later
+    boolean catchAliased = trap != null && index.isDistinctByName();
+    // a name shared by several properties may not be matched to the expected property only
+    boolean shared = index.hasSharedNames();
+
+    source.startDictionary();
+    int expected = 0;
+    String key;
+    while ((key = source.nextKey()) != null) {
+      if (source.peek() == DenormalizationSource.Kind.NULL) {
+        source.skipValue();
+        continue;
+      }
+
+      int property;
+      int rank;
+      if (!shared && expected < size && key.equals(indexed.get(expected).name())) {
+        property = expected;
+        rank = 0;
+      } else {
+        KeyIndex.Slot slot = index.slot(key);
+        if (slot == null) {
+          if (trap != null) trap.put(key, source.nextValue());
+          else source.skipValue();
+          continue;
+        }
+        if (slot.next() != null) {
+          // a shared name is matched to each property independently and denormalized later
+          Object value = source.nextValue();
+          if (catchAliased) trap.put(key, value);
+          for (; slot != null; slot = slot.next()) {
+            int i = slot.property();
+            if (keys[i] != null && ranks[i] < slot.rank()) continue;
+            keys[i] = key;
+            ranks[i] = slot.rank();
+            values[i] = value;
+            complexified[i] = false;
+          }
+          continue;
+        }
+        property = slot.property();
+        rank = slot.rank();
+      }
+      expected = property + 1;
+
+      if (keys[property] != null && ranks[property] != rank) {
+        // the name of higher priority wins, see KeyIndex#route
+        if (ranks[property] < rank) {
+          if (catchAliased) trap.put(key, source.nextValue());
+          else source.skipValue();
+          continue;
+        }
+      }
+      keys[property] = key;
+      ranks[property] = rank;
+
+      ClassProperty prop = indexed.get(property);
+      Processor processor = prop.denormalizer();
+      // an alias may still lose to a name of higher priority, so it is denormalized at the end
+      if ((processor != null && processor.strategy() == Denormalizer.Strategy.REPLACE)
+          || rank > 0
+          || (catchAliased && !prop.aliases().isEmpty())) {
+        values[property] = source.nextValue();
+        complexified[property] = false;
+        if (catchAliased && !prop.aliases().isEmpty()) trap.put(key, values[property]);
+        continue;
+      }
+
+      int position = index.position(property);
+      ctx.enterProperty(prop, key, null);
+      {
+        Type solvedType = resolver.resolve(prop.type());
+        Class<?> erasure = bindings.erasure(position);
+        if (erasure == null) values[property] = _stream(ctx, source, solvedType);
+        else
+          values[property] =
+              _streamWith(
+                  ctx, source, solvedType, erasure, bindings.denormalizationAdapter(position));
+        complexified[property] = true;
+      }
+      ctx.exitProperty();
+    }
+
+    if (catchAliased) {
+      for (int i = 0; i < size; i++) {
+        if (keys[i] != null && (shared || !indexed.get(i).aliases().isEmpty()))
+          trap.remove(keys[i]);
+      }
+    }
+
+    KeyIndex.Routing routing = KeyIndex.Routing.of(keys, values, trap);
+    _denormalizeProperties(
+        ctx, null, targetType, schema, routing, complexified, instance, arguments);
   }
 }
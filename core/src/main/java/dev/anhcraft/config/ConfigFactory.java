@@ -1,20 +1,25 @@
 package dev.anhcraft.config;
 
 import dev.anhcraft.config.adapter.AdapterProvider;
-import dev.anhcraft.config.adapter.CacheableAdapterProvider;
-import dev.anhcraft.config.adapter.SimpleAdapterProvider;
+import dev.anhcraft.config.adapter.ClassValueAdapterProvider;
 import dev.anhcraft.config.adapter.TypeAdapter;
 import dev.anhcraft.config.adapter.defaults.*;
 import dev.anhcraft.config.blueprint.ClassSchema;
 import dev.anhcraft.config.blueprint.ReflectSchemaScanner;
 import dev.anhcraft.config.blueprint.Schema;
+import dev.anhcraft.config.blueprint.SchemaIndex;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.context.ContextProvider;
+import dev.anhcraft.config.util.BoundedCache;
 import dev.anhcraft.config.validate.ValidationRegistry;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import org.jetbrains.annotations.NotNull;
@@ -30,15 +35,41 @@ public final class ConfigFactory {
   private final ContextProvider contextProvider;
   private final AdapterProvider adapterProvider;
   private final InstanceFactory instanceFactory;
+  private final CodecTier codecTier;
 
   ConfigFactory(Builder builder) {
     this.schemaScanner =
         new ReflectSchemaScanner(
-            builder.namingPolicy, builder.validationRegistry, builder.schemaCacheProvider);
-    this.normalizer = new ConfigNormalizer(this, builder.normalizerSettings);
-    this.denormalizer = new ConfigDenormalizer(this, builder.denormalizerSettings);
+            builder.namingPolicy,
+            builder.validationRegistry,
+            builder.schemaCacheProvider,
+            builder.schemaIndex);
+    this.normalizer =
+        new ConfigNormalizer(
+            this,
+            builder.normalizerSettings,
+            builder.parallelNormalizationThreshold < 0
+                ? null
+                : new ParallelTasks(
+                    builder.parallelNormalizationExecutor,
+                    builder.parallelNormalizationThreshold,
+                    false));
+    this.denormalizer =
+        new ConfigDenormalizer(
+            this,
+            builder.denormalizerSettings,
+            builder.parallelDenormalizationThreshold < 0
+                ? null
+                : new ParallelTasks(
+                    builder.parallelDenormalizationExecutor,
+                    builder.parallelDenormalizationThreshold,
+                    builder.denormalizerSettings.contains(
+                        SettingFlag.Denormalizer.COLLECT_PARALLEL_ERRORS)));
     this.contextProvider = builder.contextProvider;
-    this.instanceFactory = new InstanceFactory(builder.instanceAssemblers);
+    this.instanceFactory =
+        new InstanceFactory(builder.instanceAssemblers, builder.instanceCacheSize);
+    this.codecTier =
+        builder.codecThreshold < 0 ? null : new CodecTier(this, builder.codecThreshold);
     try {
       this.adapterProvider =
           builder
@@ -65,6 +96,14 @@ public final class ConfigFactory {
     return adapterProvider.getTypeAdapter(type);
   }
 
+  /**
+   * Gets the type adapter provider.
+   * @return the adapter provider
+   */
+  @NotNull public AdapterProvider getAdapterProvider() {
+    return adapterProvider;
+  }
+
   /**
    * Creates a new generic context.
    * @return a new context
@@ -83,6 +122,66 @@ public final class ConfigFactory {
     return schemaScanner.getOrScanSchema(type);
   }
 
+  /**
+   * Warms up the given classes and every class reachable from them.<br>
+   * This method performs the lazy work which is otherwise done on the first normalization or denormalization: scanning
+   * schemas, resolving effective properties, type adapters and instance assemblers. The type graph is followed through
+   * superclasses, property types, generic arguments and array components. The work is done in parallel on the common
+   * {@link ForkJoinPool}, and this method blocks until it completes.
+   * @param roots the root classes
+   * @throws dev.anhcraft.config.error.SchemaCreationException if a schema cannot be created
+   * @see #prewarmAsync(ForkJoinPool, Class[])
+   */
+  public void prewarm(@NotNull Class<?>... roots) {
+    ForkJoinPool.commonPool().invoke(new SchemaPrewarmer(this).task(roots));
+  }
+
+  /**
+   * Warms up the given classes and every class reachable from them asynchronously on the common
+   * {@link ForkJoinPool}.
+   * @param roots the root classes
+   * @return a future completed once every reachable class is warmed up
+   * @see #prewarm(Class[])
+   */
+  @NotNull public CompletableFuture<Void> prewarmAsync(@NotNull Class<?>... roots) {
+    return prewarmAsync(ForkJoinPool.commonPool(), roots);
+  }
+
+  /**
+   * Warms up the given classes and every class reachable from them asynchronously.
+   * @param pool the pool to run on
+   * @param roots the root classes
+   * @return a future completed once every reachable class is warmed up
+   * @see #prewarm(Class[])
+   */
+  @NotNull public CompletableFuture<Void> prewarmAsync(
+      @NotNull ForkJoinPool pool, @NotNull Class<?>... roots) {
+    ForkJoinTask<Void> task = new SchemaPrewarmer(this).task(roots);
+    return CompletableFuture.runAsync(() -> pool.invoke(task), pool);
+  }
+
+  /**
+   * Explains the codec compiled from the schema of the given type.<br>
+   * The result lists the normalization and denormalization steps in order, including the processor strategy, the type
+   * adapter and the validator decided for each property. This method compiles a new codec for inspection only, and
+   * does not affect codec compilation of this factory.
+   * @param type the type
+   * @return the explanation
+   * @see Builder#useCodecCompilation(int)
+   */
+  @NotNull public String explainCodec(@NotNull Class<?> type) {
+    return SchemaCodec.compile(this, getSchema(type)).explain(this);
+  }
+
+  /**
+   * Records an invocation of the given schema and gets its compiled codec if any.
+   * @param schema the schema
+   * @return the codec or {@code null} if codec compilation is disabled or not yet triggered
+   */
+  @Nullable SchemaCodec getCodec(@NotNull ClassSchema schema) {
+    return codecTier == null ? null : codecTier.get(schema);
+  }
+
   /**
    * Gets the normalizer.
    * @return the normalizer
@@ -121,7 +220,7 @@ public final class ConfigFactory {
    * <ul>
    *   <li>Type adapters: Java primitives and wrappers of primitives, String, Dictionary, Iterable, Map, Enum, UUID, URI, URL</li>
    *   <li>Default naming policy</li>
-   *   <li>{@link CacheableAdapterProvider}</li>
+   *   <li>{@link ClassValueAdapterProvider}</li>
    *   <li>Normalizer settings: {@link SettingFlag.Normalizer#IGNORE_DEFAULT_VALUES}</li>
    * </ul>
    */
@@ -132,19 +231,19 @@ public final class ConfigFactory {
     private ValidationRegistry validationRegistry = ValidationRegistry.DEFAULT;
     private UnaryOperator<String> namingPolicy = NamingPolicy.DEFAULT;
     private ContextProvider contextProvider = new ContextProvider() {};
-    private Supplier<Map<Class<?>, Schema<?>>> schemaCacheProvider =
-        () ->
-            new LinkedHashMap<>() {
-              @Override
-              protected boolean removeEldestEntry(Map.Entry eldest) {
-                return size() > 100;
-              }
-            };
-    private Class<? extends AdapterProvider> adapterProvider = CacheableAdapterProvider.class;
+    private Supplier<Map<Class<?>, Schema<?>>> schemaCacheProvider = () -> new BoundedCache<>(100);
+    private int instanceCacheSize = 100;
+    private SchemaIndex schemaIndex;
+    private Class<? extends AdapterProvider> adapterProvider = ClassValueAdapterProvider.class;
     private Set<SettingFlag.Normalizer> normalizerSettings =
         EnumSet.of(SettingFlag.Normalizer.IGNORE_DEFAULT_VALUES);
     private Set<SettingFlag.Denormalizer> denormalizerSettings =
         EnumSet.noneOf(SettingFlag.Denormalizer.class);
+    private int codecThreshold = -1;
+    private int parallelNormalizationThreshold = -1;
+    private Executor parallelNormalizationExecutor;
+    private int parallelDenormalizationThreshold = -1;
+    private Executor parallelDenormalizationExecutor;
 
     public Builder() {
       typeAdapters.put(Byte.class, ByteAdapter.INSTANCE);
@@ -209,7 +308,7 @@ public final class ConfigFactory {
 
     /**
      * Uses the given type adapter provider.<br>
-     * By default, uses {@link SimpleAdapterProvider}.
+     * By default, uses {@link ClassValueAdapterProvider}.
      * @param provider the type adapter provider
      * @return this
      */
@@ -253,16 +352,141 @@ public final class ConfigFactory {
 
     /**
      * Sets the schema cache provider.<br>
-     * By default, the schema cache is a {@link LinkedHashMap} with a capacity of 100 classes.<br>
-     * It is possible to provide custom map implementation such as a map view from Guava Cache.
+     * By default, the schema cache is a {@link BoundedCache} with a capacity of 100 classes.<br>
+     * It is possible to provide custom map implementation such as a map view from Guava Cache. The map does not need to
+     * be thread-safe, accesses are synchronized unless it is a {@link BoundedCache}.
      * @param provider the schema cache
      * @return this
+     * @see #limitSchemaCache(int)
      */
     public @NotNull Builder provideSchemaCache(@NotNull SchemaCacheProvider provider) {
       schemaCacheProvider = provider;
       return this;
     }
 
+    /**
+     * Uses a {@link BoundedCache} with the given capacity as the schema cache.<br>
+     * By default, the capacity is 100 classes.
+     * @param size the maximum number of cached schemas
+     * @return this
+     */
+    public @NotNull Builder limitSchemaCache(int size) {
+      if (size <= 0) throw new IllegalArgumentException("size must be positive");
+      schemaCacheProvider = () -> new BoundedCache<>(size);
+      return this;
+    }
+
+    /**
+     * Uses the given schema index.<br>
+     * Scan results are restored from the index for unchanged classes, and recorded into it otherwise. The index should
+     * be saved before shutdown to be reused on the next start. By default, no index is used.
+     * @param index the schema index
+     * @return this
+     * @see SchemaIndex#load(java.nio.file.Path)
+     */
+    public @NotNull Builder useSchemaIndex(@NotNull SchemaIndex index) {
+      schemaIndex = index;
+      return this;
+    }
+
+    /**
+     * Sets the capacity of the cache of instance assemblers created on demand.<br>
+     * By default, the capacity is 100 classes.
+     * @param size the maximum number of cached instance assemblers
+     * @return this
+     * @see InstanceFactory#getInstanceAssembler(Class)
+     */
+    public @NotNull Builder limitInstanceAssemblerCache(int size) {
+      if (size <= 0) throw new IllegalArgumentException("size must be positive");
+      instanceCacheSize = size;
+      return this;
+    }
+
+    /**
+     * Enables codec compilation.<br>
+     * By default, every class is normalized and denormalized by interpreting its schema. With codec compilation, a
+     * class schema is compiled into a dedicated codec once it has been used {@code threshold} times, and the codec is
+     * used afterward. The compiled steps of a class can be inspected via {@link ConfigFactory#explainCodec(Class)}.<br>
+     * Properties of type {@code int}, {@code long}, {@code double} and {@code boolean} are only processed without
+     * boxing in compiled codecs. Until a class is compiled, or if codec compilation is disabled, their values are
+     * boxed to be passed through {@link dev.anhcraft.config.blueprint.PropertyAccessor#get(Object)},
+     * {@link dev.anhcraft.config.blueprint.PropertyAccessor#set(Object, Object)} and type adapters.
+     * @param threshold the number of invocations before compiling, {@code 0} to compile on first use
+     * @return this
+     */
+    public @NotNull Builder useCodecCompilation(int threshold) {
+      if (threshold < 0) throw new IllegalArgumentException("threshold cannot be negative");
+      codecThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * Enables parallel normalization on the common {@link ForkJoinPool}.
+     * @param threshold the minimum number of elements to normalize in parallel
+     * @return this
+     * @see #useParallelNormalization(int, Executor)
+     */
+    public @NotNull Builder useParallelNormalization(int threshold) {
+      return useParallelNormalization(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Enables parallel normalization.<br>
+     * By default, normalization runs on the calling thread only. With parallel normalization, arrays, iterables and
+     * maps having at least {@code threshold} elements are split into tasks. Each task normalizes a range of elements
+     * with a context forked from the current one, see {@link Context#fork()}. The output is the same as sequential
+     * normalization including the order of elements, and if multiple elements fail, the exception of the first one is
+     * thrown.<br>
+     * A {@link ForkJoinPool} is recommended as nested containers are split recursively on the same pool. With another
+     * executor, the calling thread takes part in the work and only waits for ranges already started by the executor,
+     * so it may itself be a worker of the executor, and nested containers are processed on the thread of the enclosing
+     * task.<br>
+     * Type adapters, processors and injectors involved must be thread-safe.
+     * @param threshold the minimum number of elements to normalize in parallel
+     * @param executor the executor to run on
+     * @return this
+     */
+    public @NotNull Builder useParallelNormalization(int threshold, @NotNull Executor executor) {
+      if (threshold < 2) throw new IllegalArgumentException("threshold must be at least 2");
+      parallelNormalizationThreshold = threshold;
+      parallelNormalizationExecutor = executor;
+      return this;
+    }
+
+    /**
+     * Enables parallel denormalization on the common {@link ForkJoinPool}.
+     * @param threshold the minimum number of elements to denormalize in parallel
+     * @return this
+     * @see #useParallelDenormalization(int, Executor)
+     */
+    public @NotNull Builder useParallelDenormalization(int threshold) {
+      return useParallelDenormalization(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Enables parallel denormalization.<br>
+     * By default, denormalization runs on the calling thread only. With parallel denormalization, arrays, collections
+     * and maps having at least {@code threshold} elements are split into tasks. Each task denormalizes a range of
+     * elements with a context forked from the current one, see {@link Context#fork()}. The output is the same as
+     * sequential denormalization including the order of elements. By default, the exception of the first failed
+     * element is thrown as soon as possible, see {@link SettingFlag.Denormalizer#COLLECT_PARALLEL_ERRORS} to collect
+     * all of them instead.<br>
+     * A {@link ForkJoinPool} is recommended as nested containers are split recursively on the same pool. With another
+     * executor, the calling thread takes part in the work and only waits for ranges already started by the executor,
+     * so it may itself be a worker of the executor, and nested containers are processed on the thread of the enclosing
+     * task.<br>
+     * Type adapters, processors, validators, instance assemblers and injectors involved must be thread-safe.
+     * @param threshold the minimum number of elements to denormalize in parallel
+     * @param executor the executor to run on
+     * @return this
+     */
+    public @NotNull Builder useParallelDenormalization(int threshold, @NotNull Executor executor) {
+      if (threshold < 2) throw new IllegalArgumentException("threshold must be at least 2");
+      parallelDenormalizationThreshold = threshold;
+      parallelDenormalizationExecutor = executor;
+      return this;
+    }
+
     /**
      * Enables setting flags for the normalizer.
      * @param flags a list of setting flags
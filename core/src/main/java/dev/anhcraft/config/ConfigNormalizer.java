@@ -4,16 +4,16 @@ import dev.anhcraft.config.adapter.TypeAdapter;
 import dev.anhcraft.config.adapter.TypeAnnotator;
 import dev.anhcraft.config.blueprint.*;
 import dev.anhcraft.config.context.Context;
-import dev.anhcraft.config.context.ElementScope;
-import dev.anhcraft.config.context.PropertyScope;
-import dev.anhcraft.config.context.ValueScope;
 import dev.anhcraft.config.error.IllegalTypeException;
 import dev.anhcraft.config.meta.Normalizer;
 import dev.anhcraft.config.type.ComplexTypes;
 import dev.anhcraft.config.type.SimpleTypes;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,21 +31,42 @@ import org.jetbrains.annotations.Nullable;
  * the normalization process. Failing to normalize an object will result in {@code null}.<br>
  * It is possible to hide certain data by specifying the superclass as the target type. This results in implicit
  * creation of the schema of the superclass. The result hides the details of the actual class and only contains the
- * information from the superclass up to the root of class hierarchy.
+ * information from the superclass up to the root of class hierarchy.<br>
+ * Large arrays and containers can be normalized in parallel, see
+ * {@link ConfigFactory.Builder#useParallelNormalization(int)}. An object can also be streamed into a
+ * {@link NormalizationSink} without building the simple object, see
+ * {@link #normalize(Context, Class, Object, NormalizationSink)}.
  * @see SimpleTypes#test(Object)
  * @see TypeAdapter
  */
 public final class ConfigNormalizer {
   private final ConfigFactory configFactory;
   private final Set<SettingFlag.Normalizer> settings;
+  private final boolean deepClone;
+  private final boolean ignoreDefaultValues;
+  private final boolean ignoreEmptyArray;
+  private final boolean ignoreEmptyDictionary;
+  private final ParallelTasks parallelTasks;
 
   /**
    * Use {@link ConfigFactory#getNormalizer()}
    */
   @ApiStatus.Internal
   public ConfigNormalizer(ConfigFactory configFactory, Set<SettingFlag.Normalizer> settings) {
+    this(configFactory, settings, null);
+  }
+
+  ConfigNormalizer(
+      ConfigFactory configFactory,
+      Set<SettingFlag.Normalizer> settings,
+      @Nullable ParallelTasks parallelTasks) {
     this.configFactory = configFactory;
+    this.parallelTasks = parallelTasks;
     this.settings = Collections.unmodifiableSet(settings);
+    this.deepClone = settings.contains(SettingFlag.Normalizer.DEEP_CLONE);
+    this.ignoreDefaultValues = settings.contains(SettingFlag.Normalizer.IGNORE_DEFAULT_VALUES);
+    this.ignoreEmptyArray = settings.contains(SettingFlag.Normalizer.IGNORE_EMPTY_ARRAY);
+    this.ignoreEmptyDictionary = settings.contains(SettingFlag.Normalizer.IGNORE_EMPTY_DICTIONARY);
   }
 
   private Context createContext() {
@@ -160,9 +181,140 @@ public final class ConfigNormalizer {
     _dynamicNormalize(ctx, type, complex, dictionary);
   }
 
+  /**
+   * Normalizes the given complex object into the given sink.<br>
+   * This creates a new {@link Context} to facilitate recursive calls.
+   * @param complex the complex object
+   * @param sink the sink
+   * @param <T> the type of the complex object
+   * @throws Exception may throw exceptions during normalization
+   * @see #normalize(Context, Class, Object, NormalizationSink)
+   */
+  public <T> void normalize(@NotNull T complex, @NotNull NormalizationSink sink) throws Exception {
+    //noinspection unchecked
+    normalize(createContext(), (Class<T>) complex.getClass(), complex, sink);
+  }
+
+  /**
+   * Normalizes the given complex object into the given sink.<br>
+   * This streams the same simple object as {@link #normalize(Context, Class, Object)} without building it: the schema
+   * is walked and the properties are written to the sink as they are normalized, so no {@link Dictionary} is created
+   * except by type adapters and processors. The setting flags, processors and type adapters are applied the same way,
+   * with the following differences:
+   * <ul>
+   *   <li>{@link SettingFlag.Normalizer#DEEP_CLONE} has no effect since nothing is kept</li>
+   *   <li>The container of {@link dev.anhcraft.config.context.PropertyScope} is {@code null}</li>
+   *   <li>{@link dev.anhcraft.config.context.ValueScope} is only entered for values which are simple as a whole, i.e.
+   *   not for nested objects and arrays which are streamed</li>
+   *   <li>The normalization is always sequential</li>
+   * </ul>
+   * @param ctx the {@link Context} to use
+   * @param type the class or superclass of the complex object
+   * @param complex the complex object
+   * @param sink the sink
+   * @param <S> the type or supertype of the complex object
+   * @param <T> the type of the complex object
+   * @throws Exception may throw exceptions during normalization
+   * @see NormalizationSink
+   */
+  public <S, T extends S> void normalize(
+      @NotNull Context ctx,
+      @NotNull Class<S> type,
+      @NotNull T complex,
+      @NotNull NormalizationSink sink)
+      throws Exception {
+    validateType(ctx, type, complex);
+    _stream(ctx, type, complex, new Stream(sink), false);
+  }
+
+  /**
+   * Normalizes the given complex objects of the same type.<br>
+   * This is equivalent to calling {@link #normalize(Context, Class, Object)} for each object, but the type adapter of
+   * {@code type} is resolved once and one {@link Context} is created for the whole batch. If parallel normalization is
+   * enabled and the number of objects reaches the threshold, the objects are normalized in parallel. The batch stops
+   * at the first object which fails.
+   * @param type the class or superclass of the complex objects
+   * @param complexes the complex objects
+   * @return the simple objects in the same order, {@code null} for a {@code null} object or an object that cannot be
+   * normalized
+   * @param <S> the type or supertype of the complex objects
+   * @param <T> the type of the complex objects
+   * @throws Exception may throw exceptions during normalization
+   * @see #normalizeAll(Class, Iterable, ObjIntConsumer)
+   */
+  public <S, T extends S> @NotNull List<Object> normalizeAll(
+      @NotNull Class<S> type, @NotNull Iterable<T> complexes) throws Exception {
+    return normalizeAll(type, complexes, null);
+  }
+
+  /**
+   * Normalizes the given complex objects of the same type with per-object error isolation.<br>
+   * This is the same as {@link #normalizeAll(Class, Iterable)}, except that an object which fails results in
+   * {@code null} without affecting the others. Once the whole batch completes, the error handler is called on the
+   * current thread with the exception and the index of each failed object, in order. The error handler may rethrow
+   * the exception to abort the batch.
+   * @param type the class or superclass of the complex objects
+   * @param complexes the complex objects
+   * @param errorHandler the error handler or {@code null} to stop at the first failed object
+   * @return the simple objects in the same order, {@code null} for a {@code null} object or an object that cannot be
+   * normalized or fails
+   * @param <S> the type or supertype of the complex objects
+   * @param <T> the type of the complex objects
+   * @throws Exception may throw exceptions during normalization
+   */
+  public <S, T extends S> @NotNull List<Object> normalizeAll(
+      @NotNull Class<S> type,
+      @NotNull Iterable<T> complexes,
+      @Nullable ObjIntConsumer<Exception> errorHandler)
+      throws Exception {
+    TypeAdapter<S> adapter = type.isArray() ? null : configFactory.getTypeAdapter(type);
+    Object[] results =
+        Batch.run(
+            this::createContext,
+            parallelTasks,
+            Batch.toArray(complexes),
+            (ctx, complex) -> {
+              if (complex == null) return null;
+              if (complex.getClass() != type) validateType(ctx, type, complex);
+              if (type.isArray() || SimpleTypes.test(complex))
+                return _normalize(ctx, type, complex);
+              return _normalizeWith(ctx, type, complex, adapter);
+            },
+            errorHandler);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Simplifies the given values independently using {@link Context#simplify(Context, Class, Object)}.<br>
+   * This is intended for type adapters of containers. If parallel normalization is enabled and the number of values
+   * reaches the threshold, the values are simplified in parallel, each task with a context forked from the given one.
+   * In any case, the i-th result corresponds to the i-th value. A {@code null} value results in {@code null}.
+   * @param ctx the {@link Context} to use
+   * @param values the values
+   * @return the simple values
+   * @throws Exception may throw exceptions during normalization
+   * @see ConfigFactory.Builder#useParallelNormalization(int)
+   */
+  public @Nullable Object @NotNull [] simplifyAll(
+      @NotNull Context ctx, @Nullable Object @NotNull [] values) throws Exception {
+    Object[] result = new Object[values.length];
+    if (parallelTasks != null && parallelTasks.accepts(values.length)) {
+      parallelTasks.forEach(ctx, values.length, (c, i) -> result[i] = simplify(c, values[i]));
+      return result;
+    }
+    for (int i = 0; i < values.length; i++) {
+      result[i] = simplify(ctx, values[i]);
+    }
+    return result;
+  }
+
+  private static Object simplify(Context ctx, Object value) throws Exception {
+    return value == null ? null : ctx.simplify(ctx, value.getClass(), value);
+  }
+
   // ======== Internal implementations ========
 
-  private <S, T extends S> void validateType(Context ctx, Class<S> type, T complex) {
+  private void validateType(Context ctx, Class<?> type, Object complex) {
     if (!type.isAssignableFrom(complex.getClass()))
       throw new IllegalTypeException(
           ctx,
@@ -170,53 +322,72 @@ public final class ConfigNormalizer {
               "%s is not assignable from %s", type.getName(), complex.getClass().getName()));
   }
 
-  @SuppressWarnings({"rawtypes", "unchecked"}) // generic sucks
-  private Object _normalize(Context ctx, Class<?> type, Object complex) throws Exception {
+  Object _normalize(Context ctx, Class<?> type, Object complex) throws Exception {
     if (SimpleTypes.test(complex)) {
-      if (settings.contains(SettingFlag.Normalizer.DEEP_CLONE))
-        return SimpleTypes.deepClone(complex);
+      if (deepClone) return SimpleTypes.deepClone(complex);
       return complex;
     }
     if (type.isArray()) {
       return _normalizeArray(ctx, complex);
     }
-    TypeAdapter adapter = configFactory.getTypeAdapter(type);
+    return _normalizeWith(ctx, type, complex, configFactory.getTypeAdapter(type));
+  }
+
+  // normalizes a non-simple, non-array object with the adapter already looked up for its type
+  @SuppressWarnings({"rawtypes", "unchecked"}) // generic sucks
+  private Object _normalizeWith(Context ctx, Class<?> type, Object complex, TypeAdapter adapter)
+      throws Exception {
     if (adapter != null && !(adapter instanceof TypeAnnotator)) {
-      Object result = adapter.simplify(ctx, type, complex);
-      if (!SimpleTypes.test(result)) {
-        String msg =
-            String.format("Adapter returned invalid simple type '%s'", result.getClass().getName());
-        throw new IllegalTypeException(ctx, msg);
-      }
-      return result;
+      return _simplifyWith(ctx, type, complex, adapter);
     }
     Dictionary container = new SchemalessDictionary();
     _dynamicNormalize(ctx, type, complex, container);
     return container;
   }
 
+  @SuppressWarnings({"rawtypes", "unchecked"}) // generic sucks
+  private Object _simplifyWith(Context ctx, Class<?> type, Object complex, TypeAdapter adapter)
+      throws Exception {
+    Object result = adapter.simplify(ctx, type, complex);
+    if (!SimpleTypes.test(result)) {
+      String msg =
+          String.format("Adapter returned invalid simple type '%s'", result.getClass().getName());
+      throw new IllegalTypeException(ctx, msg);
+    }
+    return result;
+  }
+
   private Object _normalizeArray(Context ctx, Object complex) throws Exception {
     int n = Array.getLength(complex);
     Object[] result = new Object[n];
+    if (parallelTasks != null && parallelTasks.accepts(n)) {
+      parallelTasks.forEach(ctx, n, (c, i) -> _normalizeElement(c, complex, result, i));
+      return result;
+    }
     for (int i = 0; i < n; i++) {
-      ctx.enterScope(new ElementScope(i));
-      {
-        Object elem = Array.get(complex, i);
-        Class<?> clazz = elem == null ? Object.class : elem.getClass();
-        Object value = _normalize(ctx, clazz, elem);
-        ctx.enterScope(new ValueScope(value));
-        result[i] = value;
-        ctx.exitScope();
-      }
-      ctx.exitScope();
+      _normalizeElement(ctx, complex, result, i);
     }
     return result;
   }
 
+  private void _normalizeElement(Context ctx, Object complex, Object[] result, int i)
+      throws Exception {
+    ctx.enterElement(i);
+    {
+      Object elem = Array.get(complex, i);
+      Class<?> clazz = elem == null ? Object.class : elem.getClass();
+      Object value = _normalize(ctx, clazz, elem);
+      ctx.enterValue(value);
+      result[i] = value;
+      ctx.exitValue();
+    }
+    ctx.exitElement();
+  }
+
   private void _dynamicNormalize(Context ctx, Class<?> type, Object complex, Dictionary container)
       throws Exception {
     if (complex instanceof Dictionary) {
-      if (settings.contains(SettingFlag.Normalizer.DEEP_CLONE)) { // TODO reduce allocations
+      if (deepClone) { // TODO reduce allocations
         container.putAll(SimpleTypes.deepClone((Dictionary) complex));
       } else {
         container.putAll((Dictionary) complex);
@@ -224,11 +395,24 @@ public final class ConfigNormalizer {
       return;
     }
 
-    ClassSchema schema = ctx.getFactory().getSchema(type);
-    for (ClassProperty property : schema.properties()) {
+    _normalizeProperties(ctx, ctx.getFactory().getSchema(type), complex, container, null);
+  }
+
+  // normalizes the properties into either the container or the stream; the modes only differ in
+  // how nested objects and arrays are written
+  @SuppressWarnings("rawtypes")
+  private void _normalizeProperties(
+      Context ctx, ClassSchema schema, Object complex, Dictionary container, Stream out)
+      throws Exception {
+    // the codec reads primitive properties without boxing ignored default values
+    SchemaCodec codec = configFactory.getCodec(schema);
+    List<ClassProperty> properties = schema.properties();
+    AdapterBindings bindings = schema.adapterBindings(configFactory.getAdapterProvider());
+    for (int i = 0; i < properties.size(); i++) {
+      ClassProperty property = properties.get(i);
       if (property.isTransient()) continue;
 
-      ctx.enterScope(new PropertyScope(property, property.name(), container));
+      ctx.enterProperty(property, property.name(), container);
       scope:
       {
         Object value;
@@ -243,31 +427,172 @@ public final class ConfigNormalizer {
             throw new IllegalTypeException(ctx, msg);
           }
         } else {
-          if (processor != null && processor.strategy() == Normalizer.Strategy.BEFORE)
+          Class<?> exactType = null;
+          if (processor != null && processor.strategy() == Normalizer.Strategy.BEFORE) {
             value = ((Processor.NormalizationInvoker) processor.invoker()).invoke(ctx, complex);
-          else value = property.field().get(complex);
+          } else if (codec != null && codec.normalizesPrimitive(i)) {
+            value = codec.normalizePrimitive(i, complex);
+            if (value == null) break scope; // the default value is ignored
+          } else {
+            value = property.accessor().get(complex);
+            exactType = bindings.exactType(i);
+          }
 
-          if (value != null) value = _normalize(ctx, value.getClass(), value);
+          if (value != null && !SimpleTypes.test(value)) {
+            Class<?> valueType = exactType == null ? value.getClass() : exactType;
+            TypeAdapter adapter = null;
+            if (exactType != null) adapter = bindings.normalizationAdapter(i);
+            else if (!valueType.isArray()) adapter = configFactory.getTypeAdapter(valueType);
+
+            if (out == null) {
+              if (valueType.isArray()) value = _normalizeArray(ctx, value);
+              else value = _normalizeWith(ctx, valueType, value, adapter);
+            } else if (adapter != null && !(adapter instanceof TypeAnnotator)) {
+              value = _simplifyWith(ctx, valueType, value, adapter);
+            } else if (valueType.isArray()) {
+              if (ignoreEmptyArray && Array.getLength(value) == 0) break scope;
+              out.property(schema, i);
+              _streamArray(ctx, value, out);
+              break scope;
+            } else {
+              // the key is held back until the first entry since an empty dictionary is skipped
+              if (ignoreEmptyDictionary) out.deferProperty(schema, i);
+              else {
+                out.property(schema, i);
+                out.startDictionary();
+              }
+              _normalizeProperties(ctx, ctx.getFactory().getSchema(valueType), value, null, out);
+              out.endDictionary();
+              break scope;
+            }
+          } else if (value != null && deepClone && out == null) {
+            value = SimpleTypes.deepClone(value);
+          }
         }
 
-        if (settings.contains(SettingFlag.Normalizer.IGNORE_DEFAULT_VALUES)
+        // a sink has no previous value to remove
+        if (value == null && out != null) break scope;
+        if (ignoreDefaultValues
             && value instanceof Number
             && Math.abs(((Number) value).floatValue()) < 1e-8) break scope;
-        if (settings.contains(SettingFlag.Normalizer.IGNORE_DEFAULT_VALUES)
-            && value instanceof Boolean
-            && !((Boolean) value)) break scope;
-        if (settings.contains(SettingFlag.Normalizer.IGNORE_EMPTY_ARRAY)
-            && ComplexTypes.isArray(value)
-            && Array.getLength(value) == 0) break scope;
-        if (settings.contains(SettingFlag.Normalizer.IGNORE_EMPTY_DICTIONARY)
-            && value instanceof Dictionary
-            && ((Dictionary) value).isEmpty()) break scope;
-
-        ctx.enterScope(new ValueScope(value));
-        container.put(property.name(), value);
-        ctx.exitScope();
+        if (ignoreDefaultValues && value instanceof Boolean && !((Boolean) value)) break scope;
+        if (ignoreEmptyArray && ComplexTypes.isArray(value) && Array.getLength(value) == 0)
+          break scope;
+        if (ignoreEmptyDictionary && value instanceof Dictionary && ((Dictionary) value).isEmpty())
+          break scope;
+
+        ctx.enterValue(value);
+        if (out == null) container.put(property.name(), value);
+        else {
+          out.property(schema, i);
+          out.value(value);
+        }
+        ctx.exitValue();
+      }
+      ctx.exitProperty();
+    }
+  }
+
+  // ======== Streaming ========
+
+  // streams a value which is not a property, i.e. the root or an element of an array
+  @SuppressWarnings("rawtypes")
+  private void _stream(Context ctx, Class<?> type, Object complex, Stream out, boolean element)
+      throws Exception {
+    Object value;
+    if (SimpleTypes.test(complex)) {
+      value = complex;
+    } else if (type.isArray()) {
+      _streamArray(ctx, complex, out);
+      return;
+    } else {
+      TypeAdapter adapter = configFactory.getTypeAdapter(type);
+      if (adapter == null || adapter instanceof TypeAnnotator) {
+        out.startDictionary();
+        _normalizeProperties(ctx, ctx.getFactory().getSchema(type), complex, null, out);
+        out.endDictionary();
+        return;
       }
-      ctx.exitScope();
+      value = _simplifyWith(ctx, type, complex, adapter);
+    }
+    if (element) ctx.enterValue(value);
+    out.value(value);
+    if (element) ctx.exitValue();
+  }
+
+  private void _streamArray(Context ctx, Object complex, Stream out) throws Exception {
+    out.startArray();
+    int n = Array.getLength(complex);
+    for (int i = 0; i < n; i++) {
+      ctx.enterElement(i);
+      Object elem = Array.get(complex, i);
+      _stream(ctx, elem == null ? Object.class : elem.getClass(), elem, out, true);
+      ctx.exitElement();
+    }
+    out.endArray();
+  }
+
+  /**
+   * A stream forwards events to a sink and holds back the keys of nested dictionaries which may turn out empty.<br>
+   * A deferred key is written with the start of its dictionary once any event occurs inside, or dropped if the
+   * dictionary ends first. As any event writes all deferred keys, they are always the innermost ones.
+   */
+  private static final class Stream {
+    private final NormalizationSink sink;
+    private ClassSchema[] deferredSchemas = new ClassSchema[8];
+    private int[] deferredIndexes = new int[8];
+    private int deferred;
+
+    private Stream(NormalizationSink sink) {
+      this.sink = sink;
+    }
+
+    private void flush() throws Exception {
+      for (int i = 0; i < deferred; i++) {
+        sink.property(deferredSchemas[i], deferredIndexes[i]);
+        sink.startDictionary();
+        deferredSchemas[i] = null;
+      }
+      deferred = 0;
+    }
+
+    private void deferProperty(ClassSchema schema, int index) {
+      if (deferred == deferredSchemas.length) {
+        deferredSchemas = Arrays.copyOf(deferredSchemas, deferred << 1);
+        deferredIndexes = Arrays.copyOf(deferredIndexes, deferred << 1);
+      }
+      deferredSchemas[deferred] = schema;
+      deferredIndexes[deferred++] = index;
+    }
+
+    private void property(ClassSchema schema, int index) throws Exception {
+      flush();
+      sink.property(schema, index);
+    }
+
+    private void startDictionary() throws Exception {
+      flush();
+      sink.startDictionary();
+    }
+
+    private void endDictionary() throws Exception {
+      // the dictionary is empty if its key is still deferred
+      if (deferred > 0) deferredSchemas[--deferred] = null;
+      else sink.endDictionary();
+    }
+
+    private void startArray() throws Exception {
+      flush();
+      sink.startArray();
+    }
+
+    private void endArray() throws Exception {
+      sink.endArray();
+    }
+
+    private void value(Object value) throws Exception {
+      flush();
+      sink.value(value);
     }
   }
 }
@@ -0,0 +1,95 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.context.Context;
+import java.lang.reflect.Type;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A denormalization source provides a simple object as a stream of values to be pulled instead of a tree of
+ * {@link Dictionary}.<br>
+ * The source is positioned before a value whose kind is given by {@link #peek()}. The value is then either read as a
+ * whole by {@link #nextValue()}, skipped by {@link #skipValue()}, or entered:
+ * <ul>
+ *   <li>Dictionary: {@link #startDictionary()}, then {@link #nextKey()} positions the source before the value of each
+ *   entry until it returns {@code null}</li>
+ *   <li>Array: {@link #startArray()}, then {@link #nextElement()} positions the source before each element until it
+ *   returns {@code false}</li>
+ * </ul>
+ * The source is not required to be thread-safe.
+ * @see ConfigDenormalizer#denormalize(Context, DenormalizationSource, Type)
+ */
+public interface DenormalizationSource {
+  /**
+   * Peeks the kind of the next value without consuming it.
+   * @return the kind
+   * @throws Exception may throw exceptions
+   */
+  @NotNull Kind peek() throws Exception;
+
+  /**
+   * Enters the next value which must be a dictionary.
+   * @throws Exception may throw exceptions
+   */
+  void startDictionary() throws Exception;
+
+  /**
+   * Reads the key of the next entry in the current dictionary.<br>
+   * If there is no more entry, the dictionary is exited.
+   * @return the key or {@code null} if the dictionary ends
+   * @throws Exception may throw exceptions
+   */
+  @Nullable String nextKey() throws Exception;
+
+  /**
+   * Enters the next value which must be an array.
+   * @throws Exception may throw exceptions
+   */
+  void startArray() throws Exception;
+
+  /**
+   * Moves to the next element in the current array.<br>
+   * If there is no more element, the array is exited.
+   * @return {@code true} if there is a next element or {@code false} if the array ends
+   * @throws Exception may throw exceptions
+   */
+  boolean nextElement() throws Exception;
+
+  /**
+   * Reads the next value as a whole.
+   * @return the simple object or {@code null}
+   * @throws Exception may throw exceptions
+   */
+  @Nullable Object nextValue() throws Exception;
+
+  /**
+   * Skips the next value as a whole.
+   * @throws Exception may throw exceptions
+   */
+  void skipValue() throws Exception;
+
+  /**
+   * The kind of value.
+   */
+  enum Kind {
+    /**
+     * A dictionary.
+     */
+    DICTIONARY,
+
+    /**
+     * An array.
+     */
+    ARRAY,
+
+    /**
+     * A scalar value, i.e. a string, a number, a boolean or a character.
+     */
+    SCALAR,
+
+    /**
+     * No value.
+     */
+    NULL
+  }
+}
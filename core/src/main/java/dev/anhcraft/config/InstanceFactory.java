@@ -1,16 +1,29 @@
 package dev.anhcraft.config;
 
+import dev.anhcraft.config.blueprint.ClassCodec;
+import dev.anhcraft.config.blueprint.ClassSchema;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.type.ComplexTypes;
+import dev.anhcraft.config.util.BoundedCache;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import sun.misc.Unsafe;
 
 /**
- * An instance factory provides facilities to assemble instances.
+ * An instance factory provides facilities to assemble instances.<br>
+ * This class is thread-safe. Instance assemblers and canonical constructors created on demand are cached in bounded
+ * concurrent caches.
  */
 public final class InstanceFactory implements InstanceAssembler {
   private static Unsafe unsafe;
@@ -25,24 +38,27 @@ public final class InstanceFactory implements InstanceAssembler {
   }
 
   private final Map<Class<?>, InstanceAssembler> instanceAssemblers;
-  private final Map<Class<?>, InstanceAssembler> onDemandCache;
+  private final BoundedCache<Class<?>, InstanceAssembler> onDemandCache;
+  private final BoundedCache<Class<?>, Optional<CanonicalConstructor>> canonicalConstructors;
 
   public InstanceFactory(@NotNull Map<Class<?>, InstanceAssembler> instanceAssemblers) {
+    this(instanceAssemblers, 100);
+  }
+
+  public InstanceFactory(
+      @NotNull Map<Class<?>, InstanceAssembler> instanceAssemblers, int cacheSize) {
     this.instanceAssemblers = instanceAssemblers;
-    this.onDemandCache =
-        new LinkedHashMap<>() {
-          @Override
-          protected boolean removeEldestEntry(Map.Entry eldest) {
-            return size() > 100; // TODO let this configurable
-          }
-        };
+    this.onDemandCache = new BoundedCache<>(cacheSize);
+    this.canonicalConstructors = new BoundedCache<>(cacheSize);
   }
 
   /**
    * Gets the instance assembler for the given class.<br>
    * The assembler could be registered when building the {@link ConfigFactory}. If it is not found, a new instance
    * assembler is created on demand and cached for later uses. The default assembler attempts to utilize the
-   * default constructor (no args), otherwise, it allocates a new instance on the heap without invoking any constructor.
+   * default constructor (no args) which is bound as a {@link Supplier} via {@link LambdaMetafactory}, otherwise, it
+   * allocates a new instance on the heap without invoking any constructor.
+   * If the class has a generated {@link ClassCodec}, its constructor is called directly.
    * @param clazz the class
    * @return the instance assembler
    * @param <T> the type
@@ -59,38 +75,101 @@ public final class InstanceFactory implements InstanceAssembler {
     if (!ComplexTypes.isInstantiable(clazz))
       throw new IllegalArgumentException("Cannot instantiate " + clazz.getName());
 
-    ic = onDemandCache.get(clazz);
-    if (ic != null) return ic;
+    return onDemandCache.getOrLoad(clazz, InstanceFactory::createInstanceAssembler);
+  }
 
-    try {
-      Constructor<T> c = clazz.getDeclaredConstructor();
-      c.setAccessible(true);
-      ic =
-          new InstanceAssembler() {
-            @Override
-            public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz)
-                throws Exception {
-              //noinspection unchecked
-              return (V) c.newInstance();
-            }
-          };
-      onDemandCache.put(clazz, ic);
-      return ic;
-    } catch (NoSuchMethodException ignored) {
+  /**
+   * Gets the canonical constructor of the given schema.<br>
+   * If an instance assembler is registered for the class, this method returns {@code null} so that the registered
+   * assembler takes precedence.
+   * @param schema the schema
+   * @return the canonical constructor or {@code null} if not exists
+   * @see CanonicalConstructor
+   */
+  public @Nullable CanonicalConstructor getCanonicalConstructor(@NotNull ClassSchema schema) {
+    if (instanceAssemblers.containsKey(schema.type())) return null;
+    return canonicalConstructors
+        .getOrLoad(schema.type(), type -> Optional.ofNullable(CanonicalConstructor.of(schema)))
+        .orElse(null);
+  }
+
+  /**
+   * Gets the statistics of the cache of instance assemblers created on demand.
+   * @return the statistics
+   */
+  public @NotNull BoundedCache.Stats getCacheStats() {
+    return onDemandCache.stats();
+  }
+
+  private static @NotNull InstanceAssembler createInstanceAssembler(@NotNull Class<?> clazz) {
+    ClassCodec<?> codec = ClassCodec.lookup(clazz);
+    Supplier<?> constructor = codec == null ? null : codec.constructor();
+    if (constructor != null) {
+      return new InstanceAssembler() {
+        @Override
+        public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz) {
+          //noinspection unchecked
+          return (V) constructor.get();
+        }
+      };
     }
 
-    ic =
-        new InstanceAssembler() {
+    try {
+      Constructor<?> c = clazz.getDeclaredConstructor();
+      Supplier<?> supplier = bindConstructor(c);
+      if (supplier != null) {
+        return new InstanceAssembler() {
           @Override
-          public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz)
-              throws Exception {
+          public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz) {
             //noinspection unchecked
-            return (V) unsafe.allocateInstance(clazz);
+            return (V) supplier.get();
           }
         };
-    onDemandCache.put(clazz, ic);
+      }
+      c.setAccessible(true);
+      return new InstanceAssembler() {
+        @Override
+        public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz)
+            throws Exception {
+          //noinspection unchecked
+          return (V) c.newInstance();
+        }
+      };
+    } catch (NoSuchMethodException ignored) {
+    }
+
+    return new InstanceAssembler() {
+      @Override
+      public <V> @NotNull V newInstance(@NotNull Context context, @NotNull Class<V> clazz)
+          throws Exception {
+        //noinspection unchecked
+        return (V) unsafe.allocateInstance(clazz);
+      }
+    };
+  }
 
-    return ic;
+  // binds the no-args constructor as a supplier, returns null if the class is not accessible
+  static @Nullable Supplier<?> bindConstructor(@NotNull Constructor<?> constructor) {
+    Class<?> clazz = constructor.getDeclaringClass();
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+      MethodHandle handle = lookup.unreflectConstructor(constructor);
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "get",
+              MethodType.methodType(Supplier.class),
+              MethodType.methodType(Object.class),
+              handle,
+              MethodType.methodType(clazz));
+      return (Supplier<?>) site.getTarget().invokeExact();
+    } catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+      return null;
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
   }
 
   /**
@@ -0,0 +1,62 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.context.Context;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A normalization sink receives the simple form of a complex object as a stream of events instead of a tree of
+ * {@link Dictionary}.<br>
+ * The events are well-nested and follow the grammar below:
+ * <ul>
+ *   <li>value: {@link #value(Object)} | dictionary | array</li>
+ *   <li>dictionary: {@link #startDictionary()} ({@link #property(ClassSchema, int)} value)* {@link #endDictionary()}</li>
+ *   <li>array: {@link #startArray()} value* {@link #endArray()}</li>
+ * </ul>
+ * A simple value given to {@link #value(Object)} may itself be a {@link Dictionary} or an array, e.g. the result of a
+ * type adapter. The sink is not required to be thread-safe.
+ * @see ConfigNormalizer#normalize(Context, Class, Object, NormalizationSink)
+ */
+public interface NormalizationSink {
+  /**
+   * Starts a dictionary.
+   * @throws Exception may throw exceptions
+   */
+  void startDictionary() throws Exception;
+
+  /**
+   * Ends the current dictionary.
+   * @throws Exception may throw exceptions
+   */
+  void endDictionary() throws Exception;
+
+  /**
+   * Starts an array.
+   * @throws Exception may throw exceptions
+   */
+  void startArray() throws Exception;
+
+  /**
+   * Ends the current array.
+   * @throws Exception may throw exceptions
+   */
+  void endArray() throws Exception;
+
+  /**
+   * Writes the key of the next entry in the current dictionary.<br>
+   * The key is the name of the i-th property of {@link ClassSchema#properties()}. As the schema and the index are
+   * given, the sink may encode the names of a schema once and reuse them.
+   * @param schema the schema
+   * @param index the index of the property
+   * @throws Exception may throw exceptions
+   */
+  void property(@NotNull ClassSchema schema, int index) throws Exception;
+
+  /**
+   * Writes a simple value.
+   * @param value the simple value, {@code null} for a {@code null} element of an array
+   * @throws Exception may throw exceptions
+   */
+  void value(@Nullable Object value) throws Exception;
+}
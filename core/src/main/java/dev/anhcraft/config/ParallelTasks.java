@@ -0,0 +1,250 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.context.Context;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parallel tasks split a range of indexes into tasks once its size reaches the threshold.<br>
+ * Each task processes consecutive indexes with its own context forked from the current one, see
+ * {@link Context#fork()}. The results are expected to be written to the slot of each index, so the order is the same
+ * as sequential processing. Errors are reported in one of three ways:
+ * <ul>
+ *   <li>Fail-fast: indexes after a failed one are skipped where possible, and the exception of the lowest failed index
+ *   is thrown, which is also the one thrown by sequential processing.</li>
+ *   <li>Collect-all: every index is processed, and the exception of the lowest failed index is thrown with the
+ *   exceptions of other failed indexes suppressed in order.</li>
+ *   <li>Isolated: every index is processed, and exceptions are stored at their index instead of being thrown.</li>
+ * </ul>
+ * With a {@link ForkJoinPool}, the range is split recursively and nested parallel processing joins on the same pool.
+ * With another {@link Executor}, the range is split into chunks which are claimed one by one by the current thread and
+ * by helpers submitted to the executor. The current thread only waits for chunks already started by a helper, so it is
+ * safe to call from a worker of the same bounded executor, even with a single thread; helpers which are rejected or
+ * not started in time simply find no chunk left. Nested parallel processing runs on the current thread to avoid
+ * flooding the executor.
+ */
+@ApiStatus.Internal
+final class ParallelTasks {
+  private static final ThreadLocal<Boolean> RUNNING = new ThreadLocal<>();
+  private final Executor executor;
+  private final int threshold;
+  private final boolean collectErrors;
+
+  ParallelTasks(@NotNull Executor executor, int threshold, boolean collectErrors) {
+    this.executor = executor;
+    this.threshold = threshold;
+    this.collectErrors = collectErrors;
+  }
+
+  /**
+   * Checks whether the given number of indexes should be processed in parallel.
+   * @param size the number of indexes
+   * @return {@code true} if the size reaches the threshold
+   */
+  boolean accepts(int size) {
+    return size > 1 && size >= threshold;
+  }
+
+  /**
+   * Processes the indexes from {@code 0} to {@code size - 1} in parallel and waits for completion.
+   * @param ctx the current context
+   * @param size the number of indexes
+   * @param body the processing of an index
+   * @throws Exception the exception thrown at the lowest index
+   */
+  void forEach(@NotNull Context ctx, int size, @NotNull Body body) throws Exception {
+    forEach(ctx, size, body, null);
+  }
+
+  /**
+   * Processes the indexes from {@code 0} to {@code size - 1} in parallel and waits for completion.<br>
+   * If an array of errors is given, exceptions are stored at their index instead of being thrown.
+   * @param ctx the current context
+   * @param size the number of indexes
+   * @param body the processing of an index
+   * @param errors the array of errors or {@code null}
+   * @throws Exception the exception thrown at the lowest index if there is no array of errors
+   */
+  void forEach(@NotNull Context ctx, int size, @NotNull Body body, Exception @Nullable [] errors)
+      throws Exception {
+    if (executor instanceof ForkJoinPool) {
+      ForkJoinPool pool = (ForkJoinPool) executor;
+      Job job = new Job(ctx, body, Math.max(1, size / (pool.getParallelism() << 2)), errors);
+      Chunk root = new Chunk(job, 0, size);
+      // joins directly if already on a worker of the pool to avoid blocking it
+      if (ForkJoinTask.getPool() == pool) root.invoke();
+      else pool.invoke(root);
+      job.rethrow();
+      return;
+    }
+
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    Job job = new Job(ctx, body, Math.max(1, size / (parallelism << 2)), errors);
+    if (RUNNING.get() != null) {
+      job.run(0, size);
+      job.rethrow();
+      return;
+    }
+    Claim claim = new Claim(job, size);
+    int helpers = Math.min(claim.chunks, parallelism) - 1;
+    for (int i = 0; i < helpers; i++) {
+      try {
+        executor.execute(claim);
+      } catch (RejectedExecutionException e) {
+        break;
+      }
+    }
+    claim.run();
+    claim.await();
+    job.rethrow();
+  }
+
+  /**
+   * The processing of an index.
+   */
+  @FunctionalInterface
+  interface Body {
+    void accept(@NotNull Context ctx, int index) throws Exception;
+  }
+
+  private final class Job {
+    private final Context parent;
+    private final Body body;
+    private final int leafSize;
+    private final Exception[] isolatedErrors;
+    private final boolean continueOnError;
+    private final List<Exception> errors = new ArrayList<>();
+    private final List<Integer> errorIndexes = new ArrayList<>();
+    private volatile int errorIndex = Integer.MAX_VALUE;
+
+    private Job(Context parent, Body body, int leafSize, Exception[] isolatedErrors) {
+      this.parent = parent;
+      this.body = body;
+      this.leafSize = leafSize;
+      this.isolatedErrors = isolatedErrors;
+      this.continueOnError = collectErrors || isolatedErrors != null;
+    }
+
+    private void run(int from, int to) {
+      Context ctx = null;
+      for (int i = from; i < to; i++) {
+        // a lower index has failed, the exception of this index would never be thrown
+        if (!continueOnError && errorIndex < i) return;
+        if (ctx == null) ctx = parent.fork();
+        try {
+          body.accept(ctx, i);
+        } catch (Exception e) {
+          if (isolatedErrors != null) isolatedErrors[i] = e;
+          else fail(i, e);
+          if (!continueOnError) return;
+          // the context is left to the exception
+          ctx = null;
+        }
+      }
+    }
+
+    private synchronized void fail(int index, Exception exception) {
+      int pos = errorIndexes.size();
+      while (pos > 0 && errorIndexes.get(pos - 1) > index) pos--;
+      errorIndexes.add(pos, index);
+      errors.add(pos, exception);
+      if (index < errorIndex) errorIndex = index;
+    }
+
+    private synchronized void rethrow() throws Exception {
+      if (errors.isEmpty()) return;
+      Exception first = errors.get(0);
+      if (!collectErrors) throw first;
+      for (int i = 1; i < errors.size(); i++) {
+        if (errors.get(i) != first) first.addSuppressed(errors.get(i));
+      }
+      throw first;
+    }
+  }
+
+  private static final class Claim implements Runnable {
+    private final Job job;
+    private final int size;
+    private final int chunks;
+    private final AtomicInteger next = new AtomicInteger();
+    private final CountDownLatch done;
+    private volatile Throwable failure;
+
+    private Claim(Job job, int size) {
+      this.job = job;
+      this.size = size;
+      this.chunks = (size + job.leafSize - 1) / job.leafSize;
+      this.done = new CountDownLatch(chunks);
+    }
+
+    @Override
+    public void run() {
+      boolean nested = RUNNING.get() != null;
+      RUNNING.set(Boolean.TRUE);
+      try {
+        int chunk;
+        while ((chunk = next.getAndIncrement()) < chunks) {
+          int from = chunk * job.leafSize;
+          try {
+            job.run(from, Math.min(size, from + job.leafSize));
+          } catch (RuntimeException | Error e) {
+            // exceptions of the body are collected by the job, only unexpected ones reach here
+            if (failure == null) failure = e;
+          } finally {
+            done.countDown();
+          }
+        }
+      } finally {
+        if (!nested) RUNNING.remove();
+      }
+    }
+
+    private void await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) Thread.currentThread().interrupt();
+      Throwable failure = this.failure;
+      if (failure instanceof Error) throw (Error) failure;
+      if (failure != null) throw (RuntimeException) failure;
+    }
+  }
+
+  private final class Chunk extends RecursiveAction {
+    private final Job job;
+    private final int from;
+    private final int to;
+
+    private Chunk(Job job, int from, int to) {
+      this.job = job;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > job.leafSize) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new Chunk(job, from, mid), new Chunk(job, mid, to));
+        return;
+      }
+      job.run(from, to);
+    }
+  }
+}
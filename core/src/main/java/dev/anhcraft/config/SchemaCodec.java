@@ -0,0 +1,358 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.adapter.DoubleAnnotator;
+import dev.anhcraft.config.adapter.IntAnnotator;
+import dev.anhcraft.config.adapter.LongAnnotator;
+import dev.anhcraft.config.adapter.TypeAdapter;
+import dev.anhcraft.config.adapter.TypeAnnotator;
+import dev.anhcraft.config.adapter.TypeInferencer;
+import dev.anhcraft.config.blueprint.AdapterBindings;
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.blueprint.Processor;
+import dev.anhcraft.config.blueprint.PropertyAccessor;
+import dev.anhcraft.config.context.Context;
+import dev.anhcraft.config.error.InvalidValueException;
+import dev.anhcraft.config.meta.Denormalizer;
+import dev.anhcraft.config.meta.Normalizer;
+import dev.anhcraft.config.type.ComplexTypes;
+import dev.anhcraft.config.type.SimpleTypes;
+import dev.anhcraft.config.validate.DisabledValidator;
+import dev.anhcraft.config.validate.Validator;
+import dev.anhcraft.config.validate.check.Validation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A schema codec is the compiled form of the primitive properties of a {@link ClassSchema}.<br>
+ * The normalizer and the denormalizer walk the properties of a schema in the same way whether it is compiled or not,
+ * so the routing, processors, fallback property, type adapters bound in {@link AdapterBindings} and validation are
+ * shared. Once a schema is promoted, its properties of type {@code int}, {@code long}, {@code double} and
+ * {@code boolean} are read through the primitive-specialized methods of {@link PropertyAccessor}, and default values
+ * are ignored before boxing. Numbers are denormalized into properties of type {@code int}, {@code long} and
+ * {@code double} via {@link IntAnnotator}, {@link LongAnnotator} and {@link DoubleAnnotator}, validated via the
+ * primitive checks of {@link Validator} and written through the primitive-specialized methods as well. As such, the
+ * value is not boxed except when it has to be stored in a dictionary.<br>
+ * Use {@link #explain(ConfigFactory)} to dump how each property is processed.
+ * @see CodecTier
+ */
+@ApiStatus.Internal
+final class SchemaCodec {
+  private static final int OBJECT = 0;
+  private static final int INT = 1;
+  private static final int LONG = 2;
+  private static final int DOUBLE = 3;
+  private static final int BOOLEAN = 4;
+
+  private final ClassSchema schema;
+  private final PrimitiveStep[] normalizationSteps;
+  private final PrimitiveStep[] denormalizationSteps;
+  private final boolean ignoreDefaultValues;
+
+  private SchemaCodec(
+      ClassSchema schema,
+      PrimitiveStep[] normalizationSteps,
+      PrimitiveStep[] denormalizationSteps,
+      Set<SettingFlag.Normalizer> settings) {
+    this.schema = schema;
+    this.normalizationSteps = normalizationSteps;
+    this.denormalizationSteps = denormalizationSteps;
+    this.ignoreDefaultValues = settings.contains(SettingFlag.Normalizer.IGNORE_DEFAULT_VALUES);
+  }
+
+  /**
+   * Compiles the codec for the given schema.
+   * @param factory the config factory
+   * @param schema the schema
+   * @return the codec
+   */
+  static @NotNull SchemaCodec compile(@NotNull ConfigFactory factory, @NotNull ClassSchema schema) {
+    PrimitiveStep[] normalizationSteps = compileNormalization(schema);
+    PrimitiveStep[] denormalizationSteps = compileDenormalization(factory, schema);
+    return new SchemaCodec(
+        schema, normalizationSteps, denormalizationSteps, factory.getNormalizer().getSettings());
+  }
+
+  /**
+   * Gets the schema this codec was compiled from.
+   * @return the schema
+   */
+  @NotNull ClassSchema schema() {
+    return schema;
+  }
+
+  /**
+   * Describes how each property is processed with this codec, one property per line.<br>
+   * Each line shows how the value is converted: {@code primitive} for the boxing-free path, {@code direct} for values
+   * passed as is, {@code adapter} for a type adapter bound in {@link AdapterBindings}, and {@code dynamic} for values
+   * whose conversion is decided at runtime. Processor strategies, the fallback property and validators are shown as well.
+   * @param factory the config factory
+   * @return the description
+   */
+  @NotNull String explain(@NotNull ConfigFactory factory) {
+    StringBuilder sb = new StringBuilder(schema.type().getName());
+    AdapterBindings bindings = schema.adapterBindings(factory.getAdapterProvider());
+    List<ClassProperty> properties = schema.properties();
+    sb.append("\nnormalization:");
+    for (int i = 0; i < properties.size(); i++) {
+      ClassProperty property = properties.get(i);
+      if (property.isTransient()) continue;
+      appendStep(sb, property);
+      Processor processor = property.normalizer();
+      Class<?> exactType = bindings.exactType(i);
+      TypeAdapter<?> adapter = bindings.normalizationAdapter(i);
+      if (processor != null) {
+        sb.append("processor ")
+            .append(
+                processor.strategy() == Normalizer.Strategy.REPLACE
+                    ? "REPLACE"
+                    : "BEFORE, dynamic");
+      } else if (normalizationSteps[i] != null) {
+        sb.append("primitive");
+      } else if (exactType == null) {
+        sb.append("dynamic");
+      } else if (SimpleTypes.validate(exactType)) {
+        sb.append("direct");
+      } else if (adapter == null || adapter instanceof TypeAnnotator) {
+        sb.append("dynamic");
+      } else {
+        appendAdapter(sb, adapter);
+      }
+    }
+    sb.append("\ndenormalization:");
+    boolean validation =
+        !factory
+            .getDenormalizer()
+            .getSettings()
+            .contains(SettingFlag.Denormalizer.DISABLE_VALIDATION);
+    for (int i = 0; i < properties.size(); i++) {
+      ClassProperty property = properties.get(i);
+      if (property.isConstant()) continue;
+      appendStep(sb, property);
+      if (property.isFallback()) sb.append("fallback, ");
+      Processor processor = property.denormalizer();
+      if (processor != null && processor.strategy() == Denormalizer.Strategy.REPLACE) {
+        sb.append("processor REPLACE");
+        appendVoid(sb, processor);
+      } else {
+        TypeAdapter<?> adapter = bindings.denormalizationAdapter(i);
+        if (denormalizationSteps[i] != null) sb.append("primitive");
+        else if (property.type() == Object.class) sb.append("direct");
+        else if (bindings.erasure(i) == null
+            || adapter == null
+            || adapter instanceof TypeInferencer) sb.append("dynamic");
+        else appendAdapter(sb, adapter);
+        if (processor != null) {
+          sb.append(", processor AFTER");
+          appendVoid(sb, processor);
+        }
+      }
+      Validator validator = property.validator();
+      if (validation && !(validator instanceof DisabledValidator)) {
+        sb.append(", validate");
+        for (Validation v : validator.validations()) {
+          sb.append(' ').append(v.getClass().getSimpleName());
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void appendStep(StringBuilder sb, ClassProperty property) {
+    sb.append("\n  ")
+        .append(property.name())
+        .append(" (")
+        .append(ComplexTypes.describe(property.type(), true))
+        .append("): ");
+  }
+
+  private static void appendVoid(StringBuilder sb, Processor processor) {
+    if (processor.invoker() instanceof Processor.VoidDenormalizationInvoker) sb.append(" (void)");
+  }
+
+  private static void appendAdapter(StringBuilder sb, TypeAdapter<?> adapter) {
+    String name = adapter.getClass().getSimpleName();
+    sb.append("adapter ").append(name.isEmpty() ? adapter.getClass().getName() : name);
+  }
+
+  private static int kindOf(Type type) {
+    if (type == int.class) return INT;
+    if (type == long.class) return LONG;
+    if (type == double.class) return DOUBLE;
+    if (type == boolean.class) return BOOLEAN;
+    return OBJECT;
+  }
+
+  // ======== Normalization ========
+
+  private static PrimitiveStep[] compileNormalization(ClassSchema schema) {
+    List<ClassProperty> properties = schema.properties();
+    PrimitiveStep[] steps = new PrimitiveStep[properties.size()];
+    for (int i = 0; i < steps.length; i++) {
+      ClassProperty property = properties.get(i);
+      // the processor may return a value of any type
+      if (property.isTransient() || property.normalizer() != null) continue;
+      if (kindOf(property.type()) != OBJECT) steps[i] = new PrimitiveStep(property, null, null);
+    }
+    return steps;
+  }
+
+  /**
+   * Checks if the property at the given index is read by {@link #normalizePrimitive(int, Object)}.
+   * @param index the index of the property in {@link ClassSchema#properties()}
+   * @return {@code true} if the property is primitive
+   */
+  boolean normalizesPrimitive(int index) {
+    return normalizationSteps[index] != null;
+  }
+
+  /**
+   * Reads a primitive property of the given object. The default value is checked before boxing.
+   * @param index the index of the property in {@link ClassSchema#properties()}
+   * @param complex the complex object
+   * @return the boxed value or {@code null} if the value is ignored
+   */
+  @Nullable Object normalizePrimitive(int index, @NotNull Object complex) {
+    PrimitiveStep step = normalizationSteps[index];
+    switch (step.kind) {
+      case INT:
+        int i = step.accessor.getInt(complex);
+        return ignoreDefaultValues && i == 0 ? null : Integer.valueOf(i);
+      case LONG:
+        long l = step.accessor.getLong(complex);
+        return ignoreDefaultValues && l == 0 ? null : Long.valueOf(l);
+      case DOUBLE:
+        double d = step.accessor.getDouble(complex);
+        return ignoreDefaultValues && Math.abs((float) d) < 1e-8 ? null : Double.valueOf(d);
+      case BOOLEAN:
+        boolean b = step.accessor.getBoolean(complex);
+        return ignoreDefaultValues && !b ? null : Boolean.valueOf(b);
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  // ======== Denormalization ========
+
+  private static PrimitiveStep[] compileDenormalization(ConfigFactory factory, ClassSchema schema) {
+    boolean validation =
+        !factory
+            .getDenormalizer()
+            .getSettings()
+            .contains(SettingFlag.Denormalizer.DISABLE_VALIDATION);
+    List<ClassProperty> properties = schema.properties();
+    PrimitiveStep[] steps = new PrimitiveStep[properties.size()];
+    for (int i = 0; i < steps.length; i++) {
+      ClassProperty property = properties.get(i);
+      if (property.isConstant() || property.denormalizer() != null) continue;
+      TypeAdapter<?> annotator = bindPrimitiveAnnotator(factory, property.type());
+      if (annotator == null) continue;
+      Validator validator = property.validator();
+      if (!validation || validator instanceof DisabledValidator) validator = null;
+      steps[i] = new PrimitiveStep(property, annotator, validator);
+    }
+    return steps;
+  }
+
+  private static TypeAdapter<?> bindPrimitiveAnnotator(ConfigFactory factory, Type type) {
+    int kind = kindOf(type);
+    if (kind == OBJECT || kind == BOOLEAN) return null;
+    TypeAdapter<?> adapter = factory.getTypeAdapter((Class<?>) type);
+    if (kind == INT && adapter instanceof IntAnnotator) return adapter;
+    if (kind == LONG && adapter instanceof LongAnnotator) return adapter;
+    if (kind == DOUBLE && adapter instanceof DoubleAnnotator) return adapter;
+    return null;
+  }
+
+  /**
+   * Denormalizes the given value into a primitive property of the given instance without boxing.<br>
+   * Only numbers are denormalized this way, other values are left to the denormalizer. The property scope must have
+   * been entered.
+   * @param ctx the context
+   * @param index the index of the property in {@link ClassSchema#properties()}
+   * @param value the value
+   * @param instance the instance
+   * @return {@code true} if the value is denormalized
+   * @throws Exception may throw exceptions during denormalization
+   */
+  boolean denormalizePrimitive(
+      @NotNull Context ctx, int index, @Nullable Object value, @NotNull Object instance)
+      throws Exception {
+    PrimitiveStep step = denormalizationSteps[index];
+    if (step == null || !(value instanceof Number)) return false;
+    denormalizePrimitive(ctx, step, (Number) value, instance);
+    return true;
+  }
+
+  /**
+   * Converts, validates and writes a number into a primitive property without boxing.<br>
+   * The input number is reused as the scoped value if it equals the converted value.
+   */
+  private static void denormalizePrimitive(
+      Context ctx, PrimitiveStep step, Number number, Object instance) throws Exception {
+    int failure = Validator.PASSED;
+    Object value;
+    switch (step.kind) {
+      case INT:
+        int i = ((IntAnnotator) step.annotator).complexifyInt(ctx, number);
+        if (step.validator != null) failure = step.validator.testInt(i);
+        if (failure == Validator.PASSED) {
+          value = number instanceof Integer && number.intValue() == i ? number : Integer.valueOf(i);
+          ctx.enterValue(value);
+          step.accessor.setInt(instance, i);
+          ctx.exitValue();
+        }
+        break;
+      case LONG:
+        long l = ((LongAnnotator) step.annotator).complexifyLong(ctx, number);
+        if (step.validator != null) failure = step.validator.testLong(l);
+        if (failure == Validator.PASSED) {
+          value = number instanceof Long && number.longValue() == l ? number : Long.valueOf(l);
+          ctx.enterValue(value);
+          step.accessor.setLong(instance, l);
+          ctx.exitValue();
+        }
+        break;
+      case DOUBLE:
+        double d = ((DoubleAnnotator) step.annotator).complexifyDouble(ctx, number);
+        if (step.validator != null) failure = step.validator.testDouble(d);
+        if (failure == Validator.PASSED) {
+          value =
+              number instanceof Double && Double.compare(number.doubleValue(), d) == 0
+                  ? number
+                  : Double.valueOf(d);
+          ctx.enterValue(value);
+          step.accessor.setDouble(instance, d);
+          ctx.exitValue();
+        }
+        break;
+      default:
+        throw new IllegalStateException();
+    }
+    if (failure != Validator.PASSED && !step.validator.silent()) {
+      throw new InvalidValueException(
+          ctx, String.format("Property '%s' %s", step.name, step.validator.message(failure)));
+    }
+  }
+
+  private static final class PrimitiveStep {
+    private final String name;
+    private final PropertyAccessor accessor;
+    private final int kind;
+    private final TypeAdapter<?> annotator;
+    private final Validator validator;
+
+    private PrimitiveStep(
+        ClassProperty property, @Nullable TypeAdapter<?> annotator, @Nullable Validator validator) {
+      this.name = property.name();
+      this.accessor = property.accessor();
+      this.kind = kindOf(property.type());
+      this.annotator = annotator;
+      this.validator = validator;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package dev.anhcraft.config;
+
+import dev.anhcraft.config.adapter.TypeAdapter;
+import dev.anhcraft.config.adapter.TypeAnnotator;
+import dev.anhcraft.config.adapter.TypeInferencer;
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.type.ComplexTypes;
+import dev.anhcraft.config.type.SimpleTypes;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The schema prewarmer traverses the type graph from a set of root classes and performs the lazy work which is
+ * otherwise done on the first normalization or denormalization.<br>
+ * For every reachable class, the type adapter is resolved. If the class is handled by a schema, the schema is scanned,
+ * its effective properties are resolved and its instance assembler is created. Then, the traversal continues with the
+ * superclass and the types of properties including generic arguments and array components. Each class is visited in
+ * its own fork-join task.
+ */
+@ApiStatus.Internal
+final class SchemaPrewarmer {
+  private final ConfigFactory factory;
+  private final Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+
+  SchemaPrewarmer(@NotNull ConfigFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Creates the task warming up the given classes.
+   * @param roots the root classes
+   * @return the task
+   */
+  @NotNull ForkJoinTask<Void> task(@NotNull Class<?>... roots) {
+    return new RecursiveAction() {
+      @Override
+      protected void compute() {
+        List<ForkJoinTask<?>> subtasks = new ArrayList<>(roots.length);
+        for (Class<?> root : roots) {
+          visit(root, subtasks);
+        }
+        invokeAll(subtasks);
+      }
+    };
+  }
+
+  private void visit(Type type, List<ForkJoinTask<?>> subtasks) {
+    if (type instanceof Class) {
+      Class<?> clazz = (Class<?>) type;
+      while (clazz.isArray()) clazz = clazz.getComponentType();
+      if (clazz.isPrimitive() || clazz == Object.class || !visited.add(clazz)) return;
+      subtasks.add(new ClassTask(clazz));
+    } else if (type instanceof ParameterizedType) {
+      visit(((ParameterizedType) type).getRawType(), subtasks);
+      for (Type arg : ((ParameterizedType) type).getActualTypeArguments()) {
+        visit(arg, subtasks);
+      }
+    } else if (type instanceof GenericArrayType) {
+      visit(((GenericArrayType) type).getGenericComponentType(), subtasks);
+    } else if (type instanceof WildcardType) {
+      for (Type bound : ((WildcardType) type).getUpperBounds()) {
+        visit(bound, subtasks);
+      }
+      for (Type bound : ((WildcardType) type).getLowerBounds()) {
+        visit(bound, subtasks);
+      }
+    }
+    // type variables are resolved at runtime, there is nothing to warm up
+  }
+
+  private final class ClassTask extends RecursiveAction {
+    private final Class<?> type;
+
+    private ClassTask(Class<?> type) {
+      this.type = type;
+    }
+
+    @Override
+    protected void compute() {
+      // simple types are never turned into a schema
+      if (SimpleTypes.validate(type)) return;
+      TypeAdapter<?> adapter = factory.getTypeAdapter(type);
+      // a schema is used unless the adapter handles both directions on its own
+      if (adapter != null
+          && !(adapter instanceof TypeAnnotator)
+          && !(adapter instanceof TypeInferencer)) return;
+      if (!ComplexTypes.isNormalClassOrAbstract(type)) return;
+
+      ClassSchema schema = factory.getSchema(type);
+      List<ForkJoinTask<?>> subtasks = new ArrayList<>();
+      // forces the lazy effective property list
+      for (ClassProperty property : schema.properties()) {
+        visit(property.type(), subtasks);
+      }
+      schema.fallback();
+      ClassSchema parent = schema.parent();
+      if (parent != null) visit(parent.type(), subtasks);
+
+      if (ComplexTypes.isInstantiable(type))
+        factory.getInstanceFactory().getInstanceAssembler(type);
+      invokeAll(subtasks);
+    }
+  }
+}
@@ -57,6 +57,24 @@ public class SettingFlag {
     /**
      * Disables validation in denormalization.
      */
-    DISABLE_VALIDATION
+    DISABLE_VALIDATION,
+
+    /**
+     * Creates instances via the canonical constructor if the class has one.<br>
+     * The values of all properties except constants are denormalized first and then passed to the constructor at
+     * once, instead of creating an empty instance and writing its fields. Missing values are passed as {@code null} or
+     * zero. Classes without canonical constructor or having a registered {@link InstanceAssembler} are not affected.
+     * @see CanonicalConstructor
+     */
+    PREFER_CANONICAL_CONSTRUCTOR,
+
+    /**
+     * When denormalizing in parallel, continues after an element fails instead of failing fast.<br>
+     * Every element is denormalized, and the exception of the first failed element is thrown with the exceptions of
+     * other failed elements added as suppressed in order. This helps to report all errors of a large config at once.
+     * Sequential denormalization always fails fast.
+     * @see ConfigFactory.Builder#useParallelDenormalization(int, java.util.concurrent.Executor)
+     */
+    COLLECT_PARALLEL_ERRORS
   }
 }
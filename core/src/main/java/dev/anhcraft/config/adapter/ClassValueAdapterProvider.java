@@ -0,0 +1,36 @@
+package dev.anhcraft.config.adapter;
+
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A class-value adapter provider caches type adapter lookup per class using {@link ClassValue}.<br>
+ * The resolution is the same as {@link IndexedAdapterProvider}, and negative results are cached as well. Unlike
+ * {@link CacheableAdapterProvider}, the index is never modified after construction and the cache is maintained by the
+ * JVM, so lookups are lock-free and safe to be done concurrently.
+ */
+public class ClassValueAdapterProvider extends IndexedAdapterProvider {
+  private final ClassValue<Optional<TypeAdapter<?>>> cache =
+      new ClassValue<>() {
+        @Override
+        protected Optional<TypeAdapter<?>> computeValue(Class<?> type) {
+          return Optional.ofNullable(lookup(type));
+        }
+      };
+
+  public ClassValueAdapterProvider(@NotNull LinkedHashMap<Class<?>, TypeAdapter<?>> typeAdapters) {
+    super(typeAdapters);
+  }
+
+  private TypeAdapter<?> lookup(Class<?> type) {
+    return super.getTypeAdapter(type);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public @Nullable <T> TypeAdapter<T> getTypeAdapter(@NotNull Class<T> type) {
+    return (TypeAdapter<T>) cache.get(type).orElse(null);
+  }
+}
@@ -0,0 +1,23 @@
+package dev.anhcraft.config.adapter;
+
+import dev.anhcraft.config.context.Context;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link TypeAnnotator} that can produce a {@code double} without boxing.<br>
+ * When denormalizing a number into a {@code double} property, the denormalizer may call
+ * {@link #complexifyDouble(Context, Number)} instead of {@link #complexify(Context, Object, java.lang.reflect.Type)}.
+ * Both methods must produce the same value for the same number.<br>
+ * This only happens once the schema of the property is compiled into a codec, see
+ * {@link dev.anhcraft.config.ConfigFactory.Builder#useCodecCompilation(int)}.
+ */
+public interface DoubleAnnotator extends TypeAnnotator<Double> {
+  /**
+   * Converts the given number to a {@code double}.
+   * @param ctx the context
+   * @param value the number
+   * @return the {@code double} value
+   * @throws Exception may throw exceptions during conversion
+   */
+  double complexifyDouble(@NotNull Context ctx, @NotNull Number value) throws Exception;
+}
@@ -0,0 +1,23 @@
+package dev.anhcraft.config.adapter;
+
+import dev.anhcraft.config.context.Context;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link TypeAnnotator} that can produce an {@code int} without boxing.<br>
+ * When denormalizing a number into an {@code int} property, the denormalizer may call
+ * {@link #complexifyInt(Context, Number)} instead of {@link #complexify(Context, Object, java.lang.reflect.Type)}.
+ * Both methods must produce the same value for the same number.<br>
+ * This only happens once the schema of the property is compiled into a codec, see
+ * {@link dev.anhcraft.config.ConfigFactory.Builder#useCodecCompilation(int)}.
+ */
+public interface IntAnnotator extends TypeAnnotator<Integer> {
+  /**
+   * Converts the given number to an {@code int}.
+   * @param ctx the context
+   * @param value the number
+   * @return the {@code int} value
+   * @throws Exception may throw exceptions during conversion
+   */
+  int complexifyInt(@NotNull Context ctx, @NotNull Number value) throws Exception;
+}
@@ -0,0 +1,23 @@
+package dev.anhcraft.config.adapter;
+
+import dev.anhcraft.config.context.Context;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link TypeAnnotator} that can produce a {@code long} without boxing.<br>
+ * When denormalizing a number into a {@code long} property, the denormalizer may call
+ * {@link #complexifyLong(Context, Number)} instead of {@link #complexify(Context, Object, java.lang.reflect.Type)}.
+ * Both methods must produce the same value for the same number.<br>
+ * This only happens once the schema of the property is compiled into a codec, see
+ * {@link dev.anhcraft.config.ConfigFactory.Builder#useCodecCompilation(int)}.
+ */
+public interface LongAnnotator extends TypeAnnotator<Long> {
+  /**
+   * Converts the given number to a {@code long}.
+   * @param ctx the context
+   * @param value the number
+   * @return the {@code long} value
+   * @throws Exception may throw exceptions during conversion
+   */
+  long complexifyLong(@NotNull Context ctx, @NotNull Number value) throws Exception;
+}
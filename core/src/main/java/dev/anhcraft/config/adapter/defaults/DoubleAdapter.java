@@ -1,15 +1,20 @@
 package dev.anhcraft.config.adapter.defaults;
 
-import dev.anhcraft.config.adapter.TypeAnnotator;
+import dev.anhcraft.config.adapter.DoubleAnnotator;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.error.InvalidValueException;
 import java.lang.reflect.Type;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class DoubleAdapter implements TypeAnnotator<Double> {
+public class DoubleAdapter implements DoubleAnnotator {
   public static final DoubleAdapter INSTANCE = new DoubleAdapter();
 
+  @Override
+  public double complexifyDouble(@NotNull Context ctx, @NotNull Number value) {
+    return value.doubleValue();
+  }
+
   @Override
   public @Nullable Double complexify(
       @NotNull Context ctx, @NotNull Object value, @NotNull Type targetType) throws Exception {
@@ -1,16 +1,21 @@
 package dev.anhcraft.config.adapter.defaults;
 
 import dev.anhcraft.config.SettingFlag;
-import dev.anhcraft.config.adapter.TypeAnnotator;
+import dev.anhcraft.config.adapter.IntAnnotator;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.error.InvalidValueException;
 import java.lang.reflect.Type;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class IntegerAdapter implements TypeAnnotator<Integer> {
+public class IntegerAdapter implements IntAnnotator {
   public static final IntegerAdapter INSTANCE = new IntegerAdapter();
 
+  @Override
+  public int complexifyInt(@NotNull Context ctx, @NotNull Number value) {
+    return value.intValue();
+  }
+
   @Override
   public @Nullable Integer complexify(
       @NotNull Context ctx, @NotNull Object value, @NotNull Type targetType) throws Exception {
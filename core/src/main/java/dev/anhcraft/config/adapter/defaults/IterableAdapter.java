@@ -18,11 +18,17 @@ public class IterableAdapter implements TypeAdapter<Iterable> {
   public @Nullable Object simplify(
       @NotNull Context ctx, @NotNull Class<? extends Iterable> sourceType, @NotNull Iterable value)
       throws Exception {
-    List<Object> list = new ArrayList<>();
-    for (Object object : value) {
-      list.add(ctx.simplify(ctx, object.getClass(), object));
+    Object[] elements;
+    if (value instanceof Collection) {
+      elements = ((Collection) value).toArray();
+    } else {
+      List<Object> list = new ArrayList<>();
+      for (Object object : value) {
+        list.add(object);
+      }
+      elements = list.toArray();
     }
-    return list.toArray();
+    return ctx.getFactory().getNormalizer().simplifyAll(ctx, elements);
   }
 
   @Override
@@ -35,37 +41,50 @@ public class IterableAdapter implements TypeAdapter<Iterable> {
       if (componentType == null) return null;
 
       int length = Array.getLength(value);
-      Class<?> targetClazz = ComplexTypes.erasure(targetType);
-      Collection<Object> collection;
+      Object[] elements = new Object[length];
+      for (int i = 0; i < length; i++) elements[i] = Array.get(value, i);
+      elements = ctx.getFactory().getDenormalizer().complexifyAll(ctx, elements, componentType);
+      return collect(ComplexTypes.erasure(targetType), elements);
+    }
+    return null;
+  }
+
+  /**
+   * Collects the given complex elements into a new collection compatible to the given class where possible.
+   * @param targetClazz the target class
+   * @param elements the complex elements
+   * @return the collection
+   */
+  public @NotNull Collection<Object> collect(
+      @NotNull Class<?> targetClazz, @Nullable Object @NotNull [] elements) {
+    int length = elements.length;
+    Collection<Object> collection;
 
-      if (LinkedList.class.isAssignableFrom(targetClazz)) {
-        collection = new LinkedList<>();
-      } else if (Queue.class.isAssignableFrom(targetClazz)) {
-        if (Deque.class.isAssignableFrom(targetClazz)) {
-          collection = new ArrayDeque<>(length);
-        } else {
-          collection = new PriorityQueue<>(length);
-        }
-      } else if (Set.class.isAssignableFrom(targetClazz)) {
-        if (SortedSet.class.isAssignableFrom(targetClazz)) {
-          collection = new TreeSet<>();
-        } else if (LinkedHashSet.class.isAssignableFrom(targetClazz)) {
-          collection = new LinkedHashSet<>(length);
-        } else {
-          collection = new HashSet<>(length);
-        }
-      } else if (Stack.class.isAssignableFrom(targetClazz)) {
-        collection = new Stack<>();
-      } else if (Vector.class.isAssignableFrom(targetClazz)) {
-        collection = new Vector<>(length);
+    if (LinkedList.class.isAssignableFrom(targetClazz)) {
+      collection = new LinkedList<>();
+    } else if (Queue.class.isAssignableFrom(targetClazz)) {
+      if (Deque.class.isAssignableFrom(targetClazz)) {
+        collection = new ArrayDeque<>(length);
       } else {
-        collection = new ArrayList<>(length);
+        collection = new PriorityQueue<>(length);
       }
-
-      for (int i = 0; i < length; i++)
-        collection.add(ctx.complexify(ctx, Array.get(value, i), componentType));
-      return collection;
+    } else if (Set.class.isAssignableFrom(targetClazz)) {
+      if (SortedSet.class.isAssignableFrom(targetClazz)) {
+        collection = new TreeSet<>();
+      } else if (LinkedHashSet.class.isAssignableFrom(targetClazz)) {
+        collection = new LinkedHashSet<>(length);
+      } else {
+        collection = new HashSet<>(length);
+      }
+    } else if (Stack.class.isAssignableFrom(targetClazz)) {
+      collection = new Stack<>();
+    } else if (Vector.class.isAssignableFrom(targetClazz)) {
+      collection = new Vector<>(length);
+    } else {
+      collection = new ArrayList<>(length);
     }
-    return null;
+
+    Collections.addAll(collection, elements);
+    return collection;
   }
 }
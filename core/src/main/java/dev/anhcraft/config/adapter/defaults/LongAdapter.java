@@ -1,16 +1,21 @@
 package dev.anhcraft.config.adapter.defaults;
 
 import dev.anhcraft.config.SettingFlag;
-import dev.anhcraft.config.adapter.TypeAnnotator;
+import dev.anhcraft.config.adapter.LongAnnotator;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.error.InvalidValueException;
 import java.lang.reflect.Type;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class LongAdapter implements TypeAnnotator<Long> {
+public class LongAdapter implements LongAnnotator {
   public static final LongAdapter INSTANCE = new LongAdapter();
 
+  @Override
+  public long complexifyLong(@NotNull Context ctx, @NotNull Number value) {
+    return value.longValue();
+  }
+
   @Override
   public @Nullable Long complexify(
       @NotNull Context ctx, @NotNull Object value, @NotNull Type targetType) throws Exception {
@@ -1,5 +1,6 @@
 package dev.anhcraft.config.adapter.defaults;
 
+import dev.anhcraft.config.ConfigDenormalizer;
 import dev.anhcraft.config.Dictionary;
 import dev.anhcraft.config.SchemalessDictionary;
 import dev.anhcraft.config.adapter.TypeAdapter;
@@ -19,12 +20,19 @@ public class MapAdapter implements TypeAdapter<Map> {
   public @Nullable Object simplify(
       @NotNull Context ctx, @NotNull Class<? extends Map> sourceType, @NotNull Map value)
       throws Exception {
+    // keys and values are interleaved to be simplified in one batch
+    Map.Entry[] entries = (Map.Entry[]) value.entrySet().toArray(new Map.Entry[0]);
+    Object[] pairs = new Object[entries.length << 1];
+    for (int i = 0; i < entries.length; i++) {
+      pairs[i << 1] = entries[i].getKey();
+      pairs[(i << 1) + 1] = entries[i].getValue();
+    }
+    Object[] simple = ctx.getFactory().getNormalizer().simplifyAll(ctx, pairs);
     Dictionary dict = new SchemalessDictionary();
-    Set<Map.Entry> entries = value.entrySet();
-    for (Map.Entry object : entries) {
-      Object key = ctx.simplify(ctx, object.getKey().getClass(), object.getKey());
+    for (int i = 0; i < simple.length; i += 2) {
+      Object key = simple[i];
       if (key == null || !SimpleTypes.isScalar(key.getClass())) continue;
-      Object val = ctx.simplify(ctx, object.getValue().getClass(), object.getValue());
+      Object val = simple[i + 1];
       if (val == null) continue;
       dict.put(String.valueOf(key), val);
     }
@@ -50,11 +58,20 @@ public class MapAdapter implements TypeAdapter<Map> {
         map = new LinkedHashMap<>();
       }
 
-      for (Map.Entry<String, Object> entry : ((Dictionary) value).entrySet()) {
-        Object key = ctx.complexify(ctx, entry.getKey(), keyType);
-        Object val = ctx.complexify(ctx, entry.getValue(), valueType);
-        if (key == null || val == null) continue;
-        map.put(key, val);
+      Dictionary dict = (Dictionary) value;
+      Object[] keys = new Object[dict.size()];
+      Object[] values = new Object[keys.length];
+      int n = 0;
+      for (Map.Entry<String, Object> entry : dict.entrySet()) {
+        keys[n] = entry.getKey();
+        values[n++] = entry.getValue();
+      }
+      ConfigDenormalizer denormalizer = ctx.getFactory().getDenormalizer();
+      keys = denormalizer.complexifyAll(ctx, keys, keyType);
+      values = denormalizer.complexifyAll(ctx, values, valueType);
+      for (int i = 0; i < n; i++) {
+        if (keys[i] == null || values[i] == null) continue;
+        map.put(keys[i], values[i]);
       }
       return map;
     }
@@ -0,0 +1,127 @@
+package dev.anhcraft.config.blueprint;
+
+import dev.anhcraft.config.adapter.AdapterProvider;
+import dev.anhcraft.config.adapter.TypeAdapter;
+import dev.anhcraft.config.type.ComplexTypes;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Adapter bindings are the type adapters of properties resolved in advance from their declared types.<br>
+ * The i-th binding corresponds to the i-th property of {@link ClassSchema#properties()}.
+ * <ul>
+ *   <li>Normalization: the adapter is looked up from the runtime class of a value. It is only bound if the declared
+ *   type rules out subtypes, i.e. a primitive type, an enum or a final class except arrays. In that case, the runtime
+ *   class is the declared type or its primitive wrapper.</li>
+ *   <li>Denormalization: the adapter is looked up from the erasure of the target type, which does not depend on the
+ *   value. It is bound if the declared type is a class or a parameterized type except arrays and {@link Object}.</li>
+ * </ul>
+ * Properties without a binding must be looked up dynamically.<br>
+ * This class is immutable and thread-safe.
+ */
+public final class AdapterBindings {
+  private final AdapterProvider provider;
+  private final Class<?>[] exactTypes;
+  private final TypeAdapter<?>[] normalizationAdapters;
+  private final Class<?>[] erasures;
+  private final TypeAdapter<?>[] denormalizationAdapters;
+
+  private AdapterBindings(
+      AdapterProvider provider,
+      Class<?>[] exactTypes,
+      TypeAdapter<?>[] normalizationAdapters,
+      Class<?>[] erasures,
+      TypeAdapter<?>[] denormalizationAdapters) {
+    this.provider = provider;
+    this.exactTypes = exactTypes;
+    this.normalizationAdapters = normalizationAdapters;
+    this.erasures = erasures;
+    this.denormalizationAdapters = denormalizationAdapters;
+  }
+
+  /**
+   * Binds the type adapters of the given properties.
+   * @param properties the properties
+   * @param provider the adapter provider
+   * @return the bindings
+   */
+  static @NotNull AdapterBindings of(
+      @NotNull List<ClassProperty> properties, @NotNull AdapterProvider provider) {
+    int n = properties.size();
+    Class<?>[] exactTypes = new Class<?>[n];
+    TypeAdapter<?>[] normalizationAdapters = new TypeAdapter<?>[n];
+    Class<?>[] erasures = new Class<?>[n];
+    TypeAdapter<?>[] denormalizationAdapters = new TypeAdapter<?>[n];
+
+    for (int i = 0; i < n; i++) {
+      Type type = properties.get(i).type();
+      Class<?> erasure = null;
+      if (type instanceof Class) erasure = (Class<?>) type;
+      else if (type instanceof ParameterizedType
+          && ((ParameterizedType) type).getRawType() instanceof Class)
+        erasure = (Class<?>) ((ParameterizedType) type).getRawType();
+      if (erasure == null || erasure.isArray() || erasure == Object.class) continue;
+
+      erasures[i] = erasure;
+      denormalizationAdapters[i] = provider.getTypeAdapter(erasure);
+      if (erasure.isPrimitive() || erasure.isEnum() || Modifier.isFinal(erasure.getModifiers())) {
+        exactTypes[i] = ComplexTypes.wrapPrimitive(erasure);
+        normalizationAdapters[i] = provider.getTypeAdapter(exactTypes[i]);
+      }
+    }
+
+    return new AdapterBindings(
+        provider, exactTypes, normalizationAdapters, erasures, denormalizationAdapters);
+  }
+
+  /**
+   * Gets the adapter provider these bindings were resolved from.
+   * @return the adapter provider
+   */
+  public @NotNull AdapterProvider provider() {
+    return provider;
+  }
+
+  /**
+   * Gets the runtime class of the values of the property at the given index.<br>
+   * Primitive types are wrapped.
+   * @param index the property index
+   * @return the class or {@code null} if the declared type is polymorphic
+   */
+  public @Nullable Class<?> exactType(int index) {
+    return exactTypes[index];
+  }
+
+  /**
+   * Gets the adapter used to normalize the property at the given index.<br>
+   * This is only meaningful if {@link #exactType(int)} is not {@code null}.
+   * @param index the property index
+   * @return the adapter or {@code null} if no adapter is registered for the type
+   */
+  public @Nullable TypeAdapter<?> normalizationAdapter(int index) {
+    return normalizationAdapters[index];
+  }
+
+  /**
+   * Gets the erasure of the declared type of the property at the given index.
+   * @param index the property index
+   * @return the erasure or {@code null} if the property is not bound for denormalization
+   */
+  public @Nullable Class<?> erasure(int index) {
+    return erasures[index];
+  }
+
+  /**
+   * Gets the adapter used to denormalize the property at the given index.<br>
+   * This is only meaningful if {@link #erasure(int)} is not {@code null}.
+   * @param index the property index
+   * @return the adapter or {@code null} if no adapter is registered for the type
+   */
+  public @Nullable TypeAdapter<?> denormalizationAdapter(int index) {
+    return denormalizationAdapters[index];
+  }
+}
@@ -0,0 +1,73 @@
+package dev.anhcraft.config.blueprint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A class codec provides reflection-free access to the members of a class.<br>
+ * Class codecs are generated at compile time by the annotation processor in {@code config-processor}. The generated
+ * class is placed in the same package as the class and named after its binary name followed by {@link #SUFFIX}.
+ * When a codec is found on the classpath, {@link ReflectSchemaScanner} builds the declared properties from the field
+ * metadata of the codec and binds properties and processors through it instead of going through reflection. Members
+ * that cannot be accessed from the generated code (e.g. private members) are still handled by reflection.
+ * @param <T> the type of the class
+ */
+public interface ClassCodec<T> {
+  /**
+   * The suffix appended to the binary name of a class to obtain the name of its codec.
+   */
+  String SUFFIX = "_ConfigCodec";
+
+  /**
+   * Looks up the codec of the given class.<br>
+   * The result is cached for future calls.
+   * @param type the class
+   * @return the codec or {@code null} if not exists
+   */
+  static @Nullable ClassCodec<?> lookup(@NotNull Class<?> type) {
+    return ClassCodecLookup.CODECS.get(type);
+  }
+
+  /**
+   * Gets the associated class.
+   * @return the class
+   */
+  @NotNull Class<T> type();
+
+  /**
+   * Gets the accessor of the given field declared in the class.
+   * @param field the field name
+   * @return the accessor or {@code null} if the field is not accessible from the codec
+   */
+  @Nullable PropertyAccessor accessor(@NotNull String field);
+
+  /**
+   * Gets the metadata of the fields declared in the class which are eligible as properties, in declaration order.<br>
+   * Fields which are static, transient or annotated with {@link dev.anhcraft.config.meta.Exclude} are not included.
+   * @return the metadata or {@code null} if not available
+   */
+  default @Nullable List<FieldMetadata> fields() {
+    return null;
+  }
+
+  /**
+   * Gets the normalization processors declared in the class, mapped by property name.
+   * @return the processors or {@code null} if some of them are not accessible from the codec
+   */
+  @Nullable Map<String, Processor> normalizers();
+
+  /**
+   * Gets the denormalization processors declared in the class, mapped by property name.
+   * @return the processors or {@code null} if some of them are not accessible from the codec
+   */
+  @Nullable Map<String, Processor> denormalizers();
+
+  /**
+   * Gets the no-args constructor of the class.
+   * @return the constructor or {@code null} if there is no accessible no-args constructor
+   */
+  @Nullable Supplier<T> constructor();
+}
@@ -0,0 +1,27 @@
+package dev.anhcraft.config.blueprint;
+
+import org.jetbrains.annotations.ApiStatus;
+
+@ApiStatus.Internal
+final class ClassCodecLookup {
+  static final ClassValue<ClassCodec<?>> CODECS =
+      new ClassValue<>() {
+        @Override
+        protected ClassCodec<?> computeValue(Class<?> type) {
+          if (type.isPrimitive() || type.isArray()) return null;
+          try {
+            Class<?> codecClass =
+                Class.forName(type.getName() + ClassCodec.SUFFIX, true, type.getClassLoader());
+            if (!ClassCodec.class.isAssignableFrom(codecClass)) return null;
+            ClassCodec<?> codec = (ClassCodec<?>) codecClass.getDeclaredConstructor().newInstance();
+            return codec.type() == type ? codec : null;
+          } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+          } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate codec of " + type.getName(), e);
+          }
+        }
+      };
+
+  private ClassCodecLookup() {}
+}
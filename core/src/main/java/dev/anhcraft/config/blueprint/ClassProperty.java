@@ -63,4 +63,11 @@ public interface ClassProperty extends Property {
    * @return the field
    */
   @NotNull Field field();
+
+  /**
+   * Gets the accessor bound to the associated field.<br>
+   * It is recommended to use the accessor rather than {@link #field()} to read and write values.
+   * @return the accessor
+   */
+  @NotNull PropertyAccessor accessor();
 }
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.Nullable;
 @ApiStatus.Internal
 class ClassPropertyImpl extends AbstractProperty implements ClassProperty {
   private final Field field;
+  private final PropertyAccessor accessor;
   private final byte modifier; // optional, transient, constant
   private final Processor normalizer;
   private final Processor denormalizer;
@@ -20,11 +21,13 @@ class ClassPropertyImpl extends AbstractProperty implements ClassProperty {
       @NotNull List<String> description,
       @NotNull Validator validator,
       @NotNull Field field,
+      @NotNull PropertyAccessor accessor,
       byte modifier,
       @Nullable Processor normalizer,
       @Nullable Processor denormalizer) {
     super(naming, description, validator);
     this.field = field;
+    this.accessor = accessor;
     this.modifier = modifier;
     this.normalizer = normalizer;
     this.denormalizer = denormalizer;
@@ -66,4 +69,8 @@ class ClassPropertyImpl extends AbstractProperty implements ClassProperty {
   @NotNull public Field field() {
     return field;
   }
+
+  @NotNull public PropertyAccessor accessor() {
+    return accessor;
+  }
 }
@@ -1,5 +1,6 @@
 package dev.anhcraft.config.blueprint;
 
+import dev.anhcraft.config.adapter.AdapterProvider;
 import dev.anhcraft.config.type.ComplexTypes;
 import java.util.*;
 import org.jetbrains.annotations.NotNull;
@@ -18,11 +19,14 @@ public class ClassSchema extends AbstractSchema<ClassProperty> {
   private final int scannerIdentity;
   private final Class<?> type;
   private final ClassProperty fallback;
+  private final LazyEffectivePropertyResult effectiveResult;
   private final List<ClassProperty> declaredProperties;
   private final Map<String, ClassProperty> declaredPropertyLookup;
   private final ClassProperty declaredFallback;
 
   private volatile ClassSchema parent;
+  private volatile KeyIndex keyIndex;
+  private volatile AdapterBindings adapterBindings;
 
   // 1st bit: whether the class has no parent
   private byte internalState;
@@ -36,12 +40,55 @@ public class ClassSchema extends AbstractSchema<ClassProperty> {
       @NotNull List<ClassProperty> declaredProperties,
       @NotNull Map<String, ClassProperty> declaredPropertyLookup,
       @Nullable ClassProperty declaredFallback) {
+    this(
+        scanner,
+        type,
+        properties,
+        lookup,
+        fallback,
+        null,
+        declaredProperties,
+        declaredPropertyLookup,
+        declaredFallback);
+  }
+
+  // the effective properties are resolved on first access
+  ClassSchema(
+      @NotNull ClassSchemaScanner scanner,
+      @NotNull Class<?> type,
+      @NotNull LazyEffectivePropertyResult effectiveResult,
+      @NotNull List<ClassProperty> declaredProperties,
+      @NotNull Map<String, ClassProperty> declaredPropertyLookup,
+      @Nullable ClassProperty declaredFallback) {
+    this(
+        scanner,
+        type,
+        new LazyPropertyList(effectiveResult),
+        new LazyPropertyMap(effectiveResult),
+        null,
+        effectiveResult,
+        declaredProperties,
+        declaredPropertyLookup,
+        declaredFallback);
+  }
+
+  private ClassSchema(
+      ClassSchemaScanner scanner,
+      Class<?> type,
+      List<ClassProperty> properties,
+      Map<String, ClassProperty> lookup,
+      ClassProperty fallback,
+      LazyEffectivePropertyResult effectiveResult,
+      List<ClassProperty> declaredProperties,
+      Map<String, ClassProperty> declaredPropertyLookup,
+      ClassProperty declaredFallback) {
     super(properties, lookup);
     this.scanner = scanner;
     this.scannerIdentity =
         System.identityHashCode(scanner); // avoid GC relocation and custom-defined #hashCode
     this.type = type;
     this.fallback = fallback;
+    this.effectiveResult = effectiveResult;
     this.declaredProperties = Collections.unmodifiableList(declaredProperties);
     this.declaredPropertyLookup = Collections.unmodifiableMap(declaredPropertyLookup);
     this.declaredFallback = declaredFallback;
@@ -82,6 +129,32 @@ public class ClassSchema extends AbstractSchema<ClassProperty> {
     return parentRef;
   }
 
+  /**
+   * Gets the key index of the effective properties.<br>
+   * The index is built on first access.
+   * @return the key index
+   * @see KeyIndex
+   */
+  public @NotNull KeyIndex keyIndex() {
+    KeyIndex index = keyIndex;
+    if (index == null) keyIndex = index = KeyIndex.of(properties());
+    return index;
+  }
+
+  /**
+   * Gets the adapter bindings of the effective properties.<br>
+   * The bindings are resolved on first access and kept as long as the same provider is given.
+   * @param provider the adapter provider
+   * @return the adapter bindings
+   * @see AdapterBindings
+   */
+  public @NotNull AdapterBindings adapterBindings(@NotNull AdapterProvider provider) {
+    AdapterBindings bindings = adapterBindings;
+    if (bindings == null || bindings.provider() != provider)
+      adapterBindings = bindings = AdapterBindings.of(properties(), provider);
+    return bindings;
+  }
+
   /**
    * Gets the associated class.
    * @return the class
@@ -95,6 +168,7 @@ public class ClassSchema extends AbstractSchema<ClassProperty> {
    * @return the fallback
    */
   public @Nullable ClassProperty fallback() {
+    if (effectiveResult != null) return effectiveResult.getPropertyListResult().fallback;
     return fallback;
   }
 
@@ -0,0 +1,58 @@
+package dev.anhcraft.config.blueprint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The metadata of a field read from its annotations at compile time, see {@link ClassCodec#fields()}.<br>
+ * The metadata is independent of the naming policy: the primary name is derived from the field name when the schema is
+ * scanned, in the same way as for a field scanned by reflection.
+ */
+public final class FieldMetadata {
+  final String name;
+  final String[] names;
+  final String[] aliases;
+  final List<String> description;
+  final byte modifier;
+  final String validation;
+  final boolean silentValidation;
+
+  /**
+   * Constructs the metadata of a field.
+   * @param name the field name
+   * @param names the values of {@link dev.anhcraft.config.meta.Name}
+   * @param aliases the values of {@link dev.anhcraft.config.meta.Alias}
+   * @param description the values of {@link dev.anhcraft.config.meta.Describe}
+   * @param modifier the property modifier, see {@link ClassProperty#modifier()}
+   * @param validation the value of {@link dev.anhcraft.config.meta.Validate} or {@code null} if not exists
+   * @param silentValidation whether the validation is silent
+   */
+  public FieldMetadata(
+      @NotNull String name,
+      @NotNull String[] names,
+      @NotNull String[] aliases,
+      @NotNull String[] description,
+      byte modifier,
+      @Nullable String validation,
+      boolean silentValidation) {
+    this.name = name;
+    this.names = names;
+    this.aliases = aliases;
+    this.description =
+        description.length == 0 ? Collections.emptyList() : Arrays.asList(description);
+    this.modifier = modifier;
+    this.validation = validation;
+    this.silentValidation = silentValidation;
+  }
+
+  /**
+   * Gets the field name.
+   * @return the field name
+   */
+  public @NotNull String name() {
+    return name;
+  }
+}
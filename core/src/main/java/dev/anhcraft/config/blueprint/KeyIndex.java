@@ -0,0 +1,295 @@
+package dev.anhcraft.config.blueprint;
+
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.SchemalessDictionary;
+import dev.anhcraft.config.meta.Fallback;
+import java.util.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A key index maps every setting key to the {@link ClassProperty} it is denormalized into.<br>
+ * The index covers the primary names and aliases of all non-constant properties of a {@link ClassSchema}, as well as
+ * the fallback property and its {@link Fallback.Distinct} rule. It is built once per schema and allows to route the
+ * entries of a dictionary to the properties by iterating the dictionary once, see {@link #route(Dictionary)}.<br>
+ * When a dictionary contains more than one name of a property, the primary name has the highest priority, followed by
+ * the aliases in their declared order. This is consistent to {@link Dictionary#search(String, Iterable)}.<br>
+ * A name shared by several properties is matched to each of them independently, as if every property searched the
+ * dictionary on its own. Schemas created by {@link ReflectSchemaScanner} never share names, but other schemas may.<br>
+ * This class is immutable and thread-safe.
+ */
+public final class KeyIndex {
+  private final List<ClassProperty> properties;
+  private final String[][] names;
+  private final int[] positions;
+  private final Map<String, Slot> slots;
+  private final ClassProperty fallback;
+  private final boolean distinctByName;
+  private final boolean sharedNames;
+
+  private KeyIndex(
+      List<ClassProperty> properties,
+      String[][] names,
+      int[] positions,
+      Map<String, Slot> slots,
+      ClassProperty fallback,
+      boolean distinctByName,
+      boolean sharedNames) {
+    this.properties = properties;
+    this.names = names;
+    this.positions = positions;
+    this.slots = slots;
+    this.fallback = fallback;
+    this.distinctByName = distinctByName;
+    this.sharedNames = sharedNames;
+  }
+
+  /**
+   * Builds the index from the given effective properties.
+   * @param schemaProperties the properties
+   * @return the index
+   */
+  static @NotNull KeyIndex of(@NotNull List<ClassProperty> schemaProperties) {
+    List<ClassProperty> properties = new ArrayList<>(schemaProperties.size());
+    List<String[]> names = new ArrayList<>(schemaProperties.size());
+    int[] positions = new int[schemaProperties.size()];
+    Map<String, Slot> slots = new HashMap<>();
+    ClassProperty fallback = null;
+    boolean distinctByName = true;
+    boolean sharedNames = false;
+
+    for (int position = 0; position < schemaProperties.size(); position++) {
+      ClassProperty property = schemaProperties.get(position);
+      if (property.isConstant()) continue;
+      if (property.isFallback()) {
+        fallback = property;
+        Fallback annotation = property.field().getAnnotation(Fallback.class);
+        distinctByName = annotation == null || annotation.distinctBy() == Fallback.Distinct.NAME;
+        continue;
+      }
+      int index = properties.size();
+      String[] propertyNames = new String[1 + property.aliases().size()];
+      propertyNames[0] = property.name();
+      int rank = 1;
+      for (String alias : property.aliases()) {
+        propertyNames[rank++] = alias;
+      }
+      for (rank = 0; rank < propertyNames.length; rank++) {
+        Slot slot = new Slot(index, rank);
+        Slot head = slots.putIfAbsent(propertyNames[rank], slot);
+        if (head == null) continue;
+        // the name is shared, the slots are chained in the schema order
+        while (head.next != null) head = head.next;
+        head.next = slot;
+        sharedNames = true;
+      }
+      positions[index] = position;
+      properties.add(property);
+      names.add(propertyNames);
+    }
+
+    return new KeyIndex(
+        Collections.unmodifiableList(properties),
+        names.toArray(new String[0][]),
+        Arrays.copyOf(positions, properties.size()),
+        slots,
+        fallback,
+        distinctByName,
+        sharedNames);
+  }
+
+  /**
+   * Gets the indexed properties in the schema order.<br>
+   * Constant properties and the fallback property are not included.
+   * @return the properties
+   */
+  public @NotNull List<ClassProperty> properties() {
+    return properties;
+  }
+
+  /**
+   * Gets the fallback property.
+   * @return the fallback or {@code null} if not exists
+   */
+  public @Nullable ClassProperty fallback() {
+    return fallback;
+  }
+
+  /**
+   * Gets the position of the property at the given index in {@link ClassSchema#properties()}.
+   * @param index the property index
+   * @return the position
+   */
+  public int position(int index) {
+    return positions[index];
+  }
+
+  /**
+   * Checks whether the fallback property catches the names of a property other than the one matched.<br>
+   * This is the case if the fallback property is distinct by name, see {@link Fallback.Distinct#NAME}.
+   * @return {@code true} if unmatched names are caught
+   */
+  public boolean isDistinctByName() {
+    return distinctByName;
+  }
+
+  /**
+   * Checks whether a name is shared by more than one property.<br>
+   * If so, a slot may be followed by other slots of the same name, see {@link Slot#next()}.
+   * @return {@code true} if there is a shared name
+   */
+  public boolean hasSharedNames() {
+    return sharedNames;
+  }
+
+  /**
+   * Looks up the slot of the given key.<br>
+   * This allows to route the entries of a dictionary one by one as they come, e.g. from a stream. If the key is shared
+   * by several properties, the slot of the first property is returned, followed by the others via {@link Slot#next()}.
+   * @param key the key
+   * @return the slot or {@code null} if the key is not a name of any property
+   */
+  public @Nullable Slot slot(@NotNull String key) {
+    return slots.get(key);
+  }
+
+  /**
+   * Routes the entries of the given dictionary.<br>
+   * Each entry is either matched to the property it belongs to, or caught by the fallback property if exists. Entries
+   * which are neither matched nor caught are ignored.
+   * @param dictionary the dictionary
+   * @return the routing
+   */
+  public @NotNull Routing route(@NotNull Dictionary dictionary) {
+    int size = properties.size();
+    String[] keys = new String[size];
+    Object[] values = new Object[size];
+    SchemalessDictionary trap = fallback == null ? null : new SchemalessDictionary();
+
+    for (Map.Entry<String, Object> entry : dictionary.entrySet()) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+      if (value == null) continue;
+      Slot slot = slots.get(key);
+      if (slot == null) {
+        if (trap != null) trap.put(key, value);
+        continue;
+      }
+      boolean matched = false;
+      for (; slot != null; slot = slot.next) {
+        if (slot.rank == 0 || !hasPrecedingName(dictionary, names[slot.property], slot.rank)) {
+          keys[slot.property] = key;
+          values[slot.property] = value;
+          matched = true;
+        }
+      }
+      if (!matched && trap != null && distinctByName) trap.put(key, value);
+    }
+
+    return new Routing(keys, values, trap);
+  }
+
+  private static boolean hasPrecedingName(Dictionary dictionary, String[] names, int rank) {
+    for (int i = 0; i < rank; i++) {
+      if (dictionary.get(names[i]) != null) return true;
+    }
+    return false;
+  }
+
+  /**
+   * The slot of a key in a {@link KeyIndex}.
+   */
+  public static final class Slot {
+    private final int property;
+    private final int rank;
+    private Slot next;
+
+    private Slot(int property, int rank) {
+      this.property = property;
+      this.rank = rank;
+    }
+
+    /**
+     * Gets the index of the property in {@link KeyIndex#properties()}.
+     * @return the property index
+     */
+    public int property() {
+      return property;
+    }
+
+    /**
+     * Gets the rank of the key among the names of the property.<br>
+     * The primary name has the rank {@code 0}, followed by the aliases in their declared order.
+     * @return the rank
+     */
+    public int rank() {
+      return rank;
+    }
+
+    /**
+     * Gets the slot of the next property sharing the same key.
+     * @return the next slot or {@code null} if there is none
+     */
+    public @Nullable Slot next() {
+      return next;
+    }
+  }
+
+  /**
+   * The result of routing a dictionary through a {@link KeyIndex}.<br>
+   * The i-th property of {@link KeyIndex#properties()} corresponds to the setting at the same index.
+   */
+  public static final class Routing {
+    private final String[] keys;
+    private final Object[] values;
+    private final Dictionary trap;
+
+    private Routing(String[] keys, Object[] values, Dictionary trap) {
+      this.keys = keys;
+      this.values = values;
+      this.trap = trap;
+    }
+
+    /**
+     * Creates a routing from the entries matched elsewhere, e.g. while streaming a dictionary.<br>
+     * The arrays are not copied.
+     * @param keys the keys matched to the properties, {@code null} for unmatched properties
+     * @param values the values matched to the properties
+     * @param trap the settings caught by the fallback property or {@code null} if there is no fallback property
+     * @return the routing
+     */
+    public static @NotNull Routing of(
+        @Nullable String @NotNull [] keys,
+        @Nullable Object @NotNull [] values,
+        @Nullable Dictionary trap) {
+      return new Routing(keys, values, trap);
+    }
+
+    /**
+     * Gets the key matched to the property at the given index.
+     * @param index the property index
+     * @return the key or an empty string if the property is not matched
+     */
+    public @NotNull String key(int index) {
+      String key = keys[index];
+      return key == null ? "" : key;
+    }
+
+    /**
+     * Gets the value matched to the property at the given index.
+     * @param index the property index
+     * @return the value or {@code null} if the property is not matched
+     */
+    public @Nullable Object value(int index) {
+      return values[index];
+    }
+
+    /**
+     * Gets the settings caught by the fallback property.
+     * @return the settings or {@code null} if there is no fallback property
+     */
+    public @Nullable Dictionary trap() {
+      return trap;
+    }
+  }
+}
@@ -1,8 +1,8 @@
 package dev.anhcraft.config.blueprint;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Function;
 import org.jetbrains.annotations.ApiStatus;
 
 @ApiStatus.Internal
@@ -29,35 +29,61 @@ class LazyEffectivePropertyResult {
   }
 
   private ReflectSchemaScanner.PropertyScanResult scanEffectiveList() {
-    Deque<Field> fieldDeque = new ArrayDeque<>();
+    Deque<ReflectSchemaScanner.DeclaredMembers> memberDeque = new ArrayDeque<>();
 
     Class<?> clazz = type;
     while (clazz != null && clazz != Object.class) {
-      Field[] fields = clazz.getDeclaredFields();
-      for (int i = fields.length - 1; i >= 0; i--) {
-        fieldDeque.addFirst(fields[i]);
-      }
+      memberDeque.addFirst(scanner.scanDeclaredMembers(clazz));
       clazz = clazz.getSuperclass();
     }
 
+    List<ReflectSchemaScanner.ScannedField> fields = new ArrayList<>();
+    for (ReflectSchemaScanner.DeclaredMembers members : memberDeque) {
+      fields.addAll(members.fields);
+    }
+
     return scanner.scanPropertyList(
-        fieldDeque,
-        () -> scanner.scanNormalizers(collectMethods()),
-        () -> scanner.scanDenormalizers(collectMethods()));
+        fields,
+        () -> {
+          Map<String, Processor> processors = collectCodecProcessors(ClassCodec::normalizers);
+          if (processors != null) return processors;
+          return scanner.scanNormalizers(collectMethods(memberDeque));
+        },
+        () -> {
+          Map<String, Processor> processors = collectCodecProcessors(ClassCodec::denormalizers);
+          if (processors != null) return processors;
+          return scanner.scanDenormalizers(collectMethods(memberDeque));
+        });
   }
 
-  private Collection<Method> collectMethods() {
-    Deque<Method> methodDeque = new ArrayDeque<>();
+  // processors from subclasses override ones from superclasses, similar to scanning the methods
+  private Map<String, Processor> collectCodecProcessors(
+      Function<ClassCodec<?>, Map<String, Processor>> getter) {
+    Deque<Map<String, Processor>> processorDeque = new ArrayDeque<>();
 
     Class<?> clazz = type;
     while (clazz != null && clazz != Object.class) {
-      Method[] methods = clazz.getDeclaredMethods();
-      for (int i = methods.length - 1; i >= 0; i--) {
-        methodDeque.addFirst(methods[i]);
-      }
+      ClassCodec<?> codec = ClassCodec.lookup(clazz);
+      if (codec == null) return null;
+      Map<String, Processor> processors = getter.apply(codec);
+      if (processors == null) return null;
+      processorDeque.addFirst(processors);
       clazz = clazz.getSuperclass();
     }
 
-    return methodDeque;
+    Map<String, Processor> lookup = new LinkedHashMap<>();
+    for (Map<String, Processor> processors : processorDeque) {
+      lookup.putAll(processors);
+    }
+    return lookup;
+  }
+
+  private Collection<Method> collectMethods(
+      Collection<ReflectSchemaScanner.DeclaredMembers> memberDeque) {
+    List<Method> methods = new ArrayList<>();
+    for (ReflectSchemaScanner.DeclaredMembers members : memberDeque) {
+      methods.addAll(members.processorMethods.get());
+    }
+    return methods;
   }
 }
@@ -0,0 +1,49 @@
+package dev.anhcraft.config.blueprint;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only view of the effective property list which is resolved on first access.
+ */
+@ApiStatus.Internal
+final class LazyPropertyList extends AbstractList<ClassProperty> implements RandomAccess {
+  private final LazyEffectivePropertyResult result;
+
+  LazyPropertyList(@NotNull LazyEffectivePropertyResult result) {
+    this.result = result;
+  }
+
+  private List<ClassProperty> resolve() {
+    return result.getPropertyListResult().properties;
+  }
+
+  @Override
+  public ClassProperty get(int index) {
+    return resolve().get(index);
+  }
+
+  @Override
+  public int size() {
+    return resolve().size();
+  }
+
+  @Override
+  public @NotNull Iterator<ClassProperty> iterator() {
+    return resolve().iterator();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return resolve().contains(o);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return resolve().indexOf(o);
+  }
+}
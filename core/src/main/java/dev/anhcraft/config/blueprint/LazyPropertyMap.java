@@ -0,0 +1,48 @@
+package dev.anhcraft.config.blueprint;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only view of the effective property lookup which is resolved on first access.
+ */
+@ApiStatus.Internal
+final class LazyPropertyMap extends AbstractMap<String, ClassProperty> {
+  private final LazyEffectivePropertyResult result;
+
+  LazyPropertyMap(@NotNull LazyEffectivePropertyResult result) {
+    this.result = result;
+  }
+
+  private Map<String, ClassProperty> resolve() {
+    return result.getPropertyListResult().propertyMap;
+  }
+
+  @Override
+  public ClassProperty get(Object key) {
+    return resolve().get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return resolve().containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return resolve().size();
+  }
+
+  @Override
+  public @NotNull Set<String> keySet() {
+    return resolve().keySet();
+  }
+
+  @Override
+  public @NotNull Set<Entry<String, ClassProperty>> entrySet() {
+    return resolve().entrySet();
+  }
+}
@@ -0,0 +1,219 @@
+package dev.anhcraft.config.blueprint;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link PropertyAccessor} backed by field getter and setter method handles.<br>
+ * The handles are adapted to {@code (Object)Object} and {@code (Object,Object)void} so that they can be invoked
+ * exactly without going through the reflection machinery.<br>
+ * For {@code int}, {@code long}, {@code double} and {@code boolean} fields, additional handles with the exact
+ * primitive type are bound so that the primitive-specialized methods do not box.
+ */
+@ApiStatus.Internal
+final class MethodHandleAccessor implements PropertyAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+  private final Class<?> primitiveType;
+  private final MethodHandle primitiveGetter;
+  private final MethodHandle primitiveSetter;
+
+  private MethodHandleAccessor(
+      MethodHandle getter,
+      MethodHandle setter,
+      Class<?> primitiveType,
+      MethodHandle primitiveGetter,
+      MethodHandle primitiveSetter) {
+    this.getter = getter;
+    this.setter = setter;
+    this.primitiveType = primitiveType;
+    this.primitiveGetter = primitiveGetter;
+    this.primitiveSetter = primitiveSetter;
+  }
+
+  /**
+   * Binds an accessor to the given field.<br>
+   * The field must be made accessible beforehand.
+   * @param field the field
+   * @return the accessor
+   */
+  static @NotNull PropertyAccessor of(@NotNull Field field) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      MethodHandle rawGetter = lookup.unreflectGetter(field);
+      MethodHandle rawSetter = lookup.unreflectSetter(field);
+      Class<?> type = field.getType();
+      Class<?> primitiveType = null;
+      MethodHandle primitiveGetter = null;
+      MethodHandle primitiveSetter = null;
+      if (type == int.class
+          || type == long.class
+          || type == double.class
+          || type == boolean.class) {
+        primitiveType = type;
+        primitiveGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+        primitiveSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+      }
+      return new MethodHandleAccessor(
+          rawGetter.asType(GETTER_TYPE),
+          rawSetter.asType(SETTER_TYPE),
+          primitiveType,
+          primitiveGetter,
+          primitiveSetter);
+    } catch (IllegalAccessException e) {
+      // e.g. the field is not writable via method handle, fall back to reflection
+      return new ReflectiveAccessor(field);
+    }
+  }
+
+  @Override
+  public @Nullable Object get(@NotNull Object instance) {
+    try {
+      return (Object) getter.invokeExact(instance);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public void set(@NotNull Object instance, @Nullable Object value) {
+    try {
+      setter.invokeExact(instance, value);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public int getInt(@NotNull Object instance) {
+    if (primitiveType != int.class) return PropertyAccessor.super.getInt(instance);
+    try {
+      return (int) primitiveGetter.invokeExact(instance);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public void setInt(@NotNull Object instance, int value) {
+    if (primitiveType != int.class) {
+      PropertyAccessor.super.setInt(instance, value);
+      return;
+    }
+    try {
+      primitiveSetter.invokeExact(instance, value);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public long getLong(@NotNull Object instance) {
+    if (primitiveType != long.class) return PropertyAccessor.super.getLong(instance);
+    try {
+      return (long) primitiveGetter.invokeExact(instance);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public void setLong(@NotNull Object instance, long value) {
+    if (primitiveType != long.class) {
+      PropertyAccessor.super.setLong(instance, value);
+      return;
+    }
+    try {
+      primitiveSetter.invokeExact(instance, value);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public double getDouble(@NotNull Object instance) {
+    if (primitiveType != double.class) return PropertyAccessor.super.getDouble(instance);
+    try {
+      return (double) primitiveGetter.invokeExact(instance);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public void setDouble(@NotNull Object instance, double value) {
+    if (primitiveType != double.class) {
+      PropertyAccessor.super.setDouble(instance, value);
+      return;
+    }
+    try {
+      primitiveSetter.invokeExact(instance, value);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(@NotNull Object instance) {
+    if (primitiveType != boolean.class) return PropertyAccessor.super.getBoolean(instance);
+    try {
+      return (boolean) primitiveGetter.invokeExact(instance);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  @Override
+  public void setBoolean(@NotNull Object instance, boolean value) {
+    if (primitiveType != boolean.class) {
+      PropertyAccessor.super.setBoolean(instance, value);
+      return;
+    }
+    try {
+      primitiveSetter.invokeExact(instance, value);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) return (RuntimeException) t;
+    if (t instanceof Error) throw (Error) t;
+    return new IllegalStateException(t);
+  }
+
+  private static final class ReflectiveAccessor implements PropertyAccessor {
+    private final Field field;
+
+    private ReflectiveAccessor(Field field) {
+      this.field = field;
+    }
+
+    @Override
+    public @Nullable Object get(@NotNull Object instance) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public void set(@NotNull Object instance, @Nullable Object value) {
+      try {
+        field.set(instance, value);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package dev.anhcraft.config.blueprint;
+
+import dev.anhcraft.config.context.Context;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates {@link Processor.Invoker} backed by method handles.<br>
+ * The handle of a processor method is adapted to a fixed shape regardless of its arity: parameters which the method
+ * does not declare are dropped, arguments are cast and primitive results are boxed. The adapted handle is invoked
+ * exactly, so no argument array is allocated per call. Similar to {@link Method#invoke(Object, Object...)}, exceptions
+ * thrown by the processor method are wrapped in {@link InvocationTargetException}. The wrapping is part of the handle
+ * and applies to the method only, so that an argument which does not fit the method fails the adaptation with an
+ * {@link IllegalArgumentException} instead.
+ */
+@ApiStatus.Internal
+final class MethodHandleInvoker {
+  private static final MethodType NORMALIZATION_TYPE =
+      MethodType.methodType(Object.class, Object.class, Context.class);
+  private static final MethodType DENORMALIZATION_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object.class, Context.class);
+  private static final MethodType VOID_DENORMALIZATION_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class, Context.class);
+  private static final MethodHandle WRAP;
+
+  static {
+    try {
+      WRAP =
+          MethodHandles.lookup()
+              .findConstructor(
+                  InvocationTargetException.class,
+                  MethodType.methodType(void.class, Throwable.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private MethodHandleInvoker() {}
+
+  /**
+   * Creates a normalization invoker for a method with the signature {@code R method()} or
+   * {@code R method(Context)}.<br>
+   * The method must be made accessible beforehand.
+   * @param method the method
+   * @return the invoker or {@code null} if the method cannot be unreflected
+   */
+  static @Nullable Processor.NormalizationInvoker normalization(@NotNull Method method) {
+    MethodHandle handle = unreflect(method);
+    if (handle == null) return null;
+    if (method.getParameterCount() == 0)
+      handle = MethodHandles.dropArguments(handle, 1, Context.class);
+    return new Normalization(handle.asType(NORMALIZATION_TYPE));
+  }
+
+  /**
+   * Creates a denormalization invoker for a method with the signature {@code R method(Object)} or
+   * {@code R method(Object, Context)}. If the method returns {@code void}, the invoker is a
+   * {@link Processor.VoidDenormalizationInvoker}.<br>
+   * The method must be made accessible beforehand.
+   * @param method the method
+   * @return the invoker or {@code null} if the method cannot be unreflected
+   */
+  static @Nullable Processor.DenormalizationInvoker denormalization(@NotNull Method method) {
+    MethodHandle handle = unreflect(method);
+    if (handle == null) return null;
+    if (method.getParameterCount() == 1)
+      handle = MethodHandles.dropArguments(handle, 2, Context.class);
+    if (method.getReturnType() == void.class)
+      return new VoidDenormalization(handle.asType(VOID_DENORMALIZATION_TYPE));
+    return new Denormalization(handle.asType(DENORMALIZATION_TYPE));
+  }
+
+  // the handle throws InvocationTargetException for anything thrown by the method itself
+  private static MethodHandle unreflect(Method method) {
+    MethodHandle handle;
+    try {
+      handle = MethodHandles.lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+    MethodType type = handle.type();
+    MethodHandle thrower =
+        MethodHandles.filterArguments(
+            MethodHandles.throwException(type.returnType(), InvocationTargetException.class),
+            0,
+            WRAP);
+    return MethodHandles.catchException(
+        handle, Throwable.class, MethodHandles.dropArguments(thrower, 1, type.parameterList()));
+  }
+
+  // anything else is thrown while adapting the arguments, e.g. by a failed cast or unboxing
+  private static Exception rethrow(Throwable t) {
+    if (t instanceof InvocationTargetException) return (InvocationTargetException) t;
+    if (t instanceof ClassCastException || t instanceof NullPointerException)
+      return new IllegalArgumentException("argument type mismatch", t);
+    if (t instanceof Error) throw (Error) t;
+    return (Exception) t;
+  }
+
+  private static final class Normalization implements Processor.NormalizationInvoker {
+    private final MethodHandle handle;
+
+    private Normalization(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public @Nullable Object invoke(@NotNull Context ctx, @NotNull Object instance)
+        throws Exception {
+      try {
+        return (Object) handle.invokeExact(instance, ctx);
+      } catch (Throwable t) {
+        throw rethrow(t);
+      }
+    }
+  }
+
+  private static final class Denormalization implements Processor.DenormalizationInvoker {
+    private final MethodHandle handle;
+
+    private Denormalization(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public @Nullable Object invoke(
+        @NotNull Context ctx, @NotNull Object instance, @Nullable Object simple) throws Exception {
+      try {
+        return (Object) handle.invokeExact(instance, simple, ctx);
+      } catch (Throwable t) {
+        throw rethrow(t);
+      }
+    }
+  }
+
+  private static final class VoidDenormalization implements Processor.VoidDenormalizationInvoker {
+    private final MethodHandle handle;
+
+    private VoidDenormalization(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public @Nullable Object invoke(
+        @NotNull Context ctx, @NotNull Object instance, @Nullable Object simple) throws Exception {
+      try {
+        handle.invokeExact(instance, simple, ctx);
+        return null;
+      } catch (Throwable t) {
+        throw rethrow(t);
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package dev.anhcraft.config.blueprint;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A property accessor reads and writes the value of a {@link ClassProperty} on an instance.<br>
+ * The accessor is bound once when the schema is created. Unlike {@link java.lang.reflect.Field}, it does not check
+ * access on every call.<br>
+ * Primitive properties can be read and written via the primitive-specialized methods such as {@link #getInt(Object)}
+ * and {@link #setInt(Object, int)}. Implementations may override them to avoid boxing; the default implementations
+ * delegate to {@link #get(Object)} and {@link #set(Object, Object)}. The normalizer and the denormalizer only call them
+ * once the schema is compiled into a codec, see
+ * {@link dev.anhcraft.config.ConfigFactory.Builder#useCodecCompilation(int)}.
+ */
+public interface PropertyAccessor {
+  /**
+   * Gets the value of the property from the given instance.
+   * @param instance the instance
+   * @return the value (primitive values are boxed)
+   */
+  @Nullable Object get(@NotNull Object instance);
+
+  /**
+   * Sets the value of the property on the given instance.<br>
+   * The value must be compatible to the property type. For primitive properties, the value must be the respective
+   * wrapper and not {@code null}.
+   * @param instance the instance
+   * @param value the value
+   */
+  void set(@NotNull Object instance, @Nullable Object value);
+
+  /**
+   * Gets the value of an {@code int} property from the given instance.
+   * @param instance the instance
+   * @return the value
+   */
+  default int getInt(@NotNull Object instance) {
+    return (Integer) get(instance);
+  }
+
+  /**
+   * Sets the value of an {@code int} property on the given instance.
+   * @param instance the instance
+   * @param value the value
+   */
+  default void setInt(@NotNull Object instance, int value) {
+    set(instance, value);
+  }
+
+  /**
+   * Gets the value of a {@code long} property from the given instance.
+   * @param instance the instance
+   * @return the value
+   */
+  default long getLong(@NotNull Object instance) {
+    return (Long) get(instance);
+  }
+
+  /**
+   * Sets the value of a {@code long} property on the given instance.
+   * @param instance the instance
+   * @param value the value
+   */
+  default void setLong(@NotNull Object instance, long value) {
+    set(instance, value);
+  }
+
+  /**
+   * Gets the value of a {@code double} property from the given instance.
+   * @param instance the instance
+   * @return the value
+   */
+  default double getDouble(@NotNull Object instance) {
+    return (Double) get(instance);
+  }
+
+  /**
+   * Sets the value of a {@code double} property on the given instance.
+   * @param instance the instance
+   * @param value the value
+   */
+  default void setDouble(@NotNull Object instance, double value) {
+    set(instance, value);
+  }
+
+  /**
+   * Gets the value of a {@code boolean} property from the given instance.
+   * @param instance the instance
+   * @return the value
+   */
+  default boolean getBoolean(@NotNull Object instance) {
+    return (Boolean) get(instance);
+  }
+
+  /**
+   * Sets the value of a {@code boolean} property on the given instance.
+   * @param instance the instance
+   * @param value the value
+   */
+  default void setBoolean(@NotNull Object instance, boolean value) {
+    set(instance, value);
+  }
+}
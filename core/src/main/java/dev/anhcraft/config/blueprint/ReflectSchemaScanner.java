@@ -5,6 +5,7 @@ import dev.anhcraft.config.error.SchemaCreationException;
 import dev.anhcraft.config.meta.*;
 import dev.anhcraft.config.meta.Optional;
 import dev.anhcraft.config.type.ComplexTypes;
+import dev.anhcraft.config.util.BoundedCache;
 import dev.anhcraft.config.validate.DisabledValidator;
 import dev.anhcraft.config.validate.ValidationRegistry;
 import dev.anhcraft.config.validate.Validator;
@@ -13,6 +14,7 @@ import java.util.*;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Reflection-based, thread-safe {@link ClassSchemaScanner} that generates {@link ClassSchema}.
@@ -21,24 +23,45 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
   private final UnaryOperator<String> namingPolicy;
   private final ValidationRegistry validationRegistry;
   private final Map<Class<?>, Schema<?>> schemaCache;
+  private final SchemaIndex schemaIndex;
 
   public ReflectSchemaScanner(
       @NotNull UnaryOperator<String> namingPolicy,
       @NotNull ValidationRegistry validationRegistry,
       @NotNull Supplier<Map<Class<?>, Schema<?>>> schemaCacheProvider) {
+    this(namingPolicy, validationRegistry, schemaCacheProvider, null);
+  }
+
+  public ReflectSchemaScanner(
+      @NotNull UnaryOperator<String> namingPolicy,
+      @NotNull ValidationRegistry validationRegistry,
+      @NotNull Supplier<Map<Class<?>, Schema<?>>> schemaCacheProvider,
+      @Nullable SchemaIndex schemaIndex) {
     this.namingPolicy = namingPolicy;
     this.validationRegistry = validationRegistry;
     this.schemaCache = schemaCacheProvider.get();
+    this.schemaIndex = schemaIndex;
   }
 
   @Override
   public @NotNull ClassSchema getOrScanSchema(@NotNull Class<?> type) {
-    ClassSchema schema = (ClassSchema) schemaCache.get(type);
-    if (schema != null) return schema;
+    if (schemaCache instanceof BoundedCache)
+      return (ClassSchema)
+          ((BoundedCache<Class<?>, Schema<?>>) schemaCache).getOrLoad(type, this::scanSchema);
+    // a custom cache may not be thread-safe
     synchronized (this) {
-      schemaCache.put(type, schema = scanSchema(type));
+      ClassSchema schema = (ClassSchema) schemaCache.get(type);
+      if (schema == null) schemaCache.put(type, schema = scanSchema(type));
+      return schema;
     }
-    return schema;
+  }
+
+  /**
+   * Gets the statistics of the schema cache.
+   * @return the statistics, or {@code null} if a custom schema cache is used
+   */
+  public @Nullable BoundedCache.Stats getCacheStats() {
+    return schemaCache instanceof BoundedCache ? ((BoundedCache<?, ?>) schemaCache).stats() : null;
   }
 
   @Override
@@ -47,56 +70,193 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
       throw new SchemaCreationException(
           String.format("'%s' is not an eligible class to create", type.getName()));
 
+    ClassCodec<?> codec = ClassCodec.lookup(type);
+    DeclaredMembers members = scanDeclaredMembers(type);
     PropertyScanResult propertyListResult =
         scanPropertyList(
-            Arrays.asList(type.getDeclaredFields()),
-            () -> scanNormalizers(Arrays.asList(type.getDeclaredMethods())),
-            () -> scanDenormalizers(Arrays.asList(type.getDeclaredMethods())));
-
-    LazyEffectivePropertyResult effectivePropertyResult =
-        new LazyEffectivePropertyResult(this, type);
-
-    //noinspection unchecked
-    List<ClassProperty> effectivePropertyList =
-        (List<ClassProperty>)
-            Proxy.newProxyInstance(
-                ReflectSchemaScanner.class.getClassLoader(),
-                new Class[] {List.class},
-                (proxy, method, args) ->
-                    method.invoke(
-                        effectivePropertyResult.getPropertyListResult().properties, args));
-
-    //noinspection unchecked
-    Map<String, ClassProperty> effectivePropertyMap =
-        (Map<String, ClassProperty>)
-            Proxy.newProxyInstance(
-                ReflectSchemaScanner.class.getClassLoader(),
-                new Class[] {Map.class},
-                (proxy, method, args) ->
-                    method.invoke(
-                        effectivePropertyResult.getPropertyListResult().propertyMap, args));
-
-    ClassProperty effectiveFallback =
-        (ClassProperty)
-            Proxy.newProxyInstance(
-                ReflectSchemaScanner.class.getClassLoader(),
-                new Class[] {ClassProperty.class},
-                (proxy, method, args) ->
-                    method.invoke(effectivePropertyResult.getPropertyListResult().fallback, args));
+            members.fields,
+            () -> {
+              Map<String, Processor> processors = codec == null ? null : codec.normalizers();
+              if (processors != null) return processors;
+              return scanNormalizers(members.processorMethods.get());
+            },
+            () -> {
+              Map<String, Processor> processors = codec == null ? null : codec.denormalizers();
+              if (processors != null) return processors;
+              return scanDenormalizers(members.processorMethods.get());
+            });
 
     return new ClassSchema(
         this,
         type,
-        effectivePropertyList,
-        effectivePropertyMap,
-        effectiveFallback,
+        new LazyEffectivePropertyResult(this, type),
         propertyListResult.properties,
         propertyListResult.propertyMap,
         propertyListResult.fallback);
   }
 
+  /**
+   * Scans the declared fields and processor methods of the given class.<br>
+   * If the class has a {@link ClassCodec} providing field metadata, the fields are built from the metadata without
+   * reading annotations. Otherwise, if a {@link SchemaIndex} is used and the class is indexed, the result is restored
+   * from the index. Otherwise, the class is scanned and the result is stored in the index.
+   * @param type the class
+   * @return the declared members
+   */
+  @NotNull DeclaredMembers scanDeclaredMembers(@NotNull Class<?> type) {
+    ClassCodec<?> codec = ClassCodec.lookup(type);
+    if (codec != null) {
+      DeclaredMembers members = restoreDeclaredMembers(type, codec);
+      if (members != null) return members;
+    }
+
+    if (schemaIndex == null) {
+      List<ScannedField> fields = new ArrayList<>();
+      for (Field field : type.getDeclaredFields()) {
+        SchemaIndex.FieldRecord record = scanField(field);
+        if (record != null) fields.add(new ScannedField(field, record));
+      }
+      return new DeclaredMembers(fields, () -> Arrays.asList(type.getDeclaredMethods()));
+    }
+
+    SchemaIndex.Entry entry = schemaIndex.lookup(type);
+    if (entry != null) {
+      DeclaredMembers members = restoreDeclaredMembers(type, entry);
+      if (members != null) return members;
+    }
+
+    List<ScannedField> fields = new ArrayList<>();
+    List<SchemaIndex.FieldRecord> fieldRecords = new ArrayList<>();
+    for (Field field : type.getDeclaredFields()) {
+      SchemaIndex.FieldRecord record = scanField(field);
+      if (record == null) continue;
+      fields.add(new ScannedField(field, record));
+      fieldRecords.add(record);
+    }
+    List<Method> methods = new ArrayList<>();
+    List<SchemaIndex.MethodRecord> methodRecords = new ArrayList<>();
+    for (Method method : type.getDeclaredMethods()) {
+      if (!method.isAnnotationPresent(Normalizer.class)
+          && !method.isAnnotationPresent(Denormalizer.class)) continue;
+      methods.add(method);
+      List<String> parameterTypes = new ArrayList<>(method.getParameterCount());
+      for (Class<?> parameterType : method.getParameterTypes()) {
+        parameterTypes.add(parameterType.getName());
+      }
+      methodRecords.add(new SchemaIndex.MethodRecord(method.getName(), parameterTypes));
+    }
+    schemaIndex.store(type, fieldRecords, methodRecords);
+    return new DeclaredMembers(fields, () -> methods);
+  }
+
+  // returns null if the index is inconsistent with the class, e.g. a field is no longer accessible
+  private @Nullable DeclaredMembers restoreDeclaredMembers(
+      @NotNull Class<?> type, @NotNull SchemaIndex.Entry entry) {
+    Map<String, Field> fieldLookup = new HashMap<>();
+    for (Field field : type.getDeclaredFields()) {
+      fieldLookup.put(field.getName(), field);
+    }
+
+    List<ScannedField> fields = new ArrayList<>(entry.fields.size());
+    for (SchemaIndex.FieldRecord record : entry.fields) {
+      Field field = fieldLookup.get(record.name);
+      if (field == null) return null;
+      try {
+        field.setAccessible(true);
+      } catch (Exception e) {
+        return null;
+      }
+      fields.add(new ScannedField(field, record));
+    }
+
+    if (entry.processorMethods.isEmpty())
+      return new DeclaredMembers(fields, Collections::emptyList);
+    return new DeclaredMembers(
+        fields,
+        () -> {
+          List<Method> methods = new ArrayList<>(entry.processorMethods.size());
+          for (Method method : type.getDeclaredMethods()) {
+            for (SchemaIndex.MethodRecord record : entry.processorMethods) {
+              if (record.matches(method)) {
+                methods.add(method);
+                break;
+              }
+            }
+          }
+          return methods;
+        });
+  }
+
+  // returns null if the codec has no field metadata or it is inconsistent with the class
+  private @Nullable DeclaredMembers restoreDeclaredMembers(
+      @NotNull Class<?> type, @NotNull ClassCodec<?> codec) {
+    List<FieldMetadata> metadata = codec.fields();
+    if (metadata == null) return null;
+    Map<String, Field> fieldLookup = new HashMap<>();
+    for (Field field : type.getDeclaredFields()) {
+      fieldLookup.put(field.getName(), field);
+    }
+
+    List<ScannedField> fields = new ArrayList<>(metadata.size());
+    for (FieldMetadata meta : metadata) {
+      Field field = fieldLookup.get(meta.name);
+      if (field == null) return null;
+      // a field accessed through the codec does not need to be accessible
+      if (codec.accessor(meta.name) == null) {
+        try {
+          field.setAccessible(true);
+        } catch (Exception e) {
+          throw new SchemaCreationException(
+              String.format(
+                  "Field '%s' (declared in '%s') is neither accessible nor accessed through its"
+                      + " codec",
+                  field.getName(), type.getName()),
+              e);
+        }
+      }
+      String initPrimaryName = initPrimaryName(field);
+      fields.add(
+          new ScannedField(
+              field,
+              new SchemaIndex.FieldRecord(
+                  meta.name,
+                  initPrimaryName,
+                  scanName(meta.names, meta.aliases, initPrimaryName),
+                  meta.description,
+                  meta.modifier,
+                  meta.validation,
+                  meta.silentValidation)));
+    }
+    return new DeclaredMembers(fields, () -> Arrays.asList(type.getDeclaredMethods()));
+  }
+
+  private @Nullable SchemaIndex.FieldRecord scanField(@NotNull Field field) {
+    try {
+      field.setAccessible(true);
+    } catch (Exception e) { // TODO is there better way to check accessibility?
+      return null;
+    }
+    if (isExcluded(field)) return null;
+
+    String initPrimaryName = initPrimaryName(field);
+    Name nameMeta = field.getAnnotation(Name.class);
+    Alias aliasMeta = field.getAnnotation(Alias.class);
+    Validate validateMeta = field.getAnnotation(Validate.class);
+    return new SchemaIndex.FieldRecord(
+        field.getName(),
+        initPrimaryName,
+        scanName(
+            nameMeta == null ? new String[0] : nameMeta.value(),
+            aliasMeta == null ? new String[0] : aliasMeta.value(),
+            initPrimaryName),
+        scanDescription(field),
+        scanModifier(field),
+        validateMeta == null ? null : validateMeta.value(),
+        validateMeta != null && validateMeta.silent());
+  }
+
   @NotNull ReflectSchemaScanner.PropertyScanResult scanPropertyList(
-      @NotNull Collection<Field> fields,
+      @NotNull Collection<ScannedField> fields,
       @NotNull Supplier<Map<String, Processor>> normalizerSupplier,
       @NotNull Supplier<Map<String, Processor>> denormalizerSupplier) {
 
@@ -137,32 +297,19 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
       - Create proxied list and map similar to (2)
     */
 
-    Map<String, Field> propertyName2Field = new LinkedHashMap<>();
+    Map<String, ScannedField> propertyName2Field = new LinkedHashMap<>();
     Map<String, Set<String>> fieldName2PropertyNames = new LinkedHashMap<>();
 
-    for (Field field : fields) {
-      try {
-        field.setAccessible(true);
-      } catch (Exception e) { // TODO is there better way to check accessibility?
-        continue;
-      }
-      if (isExcluded(field)) continue;
-
-      String initPrimaryName = namingPolicy.apply(field.getName()).trim();
-      if (initPrimaryName.isBlank())
-        throw new SchemaCreationException(
-            String.format(
-                "Field '%s' (declared in '%s') contains blank initial primary name",
-                field.getName(), field.getDeclaringClass().getName()));
-      propertyName2Field.put(initPrimaryName, field);
+    for (ScannedField scannedField : fields) {
+      String fieldName = scannedField.record.name;
+      propertyName2Field.put(scannedField.record.initPrimaryName, scannedField);
       // It is guaranteed that naming policy generates unique names at this point
-      fieldName2PropertyNames.put(field.getName(), new LinkedHashSet<>());
+      fieldName2PropertyNames.put(fieldName, new LinkedHashSet<>());
 
-      Set<String> names = scanName(field, initPrimaryName);
-      for (String name : names) {
-        Field lastField = propertyName2Field.put(name, field);
-        if (lastField != null) fieldName2PropertyNames.get(lastField.getName()).remove(name);
-        fieldName2PropertyNames.get(field.getName()).add(name);
+      for (String name : scannedField.record.propertyNames) {
+        ScannedField lastField = propertyName2Field.put(name, scannedField);
+        if (lastField != null) fieldName2PropertyNames.get(lastField.record.name).remove(name);
+        fieldName2PropertyNames.get(fieldName).add(name);
       }
     }
 
@@ -179,17 +326,26 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
       if (entry.getValue().isEmpty()) continue;
 
       PropertyNaming propertyNaming = PropertyNaming.of(entry.getValue());
-      Field field = propertyName2Field.get(propertyNaming.primary());
+      ScannedField scannedField = propertyName2Field.get(propertyNaming.primary());
+      Field field = scannedField.field;
 
-      List<String> description = scanDescription(field);
-      byte modifier = scanModifier(field);
-      Validator validator = scanValidation(field);
+      List<String> description = scannedField.record.description;
+      byte modifier = scannedField.record.modifier;
+      Validator validator = scanValidation(scannedField.record);
       Processor normalizer = normalizers.get(fieldName);
       Processor denormalizer = denormalizers.get(fieldName);
+      PropertyAccessor accessor = bindAccessor(field);
 
       ClassProperty property =
           new ClassPropertyImpl(
-              propertyNaming, description, validator, field, modifier, normalizer, denormalizer);
+              propertyNaming,
+              description,
+              validator,
+              field,
+              accessor,
+              modifier,
+              normalizer,
+              denormalizer);
 
       if (property.isFallback()) {
         if (fallback != null)
@@ -228,6 +384,15 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
     return result;
   }
 
+  private PropertyAccessor bindAccessor(Field field) {
+    ClassCodec<?> codec = ClassCodec.lookup(field.getDeclaringClass());
+    if (codec != null) {
+      PropertyAccessor accessor = codec.accessor(field.getName());
+      if (accessor != null) return accessor;
+    }
+    return MethodHandleAccessor.of(field);
+  }
+
   Map<String, Processor> scanNormalizers(Collection<Method> methods) {
     Map<String, Processor> lookup = new LinkedHashMap<>();
 
@@ -244,14 +409,18 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
 
       switch (method.getParameterCount()) {
         case 0:
-          invoker = (Processor.NormalizationInvoker) (ctx, instance) -> method.invoke(instance);
+          invoker = MethodHandleInvoker.normalization(method);
+          if (invoker == null)
+            invoker = (Processor.NormalizationInvoker) (ctx, instance) -> method.invoke(instance);
           break;
         case 1:
           if (!Context.class.isAssignableFrom(method.getParameterTypes()[0])) {
             continue;
           }
-          invoker =
-              (Processor.NormalizationInvoker) (ctx, instance) -> method.invoke(instance, ctx);
+          invoker = MethodHandleInvoker.normalization(method);
+          if (invoker == null)
+            invoker =
+                (Processor.NormalizationInvoker) (ctx, instance) -> method.invoke(instance, ctx);
           break;
         default:
           continue;
@@ -283,30 +452,9 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
 
       switch (method.getParameterCount()) {
         case 1:
-          if (method.getReturnType() == Void.TYPE)
-            invoker =
-                (Processor.VoidDenormalizationInvoker)
-                    (ctx, instance, simple) -> {
-                      method.invoke(instance, simple);
-                      return null;
-                    };
-          else
-            invoker =
-                (Processor.DenormalizationInvoker)
-                    (ctx, instance, simple) -> method.invoke(instance, simple);
-          break;
         case 2:
-          if (method.getReturnType() == Void.TYPE)
-            invoker =
-                (Processor.VoidDenormalizationInvoker)
-                    (ctx, instance, simple) -> {
-                      method.invoke(instance, simple, ctx);
-                      return null;
-                    };
-          else
-            invoker =
-                (Processor.DenormalizationInvoker)
-                    (ctx, instance, simple) -> method.invoke(instance, simple, ctx);
+          invoker = MethodHandleInvoker.denormalization(method);
+          if (invoker == null) invoker = reflectiveDenormalizationInvoker(method);
           break;
         default:
           continue;
@@ -323,6 +471,28 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
     return lookup;
   }
 
+  // fallback if the method cannot be unreflected
+  private Processor.Invoker reflectiveDenormalizationInvoker(Method method) {
+    if (method.getParameterCount() == 1) {
+      if (method.getReturnType() == Void.TYPE)
+        return (Processor.VoidDenormalizationInvoker)
+            (ctx, instance, simple) -> {
+              method.invoke(instance, simple);
+              return null;
+            };
+      return (Processor.DenormalizationInvoker)
+          (ctx, instance, simple) -> method.invoke(instance, simple);
+    }
+    if (method.getReturnType() == Void.TYPE)
+      return (Processor.VoidDenormalizationInvoker)
+          (ctx, instance, simple) -> {
+            method.invoke(instance, simple, ctx);
+            return null;
+          };
+    return (Processor.DenormalizationInvoker)
+        (ctx, instance, simple) -> method.invoke(instance, simple, ctx);
+  }
+
   private boolean isExcluded(Field field) {
     return Modifier.isStatic(field.getModifiers())
         || Modifier.isTransient(field.getModifiers())
@@ -338,25 +508,29 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
         || method.isSynthetic();
   }
 
-  private Set<String> scanName(Field field, String initPrimaryName) {
+  private String initPrimaryName(Field field) {
+    String initPrimaryName = namingPolicy.apply(field.getName()).trim();
+    if (initPrimaryName.isBlank())
+      throw new SchemaCreationException(
+          String.format(
+              "Field '%s' (declared in '%s') contains blank initial primary name",
+              field.getName(), field.getDeclaringClass().getName()));
+    return initPrimaryName;
+  }
+
+  private Set<String> scanName(String[] primaryNames, String[] aliases, String initPrimaryName) {
     LinkedHashSet<String> names = new LinkedHashSet<>();
 
-    Name nameMeta = field.getAnnotation(Name.class);
-    if (nameMeta != null) {
-      for (String name : nameMeta.value()) {
-        name = name.trim();
-        if (!name.isEmpty()) names.add(name);
-      }
+    for (String name : primaryNames) {
+      name = name.trim();
+      if (!name.isEmpty()) names.add(name);
     }
 
     if (names.isEmpty()) names.add(initPrimaryName);
 
-    Alias aliasMeta = field.getAnnotation(Alias.class);
-    if (aliasMeta != null) {
-      for (String alias : aliasMeta.value()) {
-        alias = alias.trim();
-        if (!alias.isEmpty()) names.add(alias);
-      }
+    for (String alias : aliases) {
+      alias = alias.trim();
+      if (!alias.isEmpty()) names.add(alias);
     }
 
     return names;
@@ -382,14 +556,33 @@ public class ReflectSchemaScanner implements ClassSchemaScanner {
     return modifier;
   }
 
-  private Validator scanValidation(Field field) {
-    Validate validateMeta = field.getAnnotation(Validate.class);
-    if (validateMeta != null) {
-      return validationRegistry.parseString(validateMeta.value(), validateMeta.silent());
+  private Validator scanValidation(SchemaIndex.FieldRecord record) {
+    if (record.validation != null) {
+      return validationRegistry.parseString(record.validation, record.silentValidation);
     }
     return DisabledValidator.INSTANCE;
   }
 
+  static final class ScannedField {
+    final Field field;
+    final SchemaIndex.FieldRecord record;
+
+    ScannedField(Field field, SchemaIndex.FieldRecord record) {
+      this.field = field;
+      this.record = record;
+    }
+  }
+
+  static final class DeclaredMembers {
+    final List<ScannedField> fields;
+    final Supplier<Collection<Method>> processorMethods;
+
+    DeclaredMembers(List<ScannedField> fields, Supplier<Collection<Method>> processorMethods) {
+      this.fields = fields;
+      this.processorMethods = processorMethods;
+    }
+  }
+
   static class PropertyScanResult {
     List<ClassProperty> properties;
     Map<String, ClassProperty> propertyMap;
@@ -0,0 +1,349 @@
+package dev.anhcraft.config.blueprint;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A schema index persists the scan results of {@link ReflectSchemaScanner} across JVM restarts.<br>
+ * For every scanned class, the index records the declared properties (names, description, modifiers and validation)
+ * and the methods annotated as processors. On the next start, a class found in the index is not scanned again: its
+ * fields and processor methods are looked up by name and no annotation is read except for processor methods.<br>
+ * Each entry is keyed by the fingerprint of the class, which is derived from the modification time and the size of the
+ * file it is loaded from: the class file in a directory, or the whole JAR file. The fingerprint only needs the file
+ * attributes, so that the bytecode is never read. A class whose file changed is rescanned and its entry is replaced.
+ * Classes not loaded from a local file are never indexed.<br>
+ * Only the entries validated or stored since the index was loaded are saved, so that the entries of removed, renamed
+ * or changed classes do not accumulate. As such, an index should be saved once the schemas needed by the application
+ * have been created.<br>
+ * Note: The index depends on the naming policy of the scanner. An index must not be shared between scanners using
+ * different naming policies.<br>
+ * This class is thread-safe.
+ */
+public final class SchemaIndex {
+  private static final int MAGIC = 0x43464749;
+  private static final int VERSION = 2;
+  private static final long NO_FINGERPRINT = 0;
+  private static final ClassValue<Long> FINGERPRINTS =
+      new ClassValue<>() {
+        @Override
+        protected Long computeValue(@NotNull Class<?> type) {
+          return fingerprint(type);
+        }
+      };
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private volatile boolean modified;
+
+  /**
+   * Loads the index from the given file.<br>
+   * If the file does not exist, or its content is not a valid index or cannot be read completely, an empty index is
+   * returned. Failing to open an existing file, e.g. due to missing permissions, is reported instead.
+   * @param file the file
+   * @return the index
+   * @throws IOException cannot open the existing file
+   */
+  public static @NotNull SchemaIndex load(@NotNull Path file) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      return load(in);
+    } catch (NoSuchFileException e) {
+      return new SchemaIndex();
+    }
+  }
+
+  /**
+   * Loads the index from the given stream.<br>
+   * If the stream does not contain a valid index or cannot be read, an empty index is returned.
+   * @param stream the stream
+   * @return the index
+   */
+  public static @NotNull SchemaIndex load(@NotNull InputStream stream) {
+    SchemaIndex index = new SchemaIndex();
+    DataInputStream in = new DataInputStream(stream);
+    try {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) return index;
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String type = in.readUTF();
+        index.entries.put(type, Entry.read(in));
+      }
+    } catch (IOException | RuntimeException e) {
+      // a truncated or corrupted index is discarded as a whole
+      index.entries.clear();
+    }
+    return index;
+  }
+
+  /**
+   * Saves the index to the given file.<br>
+   * The file is replaced atomically if the file system supports it.
+   * @param file the file
+   * @throws IOException cannot write the file
+   */
+  public void save(@NotNull Path file) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+        save(out);
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Saves the index to the given stream.<br>
+   * The entries loaded but not validated since are skipped.
+   * @param stream the stream
+   * @throws IOException cannot write to the stream
+   */
+  public void save(@NotNull OutputStream stream) throws IOException {
+    modified = false;
+    Map<String, Entry> snapshot = new LinkedHashMap<>();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      if (entry.getValue().validated) snapshot.put(entry.getKey(), entry.getValue());
+    }
+    DataOutputStream out = new DataOutputStream(stream);
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(snapshot.size());
+    for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+      out.writeUTF(entry.getKey());
+      entry.getValue().write(out);
+    }
+    out.flush();
+  }
+
+  /**
+   * Gets the number of indexed classes.
+   * @return the number of classes
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Checks if the index has been modified since it was loaded or last saved.
+   * @return whether the index is modified
+   */
+  public boolean isModified() {
+    return modified;
+  }
+
+  /**
+   * Gets the entry of the given class if its fingerprint is still valid.<br>
+   * An entry whose fingerprint is no longer valid is removed.
+   * @param type the class
+   * @return the entry or {@code null} if the class is not indexed or has changed
+   */
+  @Nullable Entry lookup(@NotNull Class<?> type) {
+    Entry entry = entries.get(type.getName());
+    if (entry == null) return null;
+    long fingerprint = FINGERPRINTS.get(type);
+    if (fingerprint == NO_FINGERPRINT || entry.fingerprint != fingerprint) {
+      if (entries.remove(type.getName(), entry)) modified = true;
+      return null;
+    }
+    entry.validated = true;
+    return entry;
+  }
+
+  /**
+   * Stores the scan result of the given class.
+   * @param type the class
+   * @param fields the declared fields
+   * @param processorMethods the declared processor methods
+   */
+  void store(
+      @NotNull Class<?> type,
+      @NotNull List<FieldRecord> fields,
+      @NotNull List<MethodRecord> processorMethods) {
+    long fingerprint = FINGERPRINTS.get(type);
+    if (fingerprint == NO_FINGERPRINT) return;
+    Entry entry = new Entry(fingerprint, fields, processorMethods);
+    entry.validated = true;
+    entries.put(type.getName(), entry);
+    modified = true;
+  }
+
+  private static long fingerprint(Class<?> type) {
+    try {
+      CodeSource source = type.getProtectionDomain().getCodeSource();
+      URL location = source == null ? null : source.getLocation();
+      if (location == null || !location.getProtocol().equals("file")) return NO_FINGERPRINT;
+      Path path = Paths.get(location.toURI());
+      if (Files.isDirectory(path)) path = path.resolve(type.getName().replace('.', '/') + ".class");
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      long fingerprint = attributes.lastModifiedTime().toMillis() * 31 + attributes.size();
+      return fingerprint == NO_FINGERPRINT ? 1 : fingerprint;
+    } catch (Exception e) {
+      return NO_FINGERPRINT;
+    }
+  }
+
+  static final class Entry {
+    final long fingerprint;
+    final List<FieldRecord> fields;
+    final List<MethodRecord> processorMethods;
+    // whether the fingerprint has been validated since the entry was loaded
+    volatile boolean validated;
+
+    Entry(long fingerprint, List<FieldRecord> fields, List<MethodRecord> processorMethods) {
+      this.fingerprint = fingerprint;
+      this.fields = List.copyOf(fields);
+      this.processorMethods = List.copyOf(processorMethods);
+    }
+
+    private static Entry read(DataInputStream in) throws IOException {
+      long fingerprint = in.readLong();
+      int fieldCount = in.readInt();
+      List<FieldRecord> fields = new ArrayList<>(fieldCount);
+      for (int i = 0; i < fieldCount; i++) {
+        fields.add(FieldRecord.read(in));
+      }
+      int methodCount = in.readInt();
+      List<MethodRecord> methods = new ArrayList<>(methodCount);
+      for (int i = 0; i < methodCount; i++) {
+        methods.add(MethodRecord.read(in));
+      }
+      return new Entry(fingerprint, fields, methods);
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+      out.writeLong(fingerprint);
+      out.writeInt(fields.size());
+      for (FieldRecord field : fields) {
+        field.write(out);
+      }
+      out.writeInt(processorMethods.size());
+      for (MethodRecord method : processorMethods) {
+        method.write(out);
+      }
+    }
+  }
+
+  /**
+   * The scan result of a field, independent of the {@link java.lang.reflect.Field} instance.
+   */
+  static final class FieldRecord {
+    final String name;
+    final String initPrimaryName;
+    final Set<String> propertyNames;
+    final List<String> description;
+    final byte modifier;
+    final String validation;
+    final boolean silentValidation;
+
+    FieldRecord(
+        String name,
+        String initPrimaryName,
+        Set<String> propertyNames,
+        List<String> description,
+        byte modifier,
+        @Nullable String validation,
+        boolean silentValidation) {
+      this.name = name;
+      this.initPrimaryName = initPrimaryName;
+      this.propertyNames = propertyNames;
+      this.description = description;
+      this.modifier = modifier;
+      this.validation = validation;
+      this.silentValidation = silentValidation;
+    }
+
+    private static FieldRecord read(DataInputStream in) throws IOException {
+      String name = in.readUTF();
+      String initPrimaryName = in.readUTF();
+      Set<String> propertyNames = new LinkedHashSet<>(readStrings(in));
+      List<String> description = readStrings(in);
+      byte modifier = in.readByte();
+      String validation = in.readBoolean() ? in.readUTF() : null;
+      boolean silentValidation = in.readBoolean();
+      return new FieldRecord(
+          name,
+          initPrimaryName,
+          propertyNames,
+          description.isEmpty() ? Collections.emptyList() : description,
+          modifier,
+          validation,
+          silentValidation);
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+      out.writeUTF(name);
+      out.writeUTF(initPrimaryName);
+      writeStrings(out, propertyNames);
+      writeStrings(out, description);
+      out.writeByte(modifier);
+      out.writeBoolean(validation != null);
+      if (validation != null) out.writeUTF(validation);
+      out.writeBoolean(silentValidation);
+    }
+  }
+
+  /**
+   * The signature of a method annotated as a processor.
+   */
+  static final class MethodRecord {
+    final String name;
+    final List<String> parameterTypes;
+
+    MethodRecord(String name, List<String> parameterTypes) {
+      this.name = name;
+      this.parameterTypes = parameterTypes;
+    }
+
+    boolean matches(java.lang.reflect.Method method) {
+      if (!method.getName().equals(name)) return false;
+      Class<?>[] types = method.getParameterTypes();
+      if (types.length != parameterTypes.size()) return false;
+      for (int i = 0; i < types.length; i++) {
+        if (!types[i].getName().equals(parameterTypes.get(i))) return false;
+      }
+      return true;
+    }
+
+    private static MethodRecord read(DataInputStream in) throws IOException {
+      return new MethodRecord(in.readUTF(), readStrings(in));
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+      out.writeUTF(name);
+      writeStrings(out, parameterTypes);
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream in) throws IOException {
+    int n = in.readInt();
+    List<String> list = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      list.add(in.readUTF());
+    }
+    return list;
+  }
+
+  private static void writeStrings(DataOutputStream out, Collection<String> strings)
+      throws IOException {
+    out.writeInt(strings.size());
+    for (String s : strings) {
+      out.writeUTF(s);
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package dev.anhcraft.config.context;
 
 import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
 import dev.anhcraft.config.adapter.TypeAdapter;
 import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.Property;
 import java.lang.reflect.Type;
 import java.util.*;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +39,62 @@ public class Context implements TypeAdapter<Object> {
     return factory;
   }
 
+  /**
+   * Enters a new {@link PropertyScope}. Must be paired with {@link #exitProperty()}.<br>
+   * This is equivalent to {@code enterScope(new PropertyScope(property, setting, container))}, but a subclass may
+   * track the scope without allocating it.
+   * @param property the property
+   * @param setting the setting
+   * @param container the container
+   */
+  public void enterProperty(
+      @NotNull Property property, @NotNull String setting, @Nullable Dictionary container) {
+    enterScope(new PropertyScope(property, setting, container));
+  }
+
+  /**
+   * Enters a new {@link ElementScope}. Must be paired with {@link #exitElement()}.<br>
+   * This is equivalent to {@code enterScope(new ElementScope(index))}, but a subclass may track the scope without
+   * allocating it.
+   * @param index the element index
+   */
+  public void enterElement(int index) {
+    enterScope(new ElementScope(index));
+  }
+
+  /**
+   * Exits the {@link PropertyScope} entered by {@link #enterProperty(Property, String, Dictionary)}.<br>
+   * This is equivalent to {@link #exitScope()}, but a subclass may discard the scope without creating it.
+   */
+  public void exitProperty() {
+    exitScope();
+  }
+
+  /**
+   * Exits the {@link ElementScope} entered by {@link #enterElement(int)}.<br>
+   * This is equivalent to {@link #exitScope()}, but a subclass may discard the scope without creating it.
+   */
+  public void exitElement() {
+    exitScope();
+  }
+
+  /**
+   * Enters a new {@link ValueScope}. Must be paired with {@link #exitValue()}.<br>
+   * This is equivalent to {@code enterScope(new ValueScope(value))}, but a subclass may skip the scope entirely if
+   * nothing observes it.
+   * @param value the value
+   */
+  public void enterValue(@Nullable Object value) {
+    enterScope(new ValueScope(value));
+  }
+
+  /**
+   * Exits the {@link ValueScope} entered by {@link #enterValue(Object)}.
+   */
+  public void exitValue() {
+    exitScope();
+  }
+
   /**
    * Enters a new scope.
    * @param scope the scope
@@ -91,6 +149,30 @@ public class Context implements TypeAdapter<Object> {
     return Collections.unmodifiableCollection(scopes);
   }
 
+  /**
+   * Forks this context for processing on another thread.<br>
+   * The forked context starts with the same scopes as this context, and is independent afterward. It is used by
+   * parallel normalization and denormalization where each task has its own context. Subclasses carrying additional
+   * state should override this method to create an instance of their own type.
+   * @return the forked context
+   * @see #inheritScopes(Context)
+   */
+  public @NotNull Context fork() {
+    Context ctx = new Context(factory);
+    ctx.inheritScopes(this);
+    return ctx;
+  }
+
+  /**
+   * Enters the scopes of the given context without notifying anything.<br>
+   * This is used to initialize a forked context.
+   * @param parent the context to inherit from
+   */
+  protected void inheritScopes(@NotNull Context parent) {
+    scopes.addAll(parent.getScopes());
+    cachedPath = null;
+  }
+
   /**
    * Gets the current path of this context.<br>
    * The path is cached as long as no modification is made to the scopes.
@@ -112,36 +194,59 @@ public class Context implements TypeAdapter<Object> {
     StringBuilder sb = new StringBuilder();
     boolean wasProperty = false;
     for (Scope scope : scopes) {
-      if (scope instanceof ElementScope) {
-        sb.append('[').append(((ElementScope) scope).getIndex()).append(']');
-      } else if (scope instanceof PropertyScope) {
-        if (wasProperty) sb.append(separator);
-        PropertyScope ps = (PropertyScope) scope;
-        switch (type) {
-          case FIELD:
-            if (ps.getProperty() instanceof ClassProperty)
-              sb.append(((ClassProperty) ps.getProperty()).field().getName());
-            else sb.append(ps.getProperty().name());
-            break;
-          case PRIMARY:
-            sb.append(ps.getProperty().name());
-            break;
-          case SETTING:
-            sb.append(ps.getSetting());
-            break;
-          default:
-            throw new UnsupportedOperationException();
-        }
-        wasProperty = true;
-      } else if (scope instanceof ValueScope) {
-        continue;
-      } else {
-        throw new UnsupportedOperationException();
-      }
+      wasProperty = appendScope(sb, scope, type, separator, wasProperty);
     }
     return sb.toString();
   }
 
+  /**
+   * Appends the path segment of a scope.
+   * @return whether a property segment has been appended so far
+   */
+  static boolean appendScope(
+      StringBuilder sb, Scope scope, PathType type, String separator, boolean wasProperty) {
+    if (scope instanceof ElementScope) {
+      appendElement(sb, ((ElementScope) scope).getIndex());
+      return wasProperty;
+    } else if (scope instanceof PropertyScope) {
+      PropertyScope ps = (PropertyScope) scope;
+      appendProperty(sb, ps.getProperty(), ps.getSetting(), type, separator, wasProperty);
+      return true;
+    } else if (scope instanceof ValueScope) {
+      return wasProperty;
+    }
+    throw new UnsupportedOperationException();
+  }
+
+  static void appendElement(StringBuilder sb, int index) {
+    sb.append('[').append(index).append(']');
+  }
+
+  static void appendProperty(
+      StringBuilder sb,
+      Property property,
+      String setting,
+      PathType type,
+      String separator,
+      boolean wasProperty) {
+    if (wasProperty) sb.append(separator);
+    switch (type) {
+      case FIELD:
+        if (property instanceof ClassProperty)
+          sb.append(((ClassProperty) property).field().getName());
+        else sb.append(property.name());
+        break;
+      case PRIMARY:
+        sb.append(property.name());
+        break;
+      case SETTING:
+        sb.append(setting);
+        break;
+      default:
+        throw new UnsupportedOperationException();
+    }
+  }
+
   /**
    * @see #simplify(Context, Class, Object)
    */
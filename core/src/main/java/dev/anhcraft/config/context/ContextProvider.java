@@ -7,6 +7,18 @@ import org.jetbrains.annotations.NotNull;
  * A function that creates a new {@link Context} compatible to the given {@link ConfigFactory}.
  */
 public interface ContextProvider {
+  /**
+   * A provider of {@link LightweightContext} which tracks scopes without allocating scope objects.<br>
+   * It is suitable for bulk processing when scopes are not inspected except for the path of errors.
+   */
+  ContextProvider LIGHTWEIGHT =
+      new ContextProvider() {
+        @Override
+        public @NotNull Context provideGenericContext(@NotNull ConfigFactory factory) {
+          return new LightweightContext(factory);
+        }
+      };
+
   /**
    * Provides a new {@link Context} used for unspecified purposes.
    * @param factory the {@link ConfigFactory}
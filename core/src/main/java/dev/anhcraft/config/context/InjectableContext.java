@@ -32,6 +32,19 @@ public class InjectableContext extends Context {
     return this;
   }
 
+  /**
+   * {@inheritDoc}<br>
+   * The forked context shares the injectors of this context, so the injectors must be thread-safe if the contexts are
+   * used concurrently.
+   */
+  @Override
+  public @NotNull Context fork() {
+    InjectableContext ctx = new InjectableContext(getFactory());
+    ctx.injectors.addAll(injectors);
+    ctx.inheritScopes(this);
+    return ctx;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,237 @@
+package dev.anhcraft.config.context;
+
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.blueprint.Property;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Context} that tracks scopes in a reusable stack of frames instead of scope objects.<br>
+ * Property and element scopes entered via {@link #enterProperty(Property, String, Dictionary)} and
+ * {@link #enterElement(int)} are recorded in parallel arrays without allocation and discarded by
+ * {@link #exitProperty()} and {@link #exitElement()} likewise, and {@link ValueScope} is skipped entirely since nothing
+ * observes it. The path is only built on demand, typically when an exception is thrown.<br>
+ * Scope objects are still created when requested via {@link #getScope(int)} or {@link #getScopes()}. For this reason,
+ * the context is not suitable for injectors, see {@link InjectableContext}.<br>
+ * <b>The context is not thread-safe</b>. A context can be reused as long as it is on one thread only.
+ * @see ContextProvider#LIGHTWEIGHT
+ */
+public class LightweightContext extends Context {
+  private static final int INITIAL_CAPACITY = 16;
+
+  // for each frame: either a Property, a Scope entered explicitly, or null for an element
+  private Object[] frames = new Object[INITIAL_CAPACITY];
+  private String[] settings = new String[INITIAL_CAPACITY];
+  private Dictionary[] containers = new Dictionary[INITIAL_CAPACITY];
+  private int[] indexes = new int[INITIAL_CAPACITY];
+  private int depth;
+  private String cachedPath;
+
+  /**
+   * Use {@link ConfigFactory#createContext()} with {@link ContextProvider#LIGHTWEIGHT}
+   */
+  public LightweightContext(@NotNull ConfigFactory factory) {
+    super(factory);
+  }
+
+  private int push() {
+    if (depth == frames.length) {
+      int capacity = depth << 1;
+      frames = Arrays.copyOf(frames, capacity);
+      settings = Arrays.copyOf(settings, capacity);
+      containers = Arrays.copyOf(containers, capacity);
+      indexes = Arrays.copyOf(indexes, capacity);
+    }
+    cachedPath = null;
+    return depth++;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void enterProperty(
+      @NotNull Property property, @NotNull String setting, @Nullable Dictionary container) {
+    int i = push();
+    frames[i] = property;
+    settings[i] = setting;
+    containers[i] = container;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void enterElement(int index) {
+    if (index < 0) throw new IllegalArgumentException("index cannot be negative");
+    int i = push();
+    frames[i] = null;
+    indexes[i] = index;
+  }
+
+  /**
+   * Does nothing as the value is not observed.
+   */
+  @Override
+  public void enterValue(@Nullable Object value) {}
+
+  /**
+   * Does nothing as the value is not observed.
+   */
+  @Override
+  public void exitValue() {}
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void enterScope(@NotNull Scope scope) {
+    int i = push();
+    frames[i] = scope;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The scope is created on demand unless it was entered via {@link #enterScope(Scope)}.
+   */
+  @Override
+  public Scope exitScope() {
+    if (depth == 0) return null;
+    Scope scope = toScope(depth - 1);
+    pop();
+    return scope;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void exitProperty() {
+    if (depth > 0) pop();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void exitElement() {
+    if (depth > 0) pop();
+  }
+
+  private void pop() {
+    int i = --depth;
+    frames[i] = null;
+    settings[i] = null;
+    containers[i] = null;
+    cachedPath = null;
+  }
+
+  private Scope toScope(int i) {
+    Object frame = frames[i];
+    if (frame instanceof Scope) return (Scope) frame;
+    if (frame instanceof Property)
+      return new PropertyScope((Property) frame, settings[i], containers[i]);
+    return new ElementScope(indexes[i]);
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The scope is created on demand unless it was entered via {@link #enterScope(Scope)}.
+   */
+  @Override
+  public @NotNull Scope getScope(int backward) {
+    if (backward < 0) throw new IllegalArgumentException("backward cannot be negative");
+    if (backward >= depth)
+      throw new IndexOutOfBoundsException("backward must be smaller than size of scopes");
+    return toScope(depth - 1 - backward);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * {@inheritDoc}<br>
+   * The scopes are created on demand unless they were entered via {@link #enterScope(Scope)}.
+   */
+  @Override
+  public Collection<Scope> getScopes() {
+    List<Scope> scopes = new ArrayList<>(depth);
+    for (int i = 0; i < depth; i++) {
+      scopes.add(toScope(i));
+    }
+    return Collections.unmodifiableList(scopes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NotNull Context fork() {
+    LightweightContext ctx = new LightweightContext(getFactory());
+    ctx.inheritScopes(this);
+    return ctx;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void inheritScopes(@NotNull Context parent) {
+    if (parent instanceof LightweightContext) {
+      LightweightContext other = (LightweightContext) parent;
+      for (int j = 0; j < other.depth; j++) {
+        int i = push();
+        frames[i] = other.frames[j];
+        settings[i] = other.settings[j];
+        containers[i] = other.containers[j];
+        indexes[i] = other.indexes[j];
+      }
+      return;
+    }
+    for (Scope scope : parent.getScopes()) {
+      int i = push();
+      frames[i] = scope;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NotNull String getPath() {
+    if (cachedPath == null) cachedPath = buildPath(PathType.FIELD, ".");
+    return cachedPath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NotNull String buildPath(@NotNull PathType type, @NotNull String separator) {
+    StringBuilder sb = new StringBuilder();
+    boolean wasProperty = false;
+    for (int i = 0; i < depth; i++) {
+      Object frame = frames[i];
+      if (frame instanceof Property) {
+        appendProperty(sb, (Property) frame, settings[i], type, separator, wasProperty);
+        wasProperty = true;
+      } else if (frame instanceof Scope) {
+        wasProperty = appendScope(sb, (Scope) frame, type, separator, wasProperty);
+      } else {
+        appendElement(sb, indexes[i]);
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -49,9 +49,13 @@ public class EntryKeyInjector implements Injector {
           ClassProperty property = schema.property(injectionPoint);
           if (property == null) continue;
           try {
-            property.field().set(val, key);
-          } catch (IllegalAccessException e) {
-            throw new ContextInjectionException(context, "Failed to access injection point", e);
+            property.accessor().set(val, key);
+          } catch (ClassCastException e) {
+            String msg =
+                String.format(
+                    "Injection point '%s' of %s is not a String-compatible field",
+                    injectionPoint, val.getClass().getName());
+            throw new ContextInjectionException(context, msg, e);
           }
         }
       }
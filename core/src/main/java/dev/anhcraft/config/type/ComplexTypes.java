@@ -13,6 +13,13 @@ import org.jetbrains.annotations.Nullable;
  */
 public class ComplexTypes {
   private static final Map<Class<?>, Class<?>> map = new HashMap<>();
+  private static final ClassValue<Class<?>> arrayTypes =
+      new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(@NotNull Class<?> componentType) {
+          return Array.newInstance(componentType, 0).getClass();
+        }
+      };
 
   static {
     map.put(byte.class, Byte.class);
@@ -109,16 +116,15 @@ public class ComplexTypes {
   }
 
   /**
-   * Gets the array type of the given component type.
+   * Gets the array type of the given component type.<br>
+   * The result is memoized per component type.
    * @param componentType the component type
    * @return the array type
    * @throws ClassNotFoundException cannot initialize the array type
    */
   @NotNull public static Class<?> getArrayType(@NotNull Class<?> componentType)
       throws ClassNotFoundException {
-    if (componentType.isPrimitive() || componentType.isArray())
-      return Array.newInstance(componentType, 0).getClass(); // TODO optimize?
-    return Class.forName("[L" + componentType.getCanonicalName() + ";");
+    return arrayTypes.get(componentType);
   }
 
   /**
@@ -128,7 +134,9 @@ public class ComplexTypes {
    * @throws ClassNotFoundException cannot initialize the array type
    */
   @NotNull public static Class<?> erasure(@NotNull Type type) throws ClassNotFoundException {
-    if (type instanceof GenericArrayType) {
+    if (type instanceof Class<?>) {
+      return (Class<?>) type;
+    } else if (type instanceof GenericArrayType) {
       Class<?> componentType = erasure(((GenericArrayType) type).getGenericComponentType());
       return getArrayType(componentType);
     } else if (type instanceof ParameterizedType) {
@@ -137,8 +145,6 @@ public class ComplexTypes {
       return Object.class;
     } else if (type instanceof TypeResolver) {
       return erasure(((TypeResolver) type).provideType());
-    } else if (type instanceof Class<?>) {
-      return (Class<?>) type;
     }
     throw new UnsupportedOperationException();
   }
@@ -4,8 +4,14 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Objects;
 import org.jetbrains.annotations.ApiStatus;
 
+/**
+ * Implementations of generic types used by {@link TypeResolver}.<br>
+ * The equality and hash code are consistent to the implementations of the JDK.
+ */
 @ApiStatus.Internal
 final class TypeImpl {
 
@@ -27,6 +33,20 @@ final class TypeImpl {
     public Type[] getLowerBounds() {
       return lowerBounds.clone();
     }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof WildcardType)) return false;
+      WildcardType that = (WildcardType) o;
+      return Arrays.equals(upperBounds, that.getUpperBounds())
+          && Arrays.equals(lowerBounds, that.getLowerBounds());
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+    }
   }
 
   static final class GenericArrayTypeImpl implements GenericArrayType {
@@ -40,6 +60,18 @@ final class TypeImpl {
     public Type getGenericComponentType() {
       return componentType;
     }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof GenericArrayType)) return false;
+      return Objects.equals(componentType, ((GenericArrayType) o).getGenericComponentType());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(componentType);
+    }
   }
 
   static final class ParameterizedTypeImpl implements ParameterizedType {
@@ -67,5 +99,22 @@ final class TypeImpl {
     public Type getOwnerType() {
       return ownerType;
     }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof ParameterizedType)) return false;
+      ParameterizedType that = (ParameterizedType) o;
+      return Objects.equals(ownerType, that.getOwnerType())
+          && Objects.equals(rawType, that.getRawType())
+          && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(actualTypeArguments)
+          ^ Objects.hashCode(ownerType)
+          ^ Objects.hashCode(rawType);
+    }
   }
 }
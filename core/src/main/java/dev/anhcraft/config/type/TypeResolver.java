@@ -4,13 +4,17 @@ import java.lang.reflect.*;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * A type resolver is a thin abstract using an existing resolved type to resolve other types.<br>
  * A resolved type is a type that having actual type arguments and no type variables.<br>
  * For example: {@code List<Integer>} is a resolved type, however, {@code List<T>} is not.<br>
- * To construct a type resolver, it is recommended to use {@link #of(Type)}.
+ * To construct a type resolver, it is recommended to use {@link #of(Type)}.<br>
+ * The resolver memoizes the resolved types, so that resolving the same type again returns the same instance without
+ * any allocation. As such, a type resolver should be reused for the same resolved type when possible. This class is
+ * thread-safe.
  * @see TypeToken
  */
 public abstract class TypeResolver implements Type {
@@ -30,7 +34,8 @@ public abstract class TypeResolver implements Type {
     };
   }
 
-  private Map<String, Type> typeMapping;
+  private volatile Map<String, Type> typeMapping;
+  private volatile Map<Type, Type> resolvedTypes;
 
   /**
    * Provides the resolved type.
@@ -74,6 +79,19 @@ public abstract class TypeResolver implements Type {
    * @return the resolved type
    */
   public @NotNull Type resolve(@NotNull Type type) {
+    if (type instanceof Class) return type;
+    Map<Type, Type> cache = resolvedTypes;
+    if (cache == null) resolvedTypes = cache = new ConcurrentHashMap<>();
+    Type resolved = cache.get(type);
+    if (resolved == null) {
+      resolved = resolveUncached(type);
+      Type previous = cache.putIfAbsent(type, resolved);
+      if (previous != null) resolved = previous;
+    }
+    return resolved;
+  }
+
+  private Type resolveUncached(Type type) {
     /*
        Resolve an unresolved type containing type variables using the type captured
        For example: public class Container<T> { public T[] items; }
@@ -83,20 +101,23 @@ public abstract class TypeResolver implements Type {
     */
     if (type instanceof ParameterizedType) {
       ParameterizedType paramType = (ParameterizedType) type;
-      Type[] args = paramType.getActualTypeArguments();
-      for (int i = 0; i < args.length; i++) args[i] = resolve(args[i]);
+      Type[] args = resolveAll(paramType.getActualTypeArguments());
+      if (args == null) return type;
       return new TypeImpl.ParameterizedTypeImpl(
           paramType.getOwnerType(), paramType.getRawType(), args);
     } else if (type instanceof GenericArrayType) {
       GenericArrayType arrayType = (GenericArrayType) type;
-      return new TypeImpl.GenericArrayTypeImpl(resolve(arrayType.getGenericComponentType()));
+      Type componentType = resolve(arrayType.getGenericComponentType());
+      if (componentType == arrayType.getGenericComponentType()) return type;
+      return new TypeImpl.GenericArrayTypeImpl(componentType);
     } else if (type instanceof WildcardType) {
       WildcardType wildcardType = (WildcardType) type;
-      Type[] upperBounds = wildcardType.getUpperBounds();
-      for (int i = 0; i < upperBounds.length; i++) upperBounds[i] = resolve(upperBounds[i]);
-      Type[] lowerBounds = wildcardType.getLowerBounds();
-      for (int i = 0; i < lowerBounds.length; i++) lowerBounds[i] = resolve(lowerBounds[i]);
-      return new TypeImpl.WildcardTypeImpl(upperBounds, lowerBounds);
+      Type[] upperBounds = resolveAll(wildcardType.getUpperBounds());
+      Type[] lowerBounds = resolveAll(wildcardType.getLowerBounds());
+      if (upperBounds == null && lowerBounds == null) return type;
+      return new TypeImpl.WildcardTypeImpl(
+          upperBounds == null ? wildcardType.getUpperBounds() : upperBounds,
+          lowerBounds == null ? wildcardType.getLowerBounds() : lowerBounds);
     } else if (type instanceof TypeVariable) {
       TypeVariable<?> typeVariable = (TypeVariable<?>) type;
       return getTypeMapping().getOrDefault(typeVariable.getName(), Object.class);
@@ -104,4 +125,17 @@ public abstract class TypeResolver implements Type {
       return type;
     }
   }
+
+  // returns a new array of resolved types or null if nothing changes
+  private Type[] resolveAll(Type[] types) {
+    Type[] result = null;
+    for (int i = 0; i < types.length; i++) {
+      Type resolved = resolve(types[i]);
+      if (resolved != types[i]) {
+        if (result == null) result = types.clone();
+        result[i] = resolved;
+      }
+    }
+    return result;
+  }
 }
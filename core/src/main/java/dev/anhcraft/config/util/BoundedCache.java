@@ -0,0 +1,340 @@
+package dev.anhcraft.config.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe, bounded cache with frequency-aware eviction.<br>
+ * Reads are lock-free and only bump the approximate access frequency of the entry. Once the frequency is high, it is
+ * only bumped with a decreasing probability, so that hot entries are rarely written. When an insertion makes the cache
+ * exceed its maximum size, the least frequently used entry among a small sample is evicted. The frequencies are
+ * periodically halved so that entries which were popular a long time ago can be evicted eventually; the halving is
+ * applied lazily when a frequency is read.<br>
+ * The cache records hit, miss, eviction and load statistics, see {@link #stats()}. Only {@link #get(Object)} and
+ * {@link #getOrLoad(Object, Function)} are counted as hits or misses.<br>
+ * Null keys and values are not permitted.
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class BoundedCache<K, V> extends AbstractMap<K, V> {
+  private static final int MAX_FREQUENCY = 0xFFFF;
+  // frequencies below the floor are always bumped, above it with the probability floor / frequency
+  private static final int SAMPLING_FLOOR = 16;
+  private static final int SAMPLE_SIZE = 8;
+
+  private final ConcurrentHashMap<K, Node<V>> map = new ConcurrentHashMap<>();
+  private final int maximumSize;
+  private final int agingPeriod;
+  // the epoch is bumped every aging period, which halves all frequencies
+  private volatile int epoch;
+  private long agedAt;
+  private Iterator<Map.Entry<K, Node<V>>> hand;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder loadCount = new LongAdder();
+  private final LongAdder totalLoadTime = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private Set<Entry<K, V>> entrySet;
+
+  /**
+   * Constructs a bounded cache.
+   * @param maximumSize the maximum number of entries (positive)
+   */
+  public BoundedCache(int maximumSize) {
+    if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive");
+    this.maximumSize = maximumSize;
+    this.agingPeriod = (int) Math.min(Integer.MAX_VALUE, maximumSize * 10L);
+  }
+
+  /**
+   * Gets the maximum number of entries.
+   * @return the maximum size
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  @Override
+  public @Nullable V get(Object key) {
+    Node<V> node = map.get(key);
+    if (node == null) {
+      missCount.increment();
+      return null;
+    }
+    hit(node);
+    return node.value;
+  }
+
+  /**
+   * Gets the value associated with the given key, or loads it if absent.<br>
+   * The loader is called outside any lock so that it may use this cache recursively. If several threads load the same
+   * key concurrently, the first stored value wins and is returned to all of them.
+   * @param key the key
+   * @param loader the loader
+   * @return the value
+   */
+  public @NotNull V getOrLoad(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+    Node<V> node = map.get(key);
+    if (node != null) {
+      hit(node);
+      return node.value;
+    }
+    missCount.increment();
+    long start = System.nanoTime();
+    V value;
+    try {
+      value = Objects.requireNonNull(loader.apply(key));
+    } finally {
+      totalLoadTime.add(System.nanoTime() - start);
+      loadCount.increment();
+    }
+    node = map.putIfAbsent(key, new Node<>(value, pack(epoch, 1)));
+    if (node != null) return node.value;
+    evictIfNeeded(key);
+    return value;
+  }
+
+  @Override
+  public @Nullable V put(@NotNull K key, @NotNull V value) {
+    Objects.requireNonNull(value);
+    Node<V> prev = map.get(key);
+    Node<V> node = new Node<>(value, prev == null ? pack(epoch, 1) : prev.state);
+    prev = map.put(key, node);
+    if (prev == null) evictIfNeeded(key);
+    return prev == null ? null : prev.value;
+  }
+
+  @Override
+  public @Nullable V remove(Object key) {
+    Node<V> node = map.remove(key);
+    return node == null ? null : node.value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+
+  @Override
+  public @NotNull Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> set = entrySet;
+    if (set == null) entrySet = set = new EntrySet();
+    return set;
+  }
+
+  /**
+   * Gets a snapshot of the statistics of this cache.
+   * @return the statistics
+   */
+  public @NotNull Stats stats() {
+    return new Stats(
+        hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(), evictionCount.sum());
+  }
+
+  private void hit(Node<V> node) {
+    hitCount.increment();
+    // the frequency is approximate, lost updates under contention are acceptable
+    int epoch = this.epoch;
+    int frequency = frequency(node.state, epoch);
+    if (frequency >= MAX_FREQUENCY) return;
+    if (frequency >= SAMPLING_FLOOR
+        && ThreadLocalRandom.current().nextInt(frequency) >= SAMPLING_FLOOR) return;
+    node.state = pack(epoch, frequency + 1);
+  }
+
+  private static int pack(int epoch, int frequency) {
+    return epoch << 16 | frequency;
+  }
+
+  // the frequency of a state is halved for each epoch passed since it was written
+  private static int frequency(int state, int epoch) {
+    int age = (epoch - (state >>> 16)) & 0xFFFF;
+    return age >= 16 ? 0 : (state & MAX_FREQUENCY) >>> age;
+  }
+
+  private void evictIfNeeded(K newKey) {
+    if (map.size() <= maximumSize) return;
+    synchronized (this) {
+      long hits = hitCount.sum();
+      if (hits - agedAt >= agingPeriod) {
+        agedAt = hits;
+        epoch = (epoch + 1) & 0xFFFF;
+      }
+      int epoch = this.epoch;
+      while (map.size() > maximumSize) {
+        K victim = null;
+        int min = Integer.MAX_VALUE;
+        // samples the entries after the previous victim, wrapping around at most once
+        int sampled = 0;
+        boolean wrapped = false;
+        while (sampled < SAMPLE_SIZE) {
+          if (hand == null || !hand.hasNext()) {
+            if (wrapped) break;
+            wrapped = true;
+            hand = map.entrySet().iterator();
+            continue;
+          }
+          Map.Entry<K, Node<V>> entry = hand.next();
+          // give the new entry a chance to be accessed again
+          if (entry.getKey().equals(newKey)) continue;
+          Node<V> node = entry.getValue();
+          int state = node.state;
+          int frequency = frequency(state, epoch);
+          // rewrites a stale state at the current epoch so that its age cannot wrap around
+          if (state >>> 16 != epoch) node.state = pack(epoch, frequency);
+          if (frequency < min) {
+            min = frequency;
+            victim = entry.getKey();
+          }
+          sampled++;
+        }
+        if (victim == null) break;
+        if (map.remove(victim) != null) evictionCount.increment();
+      }
+    }
+  }
+
+  private static final class Node<V> {
+    private final V value;
+    // the epoch in the upper and the frequency in the lower 16 bits
+    // a plain field as a stale read only makes the frequency more approximate
+    private int state;
+
+    private Node(V value, int state) {
+      this.value = value;
+      this.state = state;
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+      Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return it.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          Map.Entry<K, Node<V>> entry = it.next();
+          return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value);
+        }
+
+        @Override
+        public void remove() {
+          it.remove();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public void clear() {
+      map.clear();
+    }
+  }
+
+  /**
+   * A snapshot of the statistics of a {@link BoundedCache}.
+   */
+  public static final class Stats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+
+    Stats(long hitCount, long missCount, long loadCount, long totalLoadTime, long evictionCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.loadCount = loadCount;
+      this.totalLoadTime = totalLoadTime;
+      this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Gets the number of lookups which found an entry.
+     * @return the hit count
+     */
+    public long hitCount() {
+      return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups which found no entry.
+     * @return the miss count
+     */
+    public long missCount() {
+      return missCount;
+    }
+
+    /**
+     * Gets the ratio of hits over all lookups.
+     * @return the hit rate, or {@code 1} if there is no lookup
+     */
+    public double hitRate() {
+      long total = hitCount + missCount;
+      return total == 0 ? 1 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of loaded entries.
+     * @return the load count
+     */
+    public long loadCount() {
+      return loadCount;
+    }
+
+    /**
+     * Gets the total time spent loading entries.
+     * @return the time in nanoseconds
+     */
+    public long totalLoadTime() {
+      return totalLoadTime;
+    }
+
+    /**
+     * Gets the average time spent loading an entry.
+     * @return the time in nanoseconds, or {@code 0} if nothing was loaded
+     */
+    public double averageLoadPenalty() {
+      return loadCount == 0 ? 0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * Gets the number of evicted entries.
+     * @return the eviction count
+     */
+    public long evictionCount() {
+      return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "Stats{hitCount=%d, missCount=%d, loadCount=%d, totalLoadTime=%d, evictionCount=%d}",
+          hitCount, missCount, loadCount, totalLoadTime, evictionCount);
+    }
+  }
+}
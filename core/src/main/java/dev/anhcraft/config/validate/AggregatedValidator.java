@@ -8,15 +8,21 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Aggregates multiple validation and checks all of them.
+ * Aggregates multiple validation and checks all of them.<br>
+ * The validator is immutable and can be shared. {@link #test(Object)} and {@link #message(int)} are preferred over
+ * {@link #check(Object)} and {@link #message()} as the latter pair has to remember the failure of each thread.
+ * Likewise, {@link #testInt(int)}, {@link #testLong(long)} and {@link #testDouble(double)} check primitives without
+ * boxing.
  */
 public class AggregatedValidator implements Validator {
+  private final Validation[] array;
   private final List<Validation> validations;
-  private final ThreadLocal<String> lastMessage = new ThreadLocal<>();
+  private final ThreadLocal<Validation> lastFailure = new ThreadLocal<>();
   private final boolean silent;
 
   public AggregatedValidator(@NotNull Validation[] validators, boolean silent) {
-    this.validations = Collections.unmodifiableList(Arrays.asList(validators));
+    this.array = validators.clone();
+    this.validations = Collections.unmodifiableList(Arrays.asList(array));
     this.silent = silent;
   }
 
@@ -28,13 +34,51 @@ public class AggregatedValidator implements Validator {
    */
   @Override
   public boolean check(@Nullable Object value) {
-    for (Validation validation : validations) {
-      if (!validation.check(value)) {
-        lastMessage.set(validation.message());
-        return false;
-      }
+    int failure = test(value);
+    if (failure == PASSED) return true;
+    lastFailure.set(array[failure]);
+    return false;
+  }
+
+  @Override
+  public int test(@Nullable Object value) {
+    Validation[] array = this.array;
+    for (int i = 0; i < array.length; i++) {
+      if (!array[i].check(value)) return i;
+    }
+    return PASSED;
+  }
+
+  @Override
+  public int testInt(int value) {
+    Validation[] array = this.array;
+    for (int i = 0; i < array.length; i++) {
+      if (!array[i].checkInt(value)) return i;
+    }
+    return PASSED;
+  }
+
+  @Override
+  public int testLong(long value) {
+    Validation[] array = this.array;
+    for (int i = 0; i < array.length; i++) {
+      if (!array[i].checkLong(value)) return i;
     }
-    return true;
+    return PASSED;
+  }
+
+  @Override
+  public int testDouble(double value) {
+    Validation[] array = this.array;
+    for (int i = 0; i < array.length; i++) {
+      if (!array[i].checkDouble(value)) return i;
+    }
+    return PASSED;
+  }
+
+  @Override
+  public @NotNull String message(int failure) {
+    return array[failure].message();
   }
 
   @Override
@@ -44,7 +88,8 @@ public class AggregatedValidator implements Validator {
 
   @Override
   public @NotNull String message() {
-    return lastMessage.get();
+    Validation validation = lastFailure.get();
+    return validation == null ? "" : validation.message();
   }
 
   @Override
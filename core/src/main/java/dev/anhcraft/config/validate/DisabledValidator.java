@@ -15,6 +15,26 @@ public class DisabledValidator implements Validator {
     return true;
   }
 
+  @Override
+  public int test(Object value) {
+    return PASSED;
+  }
+
+  @Override
+  public int testInt(int value) {
+    return PASSED;
+  }
+
+  @Override
+  public int testLong(long value) {
+    return PASSED;
+  }
+
+  @Override
+  public int testDouble(double value) {
+    return PASSED;
+  }
+
   @Override
   public @NotNull String message() {
     return "";
@@ -1,8 +1,10 @@
 package dev.anhcraft.config.validate;
 
 import dev.anhcraft.config.error.ValidationParseException;
+import dev.anhcraft.config.util.StringUtil;
 import dev.anhcraft.config.validate.check.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,8 @@ public class ValidationRegistry {
           .build();
 
   private final Map<String, ValidationConstructor> validations;
+  private final Map<String, Validator> validators = new ConcurrentHashMap<>();
+  private final Map<String, Validator> silentValidators = new ConcurrentHashMap<>();
 
   /**
    * Combines multiple validation registries into one.
@@ -69,28 +73,41 @@ public class ValidationRegistry {
   }
 
   /**
-   * Constructs a validator from a string.
+   * Constructs a validator from a string.<br>
+   * The result is interned: parsing the same string again returns the same validator.
    * @param str the string
    * @param silent whether this validator is silent
    * @return the validator
    */
   @NotNull public Validator parseString(@NotNull String str, boolean silent) {
+    Map<String, Validator> cache = silent ? silentValidators : validators;
+    Validator validator = cache.get(str);
+    if (validator != null) return validator;
+    validator = compile(str, silent);
+    Validator previous = cache.putIfAbsent(str, validator);
+    return previous == null ? validator : previous;
+  }
+
+  private Validator compile(String str, boolean silent) {
     List<Validation> list = new ArrayList<>();
-    String[] tuples = str.trim().split("\\s*,\\s*");
 
-    for (String tuple : tuples) {
+    for (String tuple : StringUtil.fastSplit(str, ',')) {
+      tuple = tuple.trim();
       if (tuple.isEmpty()) continue;
-      String[] args = tuple.split("\\s*=\\s*");
-      if (args.length > 2)
+      List<String> args = StringUtil.fastSplit(tuple, '=');
+      // trailing empty arguments are ignored, e.g. "not-null="
+      int n = args.size();
+      while (n > 1 && args.get(n - 1).isBlank()) n--;
+      if (n > 2)
         throw new ValidationParseException(
             String.format("Invalid validation syntax at parameter '%s'", tuple));
 
-      String type = args[0];
+      String type = args.get(0).trim();
       Function<String, Validation> validation = validations.get(type);
       if (validation == null)
         throw new ValidationParseException(String.format("Validation type '%s' not found", type));
 
-      list.add(validation.apply(args.length == 2 ? args[1] : ""));
+      list.add(validation.apply(n == 2 ? args.get(1).trim() : ""));
     }
 
     return new AggregatedValidator(list.toArray(Validation[]::new), silent);
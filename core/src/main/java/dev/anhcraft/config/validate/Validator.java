@@ -3,11 +3,17 @@ package dev.anhcraft.config.validate;
 import dev.anhcraft.config.validate.check.Validation;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A validator contains a set of {@link Validation}
  */
 public interface Validator extends Validation {
+  /**
+   * The result of {@link #test(Object)} when all validations pass.
+   */
+  int PASSED = -1;
+
   /**
    * Gets all validations used by this validator.
    * @return list of validations
@@ -20,4 +26,54 @@ public interface Validator extends Validation {
    * @return {@code true} if this validator is silent
    */
   boolean silent();
+
+  /**
+   * Checks the given value against all validations.<br>
+   * Unlike {@link #check(Object)}, this method does not remember the failure. Instead, it returns the index of the
+   * failed validation which can be later passed to {@link #message(int)} to produce the message only when needed.
+   * @param value the value to check
+   * @return {@link #PASSED} if all checks pass, otherwise the index of the failed validation
+   */
+  default int test(@Nullable Object value) {
+    return check(value) ? PASSED : 0;
+  }
+
+  /**
+   * Checks the given {@code int} against all validations.
+   * @param value the value to check
+   * @return {@link #PASSED} if all checks pass, otherwise the index of the failed validation
+   * @see #test(Object)
+   */
+  default int testInt(int value) {
+    return checkInt(value) ? PASSED : 0;
+  }
+
+  /**
+   * Checks the given {@code long} against all validations.
+   * @param value the value to check
+   * @return {@link #PASSED} if all checks pass, otherwise the index of the failed validation
+   * @see #test(Object)
+   */
+  default int testLong(long value) {
+    return checkLong(value) ? PASSED : 0;
+  }
+
+  /**
+   * Checks the given {@code double} against all validations.
+   * @param value the value to check
+   * @return {@link #PASSED} if all checks pass, otherwise the index of the failed validation
+   * @see #test(Object)
+   */
+  default int testDouble(double value) {
+    return checkDouble(value) ? PASSED : 0;
+  }
+
+  /**
+   * Returns the message of the given failure.
+   * @param failure the result of {@link #test(Object)}
+   * @return the message
+   */
+  default @NotNull String message(int failure) {
+    return message();
+  }
 }
@@ -12,6 +12,21 @@ public class NotBlankValidation implements Validation {
     return true;
   }
 
+  @Override
+  public boolean checkInt(int value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkLong(long value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkDouble(double value) {
+    return true;
+  }
+
   @Override
   public @NotNull String message() {
     return "must be not-blank";
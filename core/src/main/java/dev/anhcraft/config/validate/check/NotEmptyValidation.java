@@ -18,6 +18,21 @@ public class NotEmptyValidation implements Validation {
     return true;
   }
 
+  @Override
+  public boolean checkInt(int value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkLong(long value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkDouble(double value) {
+    return true;
+  }
+
   @Override
   public @NotNull String message() {
     return "must be not-empty";
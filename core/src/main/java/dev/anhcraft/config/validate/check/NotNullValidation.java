@@ -11,6 +11,21 @@ public class NotNullValidation implements Validation {
     return value != null;
   }
 
+  @Override
+  public boolean checkInt(int value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkLong(long value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkDouble(double value) {
+    return true;
+  }
+
   @Override
   public @NotNull String message() {
     return "must be not-null";
@@ -11,8 +11,9 @@ import org.jetbrains.annotations.NotNull;
  */
 public class RangeValidation extends ParameterizedValidation {
   private static final DecimalFormat FORMAT = new DecimalFormat("0.#");
-  private Double min;
-  private Double max;
+  // unbounded sides are infinite so that the check needs no null test
+  private double min = Double.NEGATIVE_INFINITY;
+  private double max = Double.POSITIVE_INFINITY;
 
   public RangeValidation(@NotNull String arg) {
     super(arg);
@@ -24,7 +25,7 @@ public class RangeValidation extends ParameterizedValidation {
     } else if (parts.size() == 2) {
       if (!parts.get(0).isEmpty()) min = parseDouble(parts.get(0));
       if (!parts.get(1).isEmpty()) max = parseDouble(parts.get(1));
-      if (max != null && min != null && min - max > 1e-8) {
+      if (min - max > 1e-8) {
         throw new ValidationParseException("Invalid validation argument: " + arg);
       }
     } else {
@@ -48,17 +49,33 @@ public class RangeValidation extends ParameterizedValidation {
   public boolean check(Object value) {
     if (value instanceof Number) {
       double number = ((Number) value).doubleValue();
-      if (min != null && number < min) return false;
-      return max == null || number <= max;
+      return number >= min && number <= max;
     }
     return true;
   }
 
+  @Override
+  public boolean checkInt(int value) {
+    return value >= min && value <= max;
+  }
+
+  @Override
+  public boolean checkLong(long value) {
+    return value >= min && value <= max;
+  }
+
+  @Override
+  public boolean checkDouble(double value) {
+    return value >= min && value <= max;
+  }
+
   @Override
   public @NotNull String message() {
-    if (min != null && max == null) return String.format("must be at least %s", FORMAT.format(min));
-    if (min == null && max != null) return String.format("must be at most %s", FORMAT.format(max));
-    if (min != null)
+    boolean hasMin = min != Double.NEGATIVE_INFINITY;
+    boolean hasMax = max != Double.POSITIVE_INFINITY;
+    if (hasMin && !hasMax) return String.format("must be at least %s", FORMAT.format(min));
+    if (!hasMin && hasMax) return String.format("must be at most %s", FORMAT.format(max));
+    if (hasMin)
       return String.format("must be between %s and %s", FORMAT.format(min), FORMAT.format(max));
     return "";
   }
@@ -14,8 +14,11 @@ import org.jetbrains.annotations.NotNull;
  * Support: {@link String}, {@link Collection}, {@link Map} (including dictionary)
  */
 public class SizeValidation extends ParameterizedValidation {
-  private Integer min;
-  private Integer max;
+  // sizes are never negative, so an unbounded side needs no special case in the check
+  private int min;
+  private int max = Integer.MAX_VALUE;
+  private boolean hasMin;
+  private boolean hasMax;
 
   public SizeValidation(@NotNull String arg) {
     super(arg);
@@ -24,10 +27,14 @@ public class SizeValidation extends ParameterizedValidation {
       int num = parseInt(parts.get(0));
       min = num;
       max = num;
+      hasMin = true;
+      hasMax = true;
     } else if (parts.size() == 2) {
-      if (!parts.get(0).isEmpty()) min = parseInt(parts.get(0));
-      if (!parts.get(1).isEmpty()) max = parseInt(parts.get(1));
-      if (max != null && min != null && min > max) {
+      hasMin = !parts.get(0).isEmpty();
+      hasMax = !parts.get(1).isEmpty();
+      if (hasMin) min = parseInt(parts.get(0));
+      if (hasMax) max = parseInt(parts.get(1));
+      if (min > max) {
         throw new ValidationParseException("Invalid validation argument: " + arg);
       }
     } else {
@@ -55,15 +62,29 @@ public class SizeValidation extends ParameterizedValidation {
     else if (value instanceof Map) number = ((Map<?, ?>) value).size();
     else if (ComplexTypes.isArray(value)) number = Array.getLength(value);
     if (number == -1) return true;
-    if (min != null && number < min) return false;
-    return max == null || !(number > max);
+    return number >= min && number <= max;
+  }
+
+  @Override
+  public boolean checkInt(int value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkLong(long value) {
+    return true;
+  }
+
+  @Override
+  public boolean checkDouble(double value) {
+    return true;
   }
 
   @Override
   public @NotNull String message() {
-    if (min != null && max == null) return String.format("must be at least %d", min);
-    if (min == null && max != null) return String.format("must be at most %d", max);
-    if (min != null) return String.format("must be between %d and %d", min, max);
+    if (hasMin && !hasMax) return String.format("must be at least %d", min);
+    if (!hasMin && hasMax) return String.format("must be at most %d", max);
+    if (hasMin) return String.format("must be between %d and %d", min, max);
     return "";
   }
 }
@@ -5,7 +5,9 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a validation.<br>
- * Unless the validation is {@link ParameterizedValidation}, it can be singleton.
+ * Unless the validation is {@link ParameterizedValidation}, it can be singleton.<br>
+ * The primitive-specialized checks such as {@link #checkInt(int)} box the value and delegate to {@link #check(Object)}
+ * by default. Validations that are cheap on primitives should override them to avoid boxing.
  */
 public interface Validation {
   /**
@@ -20,4 +22,31 @@ public interface Validation {
    * @return the message
    */
   @NotNull String message();
+
+  /**
+   * Checks the given {@code int} against the validation
+   * @param value the value to check
+   * @return {@code true} if the validation passes
+   */
+  default boolean checkInt(int value) {
+    return check(Integer.valueOf(value));
+  }
+
+  /**
+   * Checks the given {@code long} against the validation
+   * @param value the value to check
+   * @return {@code true} if the validation passes
+   */
+  default boolean checkLong(long value) {
+    return check(Long.valueOf(value));
+  }
+
+  /**
+   * Checks the given {@code double} against the validation
+   * @param value the value to check
+   * @return {@code true} if the validation passes
+   */
+  default boolean checkDouble(double value) {
+    return check(Double.valueOf(value));
+  }
 }
@@ -1,10 +1,12 @@
 package dev.anhcraft.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.anhcraft.config.context.*;
 import dev.anhcraft.config.context.injector.EntryKeyInjector;
+import dev.anhcraft.config.error.ContextInjectionException;
 import dev.anhcraft.config.meta.Fallback;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
@@ -21,6 +23,14 @@ public class ConfigDenormalizerKeyInjectTest {
     public String name;
   }
 
+  public static class NumberedConfig {
+    @Fallback public Map<String, NumberedItem> items;
+  }
+
+  public static class NumberedItem {
+    public Integer id;
+  }
+
   private static ConfigFactory factory;
 
   @BeforeAll
@@ -96,4 +106,21 @@ public class ConfigDenormalizerKeyInjectTest {
     assertEquals("item10", cfg.items.get("item10").id);
     assertEquals("Webcam", cfg.items.get("item10").name);
   }
+
+  @Test
+  public void testInjectIncompatibleKey() {
+    SchemalessDictionary dict =
+        SchemalessDictionary.create()
+            .put("item1", SchemalessDictionary.create().put("id", 1).build())
+            .build();
+    ContextInjectionException e =
+        assertThrows(
+            ContextInjectionException.class,
+            () -> factory.getDenormalizer().denormalize(dict, NumberedConfig.class));
+    assertEquals(
+        "Injection point 'id' of "
+            + NumberedItem.class.getName()
+            + " is not a String-compatible field",
+        e.getMessage());
+  }
 }
@@ -9,6 +9,7 @@ import dev.anhcraft.config.error.IllegalTypeException;
 import dev.anhcraft.config.error.InvalidValueException;
 import dev.anhcraft.config.meta.*;
 import dev.anhcraft.config.meta.Optional;
+import dev.anhcraft.config.type.TypeToken;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -446,4 +447,158 @@ public class ConfigDenormalizerTest {
     assertEquals(Set.of("c"), bucket.bar.keySet());
     assertEquals(4, bucket.bar.get("c"));
   }
+
+  @Nested
+  public class TestCanonicalConstructor {
+    private final ConfigFactory factory =
+        ConfigFactory.create()
+            .enableDenormalizerSetting(SettingFlag.Denormalizer.PREFER_CANONICAL_CONSTRUCTOR)
+            .build();
+
+    @Test
+    public void testDenormalize() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("name", "Alice", "age", 21, "nickname", "Al"));
+      Member member = (Member) factory.getDenormalizer().denormalize(dict, Member.class);
+      assertNotNull(member);
+      assertEquals("Alice", member.name);
+      assertEquals(21, member.age);
+      assertEquals(Map.of("nickname", "Al"), member.extra);
+      assertTrue(member.constructed);
+    }
+
+    @Test
+    public void testMissingValues() throws Exception {
+      Member member =
+          (Member) factory.getDenormalizer().denormalize(Dictionary.of(Map.of()), Member.class);
+      assertNotNull(member);
+      assertNull(member.name);
+      assertEquals(0, member.age);
+      assertTrue(member.constructed);
+    }
+
+    @Test
+    public void testValidation() {
+      Dictionary dict = Dictionary.of(Map.of("name", "Bob", "age", -1));
+      assertThrows(
+          InvalidValueException.class,
+          () -> factory.getDenormalizer().denormalize(dict, Member.class));
+    }
+
+    @Test
+    public void testConstant() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("name", "v2", "kind", "other"));
+      Release release = (Release) factory.getDenormalizer().denormalize(dict, Release.class);
+      assertNotNull(release);
+      assertEquals("v2", release.name);
+      assertEquals("stable", release.kind);
+      assertTrue(release.constructed);
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("name", "Alice", "age", 21));
+      Member member =
+          (Member) ConfigFactory.create().build().getDenormalizer().denormalize(dict, Member.class);
+      assertNotNull(member);
+      assertEquals("Alice", member.name);
+      assertFalse(member.constructed);
+    }
+  }
+
+  @Nested
+  public class TestBatch {
+    @Test
+    public void testDenormalizeAll() throws Exception {
+      ConfigFactory factory = ConfigFactory.create().build();
+      List<Dictionary> dicts =
+          Arrays.asList(
+              Dictionary.of(Map.of("name", "Alice", "age", 21)),
+              null,
+              Dictionary.of(Map.of("name", "Bob", "age", 30)));
+      List<Object> result = factory.getDenormalizer().denormalizeAll(dicts, Member.class);
+      assertEquals(3, result.size());
+      assertEquals("Alice", ((Member) result.get(0)).name);
+      assertNull(result.get(1));
+      assertEquals(30, ((Member) result.get(2)).age);
+    }
+
+    @Test
+    public void testDenormalizeAllToMap() throws Exception {
+      ConfigFactory factory = ConfigFactory.create().build();
+      TypeToken<Map<String, Integer>> type = new TypeToken<>() {};
+      List<Object> result =
+          factory.getDenormalizer().denormalizeAll(List.of(Dictionary.of(Map.of("a", "1"))), type);
+      assertEquals(List.of(Map.of("a", 1)), result);
+    }
+
+    @Test
+    public void testStopAtFirstError() {
+      ConfigFactory factory = ConfigFactory.create().build();
+      List<Dictionary> dicts =
+          List.of(Dictionary.of(Map.of("age", 1)), Dictionary.of(Map.of("age", -1)));
+      InvalidValueException e =
+          assertThrows(
+              InvalidValueException.class,
+              () -> factory.getDenormalizer().denormalizeAll(dicts, Member.class));
+      assertEquals("age", e.getContext().getPath());
+    }
+
+    @Test
+    public void testErrorIsolation() throws Exception {
+      for (ConfigFactory factory :
+          List.of(
+              ConfigFactory.create().build(),
+              ConfigFactory.create().useParallelDenormalization(2).build())) {
+        List<Dictionary> dicts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+          dicts.add(Dictionary.of(Map.of("age", i % 30 == 1 ? -i : i)));
+        }
+        List<Integer> failed = new ArrayList<>();
+        List<Object> result =
+            factory
+                .getDenormalizer()
+                .denormalizeAll(
+                    dicts,
+                    Member.class,
+                    (e, i) -> {
+                      assertEquals("age", ((InvalidValueException) e).getContext().getPath());
+                      failed.add(i);
+                    });
+        assertEquals(List.of(1, 31, 61, 91), failed);
+        for (int i = 0; i < 100; i++) {
+          if (failed.contains(i)) assertNull(result.get(i));
+          else assertEquals(i, ((Member) result.get(i)).age);
+        }
+      }
+    }
+  }
+
+  public static class Member {
+    private final String name;
+
+    @Validate("range=0|")
+    private final int age;
+
+    @Fallback private final Map<String, Object> extra;
+
+    private final transient boolean constructed;
+
+    public Member(String name, int age, Map<String, Object> extra) {
+      this.name = name;
+      this.age = age;
+      this.extra = extra;
+      this.constructed = true;
+    }
+  }
+
+  public static class Release {
+    @Constant private final String kind = "stable";
+    private final String name;
+    private final transient boolean constructed;
+
+    public Release(String name) {
+      this.name = name;
+      this.constructed = true;
+    }
+  }
 }
@@ -6,12 +6,14 @@ import dev.anhcraft.config.adapter.TypeAdapter;
 import dev.anhcraft.config.adapter.TypeAnnotator;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.error.IllegalTypeException;
+import dev.anhcraft.config.error.InvalidValueException;
 import dev.anhcraft.config.meta.Normalizer;
 import dev.anhcraft.config.meta.Normalizer.Strategy;
 import dev.anhcraft.config.meta.Transient;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import org.jetbrains.annotations.NotNull;
@@ -273,4 +275,104 @@ public class ConfigNormalizerTest {
       }
     }
   }
+
+  @Nested
+  public class TestBatch {
+    private final ConfigFactory factory =
+        ConfigFactory.create().adaptType(Points.class, new PointsAdapter()).build();
+
+    @Test
+    public void testNormalizeAll() throws Exception {
+      List<Object> result =
+          factory
+              .getNormalizer()
+              .normalizeAll(Score.class, Arrays.asList(new Score(1), null, new Score(2)));
+      assertEquals(3, result.size());
+      assertEquals(1, ((Dictionary) result.get(0)).get("points"));
+      assertNull(result.get(1));
+      assertEquals(2, ((Dictionary) result.get(2)).get("points"));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testTypeMismatch() {
+      List<Object> list = List.of(new Score(1), "abc");
+      assertThrows(
+          IllegalTypeException.class,
+          () -> factory.getNormalizer().normalizeAll(Score.class, (List) list));
+    }
+
+    @Test
+    public void testStopAtFirstError() {
+      List<Score> scores = List.of(new Score(1), new Score(-2), new Score(-3));
+      InvalidValueException e =
+          assertThrows(
+              InvalidValueException.class,
+              () -> factory.getNormalizer().normalizeAll(Score.class, scores));
+      assertEquals("Negative points: -2", e.getMessage());
+    }
+
+    @Test
+    public void testErrorIsolation() throws Exception {
+      for (ConfigFactory factory :
+          List.of(
+              this.factory,
+              ConfigFactory.create()
+                  .adaptType(Points.class, new PointsAdapter())
+                  .useParallelNormalization(2)
+                  .build())) {
+        List<Score> scores = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+          scores.add(new Score(i % 30 == 1 ? -i : i));
+        }
+        List<Integer> failed = new ArrayList<>();
+        List<Object> result =
+            factory
+                .getNormalizer()
+                .normalizeAll(
+                    Score.class,
+                    scores,
+                    (e, i) -> {
+                      assertEquals("points", ((InvalidValueException) e).getContext().getPath());
+                      failed.add(i);
+                    });
+        assertEquals(List.of(1, 31, 61, 91), failed);
+        for (int i = 0; i < 100; i++) {
+          if (failed.contains(i)) assertNull(result.get(i));
+          else if (i > 0) assertEquals(i, ((Dictionary) result.get(i)).get("points"));
+        }
+      }
+    }
+  }
+
+  public static class Score {
+    public Points points;
+
+    public Score(int value) {
+      this.points = new Points(value);
+    }
+  }
+
+  public static class Points {
+    private final int value;
+
+    public Points(int value) {
+      this.value = value;
+    }
+  }
+
+  public static class PointsAdapter implements TypeAdapter<Points> {
+    @Override
+    public @Nullable Object simplify(
+        @NotNull Context ctx, @NotNull Class<? extends Points> sourceType, @NotNull Points value) {
+      if (value.value < 0) throw new InvalidValueException(ctx, "Negative points: " + value.value);
+      return value.value;
+    }
+
+    @Override
+    public @Nullable Points complexify(
+        @NotNull Context ctx, @NotNull Object value, @NotNull Type targetType) {
+      return null;
+    }
+  }
 }
@@ -2,9 +2,12 @@ package dev.anhcraft.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import dev.anhcraft.config.blueprint.ClassSchema;
 import dev.anhcraft.config.context.Context;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -41,6 +44,19 @@ class InstanceFactoryTest {
     assertNotNull(instance);
   }
 
+  @Test
+  void testBindConstructor() throws Exception {
+    Supplier<?> supplier =
+        InstanceFactory.bindConstructor(TestClassWithDefaultConstructor.class.getConstructor());
+    assertNotNull(supplier);
+    assertInstanceOf(TestClassWithDefaultConstructor.class, supplier.get());
+    supplier =
+        InstanceFactory.bindConstructor(
+            TestClassWithoutDefaultConstructor.class.getDeclaredConstructor());
+    assertNotNull(supplier);
+    assertInstanceOf(TestClassWithoutDefaultConstructor.class, supplier.get());
+  }
+
   @Test
   void testGetInstanceAssemblerWithNonInstantiableClass() {
     Executable executable = () -> instanceFactory.getInstanceAssembler(AbstractClass.class);
@@ -61,6 +77,53 @@ class InstanceFactoryTest {
     assertThrows(IllegalArgumentException.class, executable);
   }
 
+  @Test
+  void testGetCanonicalConstructor() throws Exception {
+    ClassSchema schema = ConfigFactory.create().build().getSchema(Point.class);
+    CanonicalConstructor constructor = instanceFactory.getCanonicalConstructor(schema);
+    assertNotNull(constructor);
+    assertSame(constructor, instanceFactory.getCanonicalConstructor(schema));
+
+    Object[] arguments = constructor.newArguments();
+    assertArrayEquals(new Object[] {0, null}, arguments);
+    arguments[0] = 3;
+    arguments[1] = "A";
+    Point point = (Point) constructor.newInstance(arguments);
+    assertEquals(3, point.x);
+    assertEquals("A", point.label);
+  }
+
+  @Test
+  void testGetCanonicalConstructorWithoutMatchingConstructor() {
+    ClassSchema schema =
+        ConfigFactory.create().build().getSchema(TestClassWithDefaultConstructor.class);
+    assertNull(instanceFactory.getCanonicalConstructor(schema));
+  }
+
+  @Test
+  void testGetCanonicalConstructorWithAssembler() {
+    InstanceAssembler assembler =
+        new InstanceAssembler() {
+          @Override
+          public <T> @NotNull T newInstance(@NotNull Context context, @NotNull Class<T> clazz) {
+            return clazz.cast(new Point(0, ""));
+          }
+        };
+    InstanceFactory factory = new InstanceFactory(Map.of(Point.class, assembler));
+    ClassSchema schema = ConfigFactory.create().build().getSchema(Point.class);
+    assertNull(factory.getCanonicalConstructor(schema));
+  }
+
+  public static class Point {
+    private final int x;
+    private final String label;
+
+    public Point(int x, String label) {
+      this.x = x;
+      this.label = label;
+    }
+  }
+
   public static class TestClassWithDefaultConstructor {
     public TestClassWithDefaultConstructor() {}
   }
@@ -0,0 +1,148 @@
+package dev.anhcraft.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.error.InvalidValueException;
+import dev.anhcraft.config.meta.Validate;
+import dev.anhcraft.config.type.TypeToken;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class ParallelDenormalizationTest {
+  private static final ConfigFactory parallel =
+      ConfigFactory.create().useParallelDenormalization(16).build();
+
+  private static Dictionary createItem(int amount) {
+    Dictionary item = new SchemalessDictionary();
+    item.put("name", "item" + amount);
+    item.put("amount", amount);
+    return item;
+  }
+
+  private static Dictionary createRegistry(int size, int... invalid) {
+    Object[] items = new Object[size];
+    Dictionary map = new SchemalessDictionary();
+    for (int i = 0; i < size; i++) {
+      int amount = i + 1;
+      for (int j : invalid) {
+        if (i == j) amount = 0;
+      }
+      items[i] = createItem(amount);
+      map.put("k" + i, createItem(amount));
+    }
+    Dictionary registry = new SchemalessDictionary();
+    registry.put("items", items);
+    registry.put("list", items);
+    registry.put("map", map);
+    return registry;
+  }
+
+  @Test
+  public void testKeepOrder() throws Exception {
+    Registry registry =
+        (Registry) parallel.getDenormalizer().denormalize(createRegistry(1000), Registry.class);
+    assertNotNull(registry);
+    assertEquals(1000, registry.items.length);
+    assertEquals(1000, registry.list.size());
+    assertEquals(1000, registry.map.size());
+    Iterator<Map.Entry<String, Item>> it = registry.map.entrySet().iterator();
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("item" + (i + 1), registry.items[i].name);
+      assertEquals(i + 1, registry.list.get(i).amount);
+      Map.Entry<String, Item> entry = it.next();
+      assertEquals("k" + i, entry.getKey());
+      assertEquals(i + 1, entry.getValue().amount);
+    }
+  }
+
+  @Test
+  public void testComplexifyAll() throws Exception {
+    Object[] values = {"1", null, "3", 4};
+    Object[] result =
+        parallel
+            .getDenormalizer()
+            .complexifyAll(parallel.createContext(), values, new TypeToken<Integer>() {});
+    assertArrayEquals(new Object[] {1, null, 3, 4}, result);
+  }
+
+  @Test
+  public void testNestedOnExecutor() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConfigFactory factory =
+          ConfigFactory.create().useParallelDenormalization(4, executor).build();
+      Dictionary regions = new SchemalessDictionary();
+      for (int i = 0; i < 50; i++) {
+        regions.put("r" + i, createRegistry(20).get("items"));
+      }
+      TypeToken<Map<String, List<Item>>> type = new TypeToken<>() {};
+      //noinspection unchecked
+      Map<String, List<Item>> result =
+          (Map<String, List<Item>>) factory.getDenormalizer().denormalize(regions, type);
+      assertNotNull(result);
+      assertEquals(50, result.size());
+      for (List<Item> items : result.values()) {
+        assertEquals(20, items.size());
+        assertEquals(20, items.get(19).amount);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailFast() {
+    InvalidValueException e =
+        assertThrows(
+            InvalidValueException.class,
+            () ->
+                parallel
+                    .getDenormalizer()
+                    .denormalize(createRegistry(1000, 900, 321, 500), Registry.class));
+    assertEquals("items[321].amount", e.getContext().getPath());
+    assertEquals(0, e.getSuppressed().length);
+  }
+
+  @Test
+  public void testCollectErrors() {
+    ConfigFactory factory =
+        ConfigFactory.create()
+            .useParallelDenormalization(16)
+            .enableDenormalizerSetting(SettingFlag.Denormalizer.COLLECT_PARALLEL_ERRORS)
+            .build();
+    Dictionary registry = createRegistry(1000, 900, 321, 500);
+    registry.remove("list");
+    registry.remove("map");
+    InvalidValueException e =
+        assertThrows(
+            InvalidValueException.class,
+            () -> factory.getDenormalizer().denormalize(registry, Registry.class));
+    assertEquals("items[321].amount", e.getContext().getPath());
+    assertEquals(2, e.getSuppressed().length);
+    assertEquals(
+        "items[500].amount", ((InvalidValueException) e.getSuppressed()[0]).getContext().getPath());
+    assertEquals(
+        "items[900].amount", ((InvalidValueException) e.getSuppressed()[1]).getContext().getPath());
+  }
+
+  @Test
+  public void testInvalidThreshold() {
+    assertThrows(
+        IllegalArgumentException.class, () -> ConfigFactory.create().useParallelDenormalization(0));
+  }
+
+  public static class Registry {
+    public Item[] items;
+    public List<Item> list;
+    public Map<String, Item> map;
+  }
+
+  public static class Item {
+    public String name;
+
+    @Validate("range=1|")
+    public int amount;
+  }
+}
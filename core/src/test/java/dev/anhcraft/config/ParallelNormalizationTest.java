@@ -0,0 +1,160 @@
+package dev.anhcraft.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.adapter.TypeAdapter;
+import dev.anhcraft.config.context.Context;
+import dev.anhcraft.config.error.InvalidValueException;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class ParallelNormalizationTest {
+  private static final ConfigFactory sequential = ConfigFactory.create().build();
+  private static final ConfigFactory parallel =
+      ConfigFactory.create().useParallelNormalization(16).build();
+
+  private static Inventory createInventory(int size) {
+    Inventory inventory = new Inventory();
+    inventory.items = new Item[size];
+    inventory.list = new ArrayList<>(size);
+    inventory.map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      Item item = new Item();
+      item.name = "item" + i;
+      item.amount = i + 1;
+      inventory.items[i] = item;
+      inventory.list.add(item);
+      inventory.map.put("k" + i, item);
+    }
+    return inventory;
+  }
+
+  @Test
+  public void testSameAsSequential() throws Exception {
+    Inventory inventory = createInventory(1000);
+    Dictionary expected = (Dictionary) sequential.getNormalizer().normalize(inventory);
+    Dictionary actual = (Dictionary) parallel.getNormalizer().normalize(inventory);
+    assertNotNull(expected);
+    assertNotNull(actual);
+    assertArrayEquals((Object[]) expected.get("items"), (Object[]) actual.get("items"));
+    assertArrayEquals((Object[]) expected.get("list"), (Object[]) actual.get("list"));
+    assertEquals(expected.get("map"), actual.get("map"));
+    assertEquals(
+        new ArrayList<>(((Dictionary) expected.get("map")).keySet()),
+        new ArrayList<>(((Dictionary) actual.get("map")).keySet()));
+  }
+
+  @Test
+  public void testBelowThreshold() throws Exception {
+    Dictionary actual = (Dictionary) parallel.getNormalizer().normalize(createInventory(3));
+    assertNotNull(actual);
+    assertEquals(3, ((Object[]) actual.get("items")).length);
+    assertEquals("item2", ((Dictionary) ((Object[]) actual.get("list"))[2]).get("name"));
+  }
+
+  @Test
+  public void testSimplifyAll() throws Exception {
+    Object[] values = new Object[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 10 == 0 ? null : UUID.nameUUIDFromBytes(new byte[] {(byte) i});
+    }
+    Context ctx = parallel.createContext();
+    Object[] result = parallel.getNormalizer().simplifyAll(ctx, values);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(values[i] == null ? null : values[i].toString(), result[i]);
+    }
+    assertEquals(0, ctx.getDepth());
+  }
+
+  @Test
+  public void testFirstErrorIsThrown() throws Exception {
+    ConfigFactory factory =
+        ConfigFactory.create()
+            .adaptType(Ticket.class, new TicketAdapter())
+            .useParallelNormalization(2, new ForkJoinPool(4))
+            .build();
+    Ticket[] tickets = new Ticket[500];
+    for (int i = 0; i < tickets.length; i++) {
+      tickets[i] = new Ticket(i >= 321 && i % 7 == 0);
+    }
+    Booking booking = new Booking();
+    booking.tickets = tickets;
+    InvalidValueException e =
+        assertThrows(InvalidValueException.class, () -> factory.getNormalizer().normalize(booking));
+    assertEquals("tickets[322]", e.getContext().getPath());
+  }
+
+  @Test
+  public void testWorkerOfSingleThreadExecutor() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ConfigFactory factory = ConfigFactory.create().useParallelNormalization(16, executor).build();
+      Inventory inventory = createInventory(1000);
+      // the only worker of the executor normalizes in parallel on the same executor
+      Dictionary actual =
+          (Dictionary)
+              executor
+                  .submit(() -> factory.getNormalizer().normalize(inventory))
+                  .get(10, TimeUnit.SECONDS);
+      Dictionary expected = (Dictionary) sequential.getNormalizer().normalize(inventory);
+      assertNotNull(expected);
+      assertNotNull(actual);
+      assertArrayEquals((Object[]) expected.get("items"), (Object[]) actual.get("items"));
+      assertEquals(expected.get("map"), actual.get("map"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testInvalidThreshold() {
+    assertThrows(
+        IllegalArgumentException.class, () -> ConfigFactory.create().useParallelNormalization(1));
+  }
+
+  public static class Inventory {
+    public Item[] items;
+    public List<Item> list;
+    public Map<String, Item> map;
+  }
+
+  public static class Item {
+    public String name;
+    public int amount;
+  }
+
+  public static class Booking {
+    public Ticket[] tickets;
+  }
+
+  public static class Ticket {
+    private final boolean invalid;
+
+    public Ticket(boolean invalid) {
+      this.invalid = invalid;
+    }
+  }
+
+  public static class TicketAdapter implements TypeAdapter<Ticket> {
+    @Override
+    public @Nullable Object simplify(
+        @NotNull Context ctx, @NotNull Class<? extends Ticket> sourceType, @NotNull Ticket value)
+        throws Exception {
+      if (value.invalid) throw new InvalidValueException(ctx, "Invalid ticket");
+      return "ticket";
+    }
+
+    @Override
+    public @Nullable Ticket complexify(
+        @NotNull Context ctx, @NotNull Object value, @NotNull Type targetType) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,307 @@
+package dev.anhcraft.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.error.InvalidValueException;
+import dev.anhcraft.config.meta.*;
+import dev.anhcraft.config.type.TypeToken;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class SchemaCodecTest {
+  @Nested
+  public class TestTier {
+    @Test
+    public void testDisabledByDefault() throws Exception {
+      ConfigFactory factory = ConfigFactory.create().build();
+      ClassSchema schema = factory.getSchema(Profile.class);
+      for (int i = 0; i < 10; i++) {
+        assertNull(factory.getCodec(schema));
+      }
+    }
+
+    @Test
+    public void testCompileAfterThreshold() throws Exception {
+      ConfigFactory factory = ConfigFactory.create().useCodecCompilation(3).build();
+      ClassSchema schema = factory.getSchema(Profile.class);
+      assertNull(factory.getCodec(schema));
+      assertNull(factory.getCodec(schema));
+      assertNull(factory.getCodec(schema));
+      SchemaCodec codec = factory.getCodec(schema);
+      assertNotNull(codec);
+      assertSame(codec, factory.getCodec(schema));
+    }
+
+    @Test
+    public void testNegativeThreshold() {
+      assertThrows(
+          IllegalArgumentException.class, () -> ConfigFactory.create().useCodecCompilation(-1));
+    }
+
+    @Test
+    public void testExplain() throws Exception {
+      ConfigFactory factory = ConfigFactory.create().build();
+      String plan = factory.explainCodec(Profile.class);
+      assertTrue(plan.startsWith(Profile.class.getName()));
+      assertTrue(plan.contains("age (int): primitive"));
+      assertTrue(plan.contains("id (UUID): adapter"));
+      String name = "name (String): adapter StringAdapter, validate NotEmptyValidation";
+      assertTrue(plan.contains(name));
+
+      plan = factory.explainCodec(Processed.class);
+      assertTrue(plan.contains("value (String): processor REPLACE"));
+      plan = factory.explainCodec(Extensible.class);
+      assertTrue(plan.contains("others (Map<String,Object>): fallback, adapter MapAdapter"));
+    }
+  }
+
+  @Nested
+  public class TestCodec {
+    private final ConfigFactory interpreter = ConfigFactory.create().build();
+    private final ConfigFactory compiler = ConfigFactory.create().useCodecCompilation(0).build();
+
+    private Profile createProfile() {
+      Profile profile = new Profile();
+      profile.id = UUID.fromString("7ac8e1f6-7b7f-4e8e-9d4e-2f7f0e7a2d10");
+      profile.name = "Alice";
+      profile.age = 21;
+      profile.score = 0;
+      profile.active = true;
+      profile.role = Role.ADMIN;
+      profile.tags = List.of("a", "b");
+      profile.address = new Address();
+      profile.address.city = "Hanoi";
+      profile.box = new Box<>();
+      profile.box.content = "Hello";
+      profile.cache = "secret";
+      return profile;
+    }
+
+    @Test
+    public void testNormalize() throws Exception {
+      Profile profile = createProfile();
+      Dictionary expected = (Dictionary) interpreter.getNormalizer().normalize(profile);
+      Dictionary actual = (Dictionary) compiler.getNormalizer().normalize(profile);
+      assertNotNull(expected);
+      assertNotNull(actual);
+      assertArrayEquals((Object[]) expected.remove("tags"), (Object[]) actual.remove("tags"));
+      assertEquals(expected, actual);
+      assertFalse(actual.containsKey("score"));
+      assertFalse(actual.containsKey("cache"));
+    }
+
+    @Test
+    public void testDenormalize() throws Exception {
+      Dictionary dict = (Dictionary) interpreter.getNormalizer().normalize(createProfile());
+      dict.rename("name", "username");
+      Profile profile = (Profile) compiler.getDenormalizer().denormalize(dict, Profile.class);
+      assertNotNull(profile);
+      assertEquals("7ac8e1f6-7b7f-4e8e-9d4e-2f7f0e7a2d10", profile.id.toString());
+      assertEquals("Alice", profile.name);
+      assertEquals(21, profile.age);
+      assertTrue(profile.active);
+      assertEquals(Role.ADMIN, profile.role);
+      assertEquals(List.of("a", "b"), profile.tags);
+      assertEquals("Hanoi", profile.address.city);
+      assertEquals("Hello", profile.box.content);
+      assertNull(profile.cache);
+    }
+
+    @Test
+    public void testDenormalizeGeneric() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("content", 5));
+      Object box = compiler.getDenormalizer().denormalize(dict, new TypeToken<Box<Integer>>() {});
+      assertNotNull(box);
+      assertEquals(5, ((Box<?>) box).content);
+    }
+
+    @Test
+    public void testDenormalizeMissingPrimitive() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("name", "Bob"));
+      Profile profile = (Profile) compiler.getDenormalizer().denormalize(dict, Profile.class);
+      assertNotNull(profile);
+      assertEquals(0, profile.age);
+      assertEquals("Bob", profile.name);
+    }
+
+    @Test
+    public void testValidation() {
+      Dictionary dict = Dictionary.of(Map.of("name", ""));
+      assertThrows(
+          InvalidValueException.class,
+          () -> compiler.getDenormalizer().denormalize(dict, Profile.class));
+      assertDoesNotThrow(
+          () ->
+              ConfigFactory.create()
+                  .useCodecCompilation(0)
+                  .enableDenormalizerSetting(SettingFlag.Denormalizer.DISABLE_VALIDATION)
+                  .build()
+                  .getDenormalizer()
+                  .denormalize(dict, Profile.class));
+    }
+  }
+
+  @Nested
+  public class TestProcessor {
+    private final ConfigFactory interpreter = ConfigFactory.create().build();
+    private final ConfigFactory compiler = ConfigFactory.create().useCodecCompilation(0).build();
+
+    @Test
+    public void testNormalize() throws Exception {
+      Processed processed = new Processed();
+      processed.value = "abc";
+      assertEquals(
+          interpreter.getNormalizer().normalize(processed),
+          compiler.getNormalizer().normalize(processed));
+      Dictionary dict = (Dictionary) compiler.getNormalizer().normalize(processed);
+      assertNotNull(dict);
+      assertEquals("ABC", dict.get("value"));
+    }
+
+    @Test
+    public void testDenormalize() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("value", "abc", "count", "3"));
+      Processed processed =
+          (Processed) compiler.getDenormalizer().denormalize(dict, Processed.class);
+      assertNotNull(processed);
+      assertEquals("abc", processed.value);
+      assertEquals(6, processed.count);
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("name", "foo", "x", 1, "y", "z"));
+      Extensible expected =
+          (Extensible) interpreter.getDenormalizer().denormalize(dict, Extensible.class);
+      Extensible actual =
+          (Extensible) compiler.getDenormalizer().denormalize(dict, Extensible.class);
+      assertNotNull(expected);
+      assertNotNull(actual);
+      assertEquals("foo", actual.name);
+      assertEquals(expected.others, actual.others);
+      assertEquals(Map.of("x", 1, "y", "z"), actual.others);
+    }
+  }
+
+  @Nested
+  public class TestPrimitive {
+    private final ConfigFactory compiler = ConfigFactory.create().useCodecCompilation(0).build();
+
+    @Test
+    public void testNormalize() throws Exception {
+      Tuning tuning = new Tuning();
+      tuning.rate = 1000;
+      tuning.timeout = 3000000000L;
+      tuning.ratio = 0.5;
+      Dictionary dict = (Dictionary) compiler.getNormalizer().normalize(tuning);
+      assertNotNull(dict);
+      assertEquals(1000, dict.get("rate"));
+      assertEquals(3000000000L, dict.get("timeout"));
+      assertEquals(0.5, dict.get("ratio"));
+      assertFalse(dict.containsKey("enabled"));
+    }
+
+    @Test
+    public void testDenormalize() throws Exception {
+      Dictionary dict =
+          Dictionary.of(Map.of("rate", 1000L, "timeout", 30, "ratio", 1, "enabled", true));
+      Tuning tuning = (Tuning) compiler.getDenormalizer().denormalize(dict, Tuning.class);
+      assertNotNull(tuning);
+      assertEquals(1000, tuning.rate);
+      assertEquals(30L, tuning.timeout);
+      assertEquals(1.0, tuning.ratio);
+      assertTrue(tuning.enabled);
+    }
+
+    @Test
+    public void testDenormalizeString() throws Exception {
+      Dictionary dict = Dictionary.of(Map.of("rate", "12", "ratio", "0.25"));
+      Tuning tuning = (Tuning) compiler.getDenormalizer().denormalize(dict, Tuning.class);
+      assertNotNull(tuning);
+      assertEquals(12, tuning.rate);
+      assertEquals(0.25, tuning.ratio);
+    }
+
+    @Test
+    public void testValidation() {
+      assertThrows(
+          InvalidValueException.class,
+          () ->
+              compiler
+                  .getDenormalizer()
+                  .denormalize(Dictionary.of(Map.of("rate", 0)), Tuning.class));
+      assertThrows(
+          InvalidValueException.class,
+          () ->
+              compiler
+                  .getDenormalizer()
+                  .denormalize(Dictionary.of(Map.of("ratio", 1.5)), Tuning.class));
+    }
+  }
+
+  public static class Tuning {
+    @Validate("range=1|")
+    public int rate = 1;
+
+    public long timeout;
+
+    @Validate("range=0|1")
+    public double ratio;
+
+    public boolean enabled;
+  }
+
+  public enum Role {
+    USER,
+    ADMIN
+  }
+
+  public static class Profile {
+    public UUID id;
+
+    @Alias("username")
+    @Validate("notEmpty")
+    public String name;
+
+    public int age;
+    public double score;
+    public boolean active;
+    public Role role;
+    public List<String> tags;
+    public Address address;
+    public Box<String> box;
+    @Transient public String cache;
+  }
+
+  public static class Address {
+    public String city;
+  }
+
+  public static class Box<T> {
+    public T content;
+  }
+
+  public static class Processed {
+    public String value;
+    public int count;
+
+    @Normalizer("value")
+    private String normalizeValue() {
+      return value.toUpperCase();
+    }
+
+    @Denormalizer(value = "count", strategy = Denormalizer.Strategy.AFTER)
+    private int denormalizeCount(int count) {
+      return count * 2;
+    }
+  }
+
+  public static class Extensible {
+    public String name;
+    @Fallback public Map<String, Object> others;
+  }
+}
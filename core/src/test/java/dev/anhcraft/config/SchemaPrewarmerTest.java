@@ -0,0 +1,75 @@
+package dev.anhcraft.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.blueprint.Schema;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SchemaPrewarmerTest {
+  private static Map<Class<?>, Schema<?>> prewarm(Class<?>... roots) {
+    Map<Class<?>, Schema<?>> cache = new HashMap<>();
+    ConfigFactory factory = ConfigFactory.create().provideSchemaCache(() -> cache).build();
+    factory.prewarm(roots);
+    return cache;
+  }
+
+  @Test
+  public void testTraverseTypeGraph() {
+    Map<Class<?>, Schema<?>> cache = prewarm(Shop.class);
+    assertEquals(
+        Set.of(Shop.class, Item.class, Food.class, Tag.class, Owner.class), cache.keySet());
+  }
+
+  @Test
+  public void testSkipAdaptedTypes() {
+    assertTrue(prewarm(String.class, UUID.class, int[].class).isEmpty());
+  }
+
+  @Test
+  public void testCyclicGraph() {
+    assertEquals(Set.of(Node.class), prewarm(Node.class).keySet());
+  }
+
+  @Test
+  public void testPrewarmAsync() throws Exception {
+    Map<Class<?>, Schema<?>> cache = Collections.synchronizedMap(new HashMap<>());
+    ConfigFactory factory = ConfigFactory.create().provideSchemaCache(() -> cache).build();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      factory.prewarmAsync(pool, Shop.class).get(10, TimeUnit.SECONDS);
+    } finally {
+      pool.shutdown();
+    }
+    assertTrue(cache.containsKey(Food.class));
+  }
+
+  public static class Shop {
+    public Owner owner;
+    public Map<String, List<? extends Item>> items;
+    public Food special;
+  }
+
+  public static class Owner {
+    public String name;
+  }
+
+  public static class Item {
+    public Tag[][] tags;
+  }
+
+  public static class Food extends Item {
+    public int calories;
+  }
+
+  public static class Tag {
+    public String value;
+  }
+
+  public static class Node {
+    public Node next;
+    public List<Node> children;
+  }
+}
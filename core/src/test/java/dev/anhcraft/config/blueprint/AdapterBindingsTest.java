@@ -0,0 +1,108 @@
+package dev.anhcraft.config.blueprint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.adapter.AdapterProvider;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class AdapterBindingsTest {
+  private static final ConfigFactory factory = ConfigFactory.create().build();
+
+  private static int indexOf(ClassSchema schema, String name) {
+    return schema.properties().indexOf(schema.property(name));
+  }
+
+  @Test
+  public void testExactTypes() {
+    ClassSchema schema = factory.getSchema(Model.class);
+    AdapterBindings bindings = schema.adapterBindings(factory.getAdapterProvider());
+    assertSame(bindings, schema.adapterBindings(factory.getAdapterProvider()));
+
+    assertEquals(String.class, bindings.exactType(indexOf(schema, "name")));
+    assertEquals(Integer.class, bindings.exactType(indexOf(schema, "count")));
+    assertEquals(UUID.class, bindings.exactType(indexOf(schema, "id")));
+    assertEquals(Color.class, bindings.exactType(indexOf(schema, "color")));
+    assertSame(
+        factory.getTypeAdapter(UUID.class), bindings.normalizationAdapter(indexOf(schema, "id")));
+
+    assertNull(bindings.exactType(indexOf(schema, "number")));
+    assertNull(bindings.exactType(indexOf(schema, "tags")));
+    assertNull(bindings.exactType(indexOf(schema, "names")));
+    assertNull(bindings.exactType(indexOf(schema, "any")));
+  }
+
+  @Test
+  public void testErasures() {
+    ClassSchema schema = factory.getSchema(Model.class);
+    AdapterBindings bindings = schema.adapterBindings(factory.getAdapterProvider());
+    assertEquals(Number.class, bindings.erasure(indexOf(schema, "number")));
+    assertEquals(List.class, bindings.erasure(indexOf(schema, "tags")));
+    assertSame(
+        factory.getTypeAdapter(List.class),
+        bindings.denormalizationAdapter(indexOf(schema, "tags")));
+    assertEquals(int.class, bindings.erasure(indexOf(schema, "count")));
+    assertNull(bindings.erasure(indexOf(schema, "names")));
+    assertNull(bindings.erasure(indexOf(schema, "any")));
+  }
+
+  @Test
+  public void testRebindForAnotherProvider() {
+    ClassSchema schema = factory.getSchema(Model.class);
+    AdapterBindings bindings = schema.adapterBindings(factory.getAdapterProvider());
+    AdapterProvider provider = ConfigFactory.create().build().getAdapterProvider();
+    AdapterBindings other = schema.adapterBindings(provider);
+    assertNotSame(bindings, other);
+    assertSame(provider, other.provider());
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Model model = new Model();
+    model.name = "foo";
+    model.count = 3;
+    model.id = UUID.randomUUID();
+    model.color = Color.GREEN;
+    model.tags = List.of("a");
+    Dictionary dict = (Dictionary) factory.getNormalizer().normalize(model);
+    assertNotNull(dict);
+    assertEquals("green", dict.get("color"));
+    assertEquals(model.id.toString(), dict.get("id"));
+
+    Model result = (Model) factory.getDenormalizer().denormalize(dict, Model.class);
+    assertNotNull(result);
+    assertEquals("foo", result.name);
+    assertEquals(3, result.count);
+    assertEquals(model.id, result.id);
+    assertSame(Color.GREEN, result.color);
+    assertEquals(List.of("a"), result.tags);
+  }
+
+  public static class Model {
+    public String name;
+    public int count;
+    public UUID id;
+    public Color color;
+    public Number number;
+    public List<String> tags;
+    public String[] names;
+    public Object any;
+  }
+
+  public enum Color {
+    RED,
+    GREEN {
+      @Override
+      public boolean bright() {
+        return true;
+      }
+    };
+
+    public boolean bright() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package dev.anhcraft.config.blueprint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.NamingPolicy;
+import dev.anhcraft.config.SchemalessDictionary;
+import dev.anhcraft.config.meta.Alias;
+import dev.anhcraft.config.meta.Constant;
+import dev.anhcraft.config.meta.Fallback;
+import dev.anhcraft.config.validate.ValidationRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class KeyIndexTest {
+  private static final ReflectSchemaScanner scanner =
+      new ReflectSchemaScanner(
+          NamingPolicy.DEFAULT, ValidationRegistry.DEFAULT, LinkedHashMap::new);
+
+  private static Dictionary dictionary(Object... entries) {
+    Dictionary dict = new SchemalessDictionary();
+    for (int i = 0; i < entries.length; i += 2) {
+      dict.put((String) entries[i], entries[i + 1]);
+    }
+    return dict;
+  }
+
+  @Test
+  public void testIndexedProperties() {
+    ClassSchema schema = scanner.scanSchema(ByName.class);
+    KeyIndex index = schema.keyIndex();
+    assertSame(index, schema.keyIndex());
+    assertEquals(2, index.properties().size());
+    assertEquals("foo", index.properties().get(0).name());
+    assertEquals("bar", index.properties().get(1).name());
+    assertNotNull(index.fallback());
+  }
+
+  @Test
+  public void testAliasPriority() {
+    KeyIndex index = scanner.scanSchema(ByName.class).keyIndex();
+    KeyIndex.Routing routing = index.route(dictionary("b", 3, "a", 2));
+    assertEquals("a", routing.key(0));
+    assertEquals(2, routing.value(0));
+    assertEquals("", routing.key(1));
+    assertNull(routing.value(1));
+
+    routing = index.route(dictionary("b", 3, "foo", 1, "a", 2));
+    assertEquals("foo", routing.key(0));
+    assertEquals(1, routing.value(0));
+  }
+
+  @Test
+  public void testDistinctByName() {
+    KeyIndex index = scanner.scanSchema(ByName.class).keyIndex();
+    KeyIndex.Routing routing =
+        index.route(dictionary("x", 0, "b", 3, "foo", 1, "id", 5, "a", 2, "bar", 4));
+    assertEquals(1, routing.value(0));
+    assertEquals(4, routing.value(1));
+    assertNotNull(routing.trap());
+    assertEquals(List.of("x", "b", "id", "a"), List.copyOf(routing.trap().keySet()));
+  }
+
+  @Test
+  public void testDistinctByProperty() {
+    KeyIndex index = scanner.scanSchema(ByProperty.class).keyIndex();
+    KeyIndex.Routing routing = index.route(dictionary("x", 0, "b", 3, "foo", 1, "others", 6));
+    assertEquals(1, routing.value(0));
+    assertNotNull(routing.trap());
+    assertEquals(Map.of("x", 0, "others", 6), routing.trap());
+  }
+
+  @Test
+  public void testNoFallback() {
+    KeyIndex index = scanner.scanSchema(Plain.class).keyIndex();
+    assertNull(index.fallback());
+    KeyIndex.Routing routing = index.route(dictionary("x", 0, "foo", 1));
+    assertEquals(1, routing.value(0));
+    assertNull(routing.trap());
+  }
+
+  @Test
+  public void testSharedAlias() {
+    // the scanner never shares names within a schema, so the properties are taken from two classes
+    ClassProperty foo = scanner.scanSchema(ByName.class).property("foo");
+    ClassProperty bar = scanner.scanSchema(SharedAlias.class).property("bar");
+    KeyIndex index = KeyIndex.of(List.of(foo, bar));
+    assertTrue(index.hasSharedNames());
+    KeyIndex.Slot slot = index.slot("a");
+    assertNotNull(slot);
+    assertEquals(0, slot.property());
+    assertNotNull(slot.next());
+    assertEquals(1, slot.next().property());
+    assertNull(slot.next().next());
+
+    KeyIndex.Routing routing = index.route(dictionary("a", 2));
+    assertEquals("a", routing.key(0));
+    assertEquals(2, routing.value(0));
+    assertEquals("a", routing.key(1));
+    assertEquals(2, routing.value(1));
+
+    routing = index.route(dictionary("a", 2, "foo", 1));
+    assertEquals("foo", routing.key(0));
+    assertEquals(1, routing.value(0));
+    assertEquals("a", routing.key(1));
+    assertEquals(2, routing.value(1));
+    assertFalse(scanner.scanSchema(ByName.class).keyIndex().hasSharedNames());
+  }
+
+  @Test
+  public void testSharedAliasInClass() {
+    // the later field takes the shared alias when scanning
+    KeyIndex index = scanner.scanSchema(SharedAliasInClass.class).keyIndex();
+    assertFalse(index.hasSharedNames());
+    KeyIndex.Routing routing = index.route(dictionary("a", 2));
+    assertNull(routing.value(0));
+    assertEquals(2, routing.value(1));
+  }
+
+  public static class ByName {
+    @Alias({"a", "b"})
+    public int foo;
+
+    @Constant public String id = "id";
+
+    public int bar;
+
+    @Fallback public Map<String, Object> others;
+  }
+
+  public static class ByProperty {
+    @Alias({"a", "b"})
+    public int foo;
+
+    @Fallback(distinctBy = Fallback.Distinct.PROPERTY)
+    public Map<String, Object> others;
+  }
+
+  public static class SharedAlias {
+    @Alias("a")
+    public int bar;
+  }
+
+  public static class SharedAliasInClass {
+    @Alias("a")
+    public int foo;
+
+    @Alias("a")
+    public int bar;
+  }
+
+  public static class Plain {
+    public int foo;
+  }
+}
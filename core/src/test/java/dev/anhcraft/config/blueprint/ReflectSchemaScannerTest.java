@@ -417,6 +417,28 @@ public class ReflectSchemaScannerTest {
       assertNull(invoker.invoke(null, item, "foo"));
     }
 
+    @Test
+    public void testDenormalizerPrimitiveResult() throws Exception {
+      ClassSchema schema = scanner.scanSchema(Counter.class);
+      Processor processor = schema.property("count").denormalizer();
+      assertNotNull(processor);
+      Processor.DenormalizationInvoker invoker =
+          ((Processor.DenormalizationInvoker) processor.invoker());
+      assertEquals(5, invoker.invoke(null, new Counter(), "5"));
+      assertThrows(InvocationTargetException.class, () -> invoker.invoke(null, new Counter(), "x"));
+      // the argument does not fit the method, which is never called
+      assertThrows(IllegalArgumentException.class, () -> invoker.invoke(null, new Counter(), 5));
+    }
+
+    public class Counter {
+      private int count;
+
+      @Denormalizer("count")
+      private int parseCount(String simple) {
+        return Integer.parseInt(simple);
+      }
+    }
+
     public class Package {
       private Item[] items;
       private int worth;
@@ -483,5 +505,90 @@ public class ReflectSchemaScannerTest {
       assertNotNull(schema.fallback());
       assertEquals("_trap", schema.fallback().name());
     }
+
+    @Test
+    public void testFallbackPropertyAbsent() {
+      class Config {
+        public int foo;
+      }
+
+      ClassSchema schema = scanner.scanSchema(Config.class);
+      assertNull(schema.fallback());
+      assertNull(schema.declaredFallback());
+    }
+
+    @Test
+    public void testInheritedFallbackProperty() {
+      class Parent {
+        @Fallback public Map<String, Object> _trap;
+      }
+      class Child extends Parent {
+        public int foo;
+      }
+
+      ClassSchema schema = scanner.scanSchema(Child.class);
+      assertNull(schema.declaredFallback());
+      assertNotNull(schema.fallback());
+      assertEquals("_trap", schema.fallback().name());
+      assertEquals(2, schema.properties().size());
+      assertSame(schema.fallback(), schema.properties().get(1));
+      assertSame(schema.property("foo"), schema.properties().get(0));
+    }
+  }
+
+  @Nested
+  public class AccessorTest {
+    @Test
+    public void testReadWriteProperty() {
+      ClassSchema schema = scanner.scanSchema(Holder.class);
+      Holder holder = new Holder();
+      PropertyAccessor name = schema.property("name").accessor();
+      PropertyAccessor amount = schema.property("amount").accessor();
+      PropertyAccessor tag = schema.property("tag").accessor();
+
+      assertEquals("foo", name.get(holder));
+      assertEquals(1, amount.get(holder));
+      assertEquals("bar", tag.get(holder));
+
+      name.set(holder, "hello");
+      amount.set(holder, 10);
+      tag.set(holder, "world");
+      assertEquals("hello", holder.name);
+      assertEquals(10, holder.amount);
+      assertEquals("world", tag.get(holder));
+    }
+
+    @Test
+    public void testReadWritePrimitive() {
+      ClassSchema schema = scanner.scanSchema(Holder.class);
+      Holder holder = new Holder();
+      PropertyAccessor amount = schema.property("amount").accessor();
+      PropertyAccessor name = schema.property("name").accessor();
+
+      assertEquals(1, amount.getInt(holder));
+      amount.setInt(holder, 42);
+      assertEquals(42, holder.amount);
+      assertEquals(42, amount.get(holder));
+      assertThrows(ClassCastException.class, () -> name.getInt(holder));
+      assertThrows(ClassCastException.class, () -> amount.getLong(holder));
+    }
+
+    @Test
+    public void testIncompatibleValue() {
+      ClassSchema schema = scanner.scanSchema(Holder.class);
+      Holder holder = new Holder();
+      assertThrows(
+          ClassCastException.class, () -> schema.property("name").accessor().set(holder, 1));
+      assertThrows(
+          NullPointerException.class, () -> schema.property("amount").accessor().set(holder, null));
+      assertThrows(
+          ClassCastException.class, () -> schema.property("name").accessor().get("holder"));
+    }
+
+    public class Holder {
+      private String name = "foo";
+      public int amount = 1;
+      private final String tag = "bar";
+    }
   }
 }
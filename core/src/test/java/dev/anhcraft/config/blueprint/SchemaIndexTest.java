@@ -0,0 +1,147 @@
+package dev.anhcraft.config.blueprint;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.NamingPolicy;
+import dev.anhcraft.config.meta.*;
+import dev.anhcraft.config.meta.Optional;
+import dev.anhcraft.config.validate.ValidationRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class SchemaIndexTest {
+  private static ReflectSchemaScanner scanner(SchemaIndex index) {
+    return new ReflectSchemaScanner(
+        NamingPolicy.KEBAB_CASE, ValidationRegistry.DEFAULT, LinkedHashMap::new, index);
+  }
+
+  private static byte[] save(SchemaIndex index) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    index.save(out);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testRestoreSchema() throws Exception {
+    SchemaIndex index = new SchemaIndex();
+    scanner(index).getOrScanSchema(Child.class).properties().size();
+    assertEquals(2, index.size());
+    assertTrue(index.isModified());
+
+    SchemaIndex loaded = SchemaIndex.load(new ByteArrayInputStream(save(index)));
+    assertFalse(index.isModified());
+    assertEquals(2, loaded.size());
+    assertNotNull(loaded.lookup(Child.class));
+    assertNotNull(loaded.lookup(Parent.class));
+
+    ClassSchema schema = scanner(loaded).getOrScanSchema(Child.class);
+    assertFalse(loaded.isModified());
+    assertEquals(Set.of("item-name", "name", "amount", "note"), schema.propertyNames());
+    ClassProperty name = schema.property("name");
+    assertNotNull(name);
+    assertEquals("itemName", name.field().getName());
+    assertEquals(List.of("The name"), name.description());
+    assertTrue(name.isOptional());
+    assertFalse(name.validator().validations().isEmpty());
+    assertNotNull(schema.property("amount").normalizer());
+    assertNotNull(schema.property("note").denormalizer());
+    assertNull(schema.property("note").normalizer());
+  }
+
+  @Test
+  public void testFingerprintMismatch() throws Exception {
+    SchemaIndex index = new SchemaIndex();
+    scanner(index).scanSchema(Parent.class);
+    byte[] bytes = save(index);
+    // the fingerprint follows the header and the class name
+    int offset = 12 + 2 + Parent.class.getName().getBytes(StandardCharsets.UTF_8).length;
+    bytes[offset] ^= 1;
+
+    SchemaIndex loaded = SchemaIndex.load(new ByteArrayInputStream(bytes));
+    assertEquals(1, loaded.size());
+    assertNull(loaded.lookup(Parent.class));
+    assertEquals(0, loaded.size());
+    scanner(loaded).scanSchema(Parent.class);
+    assertTrue(loaded.isModified());
+    assertNotNull(loaded.lookup(Parent.class));
+  }
+
+  @Test
+  public void testPruneUnvalidatedEntries() throws Exception {
+    SchemaIndex index = new SchemaIndex();
+    scanner(index).getOrScanSchema(Child.class).properties().size();
+    SchemaIndex loaded = SchemaIndex.load(new ByteArrayInputStream(save(index)));
+    assertEquals(2, loaded.size());
+    assertNotNull(loaded.lookup(Child.class));
+
+    SchemaIndex pruned = SchemaIndex.load(new ByteArrayInputStream(save(loaded)));
+    assertEquals(1, pruned.size());
+    assertNotNull(pruned.lookup(Child.class));
+    assertNull(pruned.lookup(Parent.class));
+  }
+
+  @Test
+  public void testLoadInvalid() throws Exception {
+    assertEquals(0, SchemaIndex.load(new ByteArrayInputStream(new byte[] {1, 2, 3})).size());
+
+    // a valid header followed by a corrupted entry
+    SchemaIndex index = new SchemaIndex();
+    scanner(index).scanSchema(Parent.class);
+    byte[] bytes = save(index);
+    int offset = 12 + 2 + Parent.class.getName().getBytes(StandardCharsets.UTF_8).length + 8;
+    bytes[offset] = (byte) 0x80;
+    assertEquals(0, SchemaIndex.load(new ByteArrayInputStream(bytes)).size());
+    InputStream failing =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("broken");
+          }
+        };
+    assertEquals(0, SchemaIndex.load(failing).size());
+    Path dir = Files.createTempDirectory("schema-index");
+    assertEquals(0, SchemaIndex.load(dir.resolve("missing.bin")).size());
+  }
+
+  @Test
+  public void testSaveToFile() throws Exception {
+    SchemaIndex index = new SchemaIndex();
+    scanner(index).scanSchema(Parent.class);
+    Path file = Files.createTempDirectory("schema-index").resolve("nested/index.bin");
+    index.save(file);
+    assertNotNull(SchemaIndex.load(file).lookup(Parent.class));
+  }
+
+  public static class Parent {
+    @Describe("The name")
+    @Optional
+    @Alias("name")
+    @Validate("not-blank")
+    private String itemName;
+
+    private int amount;
+
+    @Normalizer("amount")
+    private int normalizeAmount() {
+      return amount * 2;
+    }
+  }
+
+  public static class Child extends Parent {
+    private String note;
+
+    @Denormalizer("note")
+    private String denormalizeNote(Object value) {
+      return String.valueOf(value);
+    }
+  }
+}
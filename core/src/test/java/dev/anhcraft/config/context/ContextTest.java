@@ -112,6 +112,19 @@ public class ContextTest {
     assertEquals("baz[0][1][2].QUX", context.buildPath(PathType.PRIMARY, "."));
   }
 
+  @Test
+  public void testFork() {
+    context.enterScope(baz);
+    context.enterScope(new ElementScope(2));
+    Context forked = context.fork();
+    assertEquals("baz[2]", forked.getPath());
+    forked.enterScope(new ElementScope(0));
+    assertEquals("baz[2][0]", forked.getPath());
+    assertEquals("baz[2]", context.getPath());
+    context.exitScope();
+    assertEquals(3, forked.getDepth());
+  }
+
   public static class Dummy {
     public String foo;
 
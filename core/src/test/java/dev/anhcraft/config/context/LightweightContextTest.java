@@ -0,0 +1,164 @@
+package dev.anhcraft.config.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.blueprint.Schema;
+import dev.anhcraft.config.error.InvalidValueException;
+import dev.anhcraft.config.meta.Name;
+import dev.anhcraft.config.meta.Validate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("DataFlowIssue")
+public class LightweightContextTest {
+  private static ConfigFactory factory;
+  private static Schema schema;
+  private Context context;
+
+  @BeforeAll
+  public static void setUp() {
+    factory = ConfigFactory.create().provideContext(ContextProvider.LIGHTWEIGHT).build();
+    schema = factory.getSchema(Dummy.class);
+  }
+
+  @BeforeEach
+  public void init() {
+    context = factory.createContext();
+  }
+
+  @Test
+  public void testProvider() {
+    assertInstanceOf(LightweightContext.class, context);
+  }
+
+  @Test
+  public void testEnterExit() {
+    context.enterProperty(schema.property("foo"), "foo", null);
+    context.enterValue(1);
+    assertEquals(1, context.getDepth());
+    context.exitValue();
+    context.enterScope(new ValueScope(2));
+    assertEquals(2, context.getDepth());
+    assertEquals(2, ((ValueScope) context.exitScope()).getValue());
+    assertTrue(context.exitScope() instanceof PropertyScope);
+    assertEquals(0, context.getDepth());
+    assertNull(context.exitScope());
+    assertEquals(0, context.getDepth());
+  }
+
+  @Test
+  public void testGetScope() {
+    Dictionary container = Dictionary.of(Map.of());
+    context.enterProperty(schema.property("BAR"), "bar", container);
+    for (int i = 0; i < 20; i++) {
+      context.enterElement(i);
+    }
+    assertEquals(21, context.getDepth());
+    assertEquals(19, ((ElementScope) context.getScope(0)).getIndex());
+    PropertyScope ps = (PropertyScope) context.getScope(20);
+    assertSame(schema.property("BAR"), ps.getProperty());
+    assertEquals("bar", ps.getSetting());
+    assertSame(container, ps.getContainer());
+    assertEquals(21, context.getScopes().size());
+    assertThrows(IllegalArgumentException.class, () -> context.getScope(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> context.getScope(21));
+    assertThrows(IllegalArgumentException.class, () -> context.enterElement(-1));
+  }
+
+  @Test
+  public void testGetPath() {
+    assertEquals("", context.getPath());
+    context.enterProperty(schema.property("foo"), "foo", null);
+    assertEquals("foo", context.getPath());
+    context.enterProperty(schema.property("QUX"), "qux", null);
+    assertEquals("foo.qux", context.getPath());
+    context.enterScope(new PropertyScope(schema.property("BAR"), "bar", null));
+    assertEquals("foo.qux.bar", context.getPath());
+    context.enterElement(0);
+    context.enterScope(new ElementScope(3));
+    assertEquals("foo.qux.bar[0][3]", context.getPath());
+    context.exitScope();
+    context.exitScope();
+    context.exitScope();
+    assertEquals("foo.qux", context.getPath());
+  }
+
+  @Test
+  public void testExitPropertyAndElement() {
+    context.enterProperty(schema.property("baz"), "baz", null);
+    context.enterElement(1);
+    assertEquals("baz[1]", context.getPath());
+    context.exitElement();
+    assertEquals(1, context.getDepth());
+    assertEquals("baz", context.getPath());
+    context.exitProperty();
+    assertEquals(0, context.getDepth());
+    assertEquals("", context.getPath());
+    context.exitProperty();
+    context.exitElement();
+    assertEquals(0, context.getDepth());
+  }
+
+  @Test
+  public void testBuildPath() {
+    context.enterProperty(schema.property("baz"), "baz", null);
+    context.enterElement(0);
+    context.enterElement(1);
+    context.enterElement(2);
+    assertEquals("baz[0][1][2]", context.buildPath(PathType.FIELD, "/"));
+    context.enterProperty(schema.property("QUX"), "qux", null);
+    assertEquals("baz[0][1][2].qux", context.buildPath(PathType.FIELD, "."));
+    assertEquals("baz[0][1][2].qux", context.buildPath(PathType.SETTING, "."));
+    assertEquals("baz[0][1][2].QUX", context.buildPath(PathType.PRIMARY, "."));
+  }
+
+  @Test
+  public void testFork() {
+    context.enterProperty(schema.property("baz"), "baz", null);
+    context.enterElement(2);
+    Context forked = context.fork();
+    assertInstanceOf(LightweightContext.class, forked);
+    assertEquals("baz[2]", forked.getPath());
+    forked.enterElement(0);
+    assertEquals("baz[2][0]", forked.getPath());
+    assertEquals("baz[2]", context.getPath());
+    context.exitScope();
+    assertEquals(3, forked.getDepth());
+  }
+
+  @Test
+  public void testPathOfError() {
+    Object[] items = {Dictionary.of(Map.of("amount", 1)), Dictionary.of(Map.of("amount", 0))};
+    Dictionary dict = Dictionary.of(Map.of("items", items));
+    InvalidValueException e =
+        assertThrows(
+            InvalidValueException.class,
+            () -> factory.getDenormalizer().denormalize(context, dict, Bag.class));
+    assertEquals("items[1].amount", e.getContext().getPath());
+  }
+
+  public static class Dummy {
+    public String foo;
+
+    @Name("BAR")
+    public String bar;
+
+    public String[] baz;
+
+    @Name("QUX")
+    public String qux;
+  }
+
+  public static class Bag {
+    public Item[] items;
+  }
+
+  public static class Item {
+    @Validate("range=1|")
+    public int amount;
+  }
+}
@@ -104,6 +104,8 @@ public class ComplexTypesTest {
     assertEquals(Nullable[][].class, ComplexTypes.getArrayType(Nullable[].class));
     assertEquals(PathType[].class, ComplexTypes.getArrayType(PathType.class));
     assertEquals(PathType[][].class, ComplexTypes.getArrayType(PathType[].class));
+    assertEquals(Map.Entry[].class, ComplexTypes.getArrayType(Map.Entry.class));
+    assertSame(ComplexTypes.getArrayType(List.class), ComplexTypes.getArrayType(List.class));
   }
 
   @Test
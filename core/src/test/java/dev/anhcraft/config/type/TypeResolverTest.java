@@ -57,11 +57,28 @@ public class TypeResolverTest {
           desc);
     }
 
+    @Test
+    public void testMemoize() {
+      Type unresolved = schema.property("fooBar").type();
+      Type first = resolved.resolve(unresolved);
+      Assertions.assertSame(first, resolved.resolve(unresolved));
+      Assertions.assertEquals(first, TypeResolver.of(resolved.provideType()).resolve(unresolved));
+      Assertions.assertEquals(
+          first.hashCode(), TypeResolver.of(resolved.provideType()).resolve(unresolved).hashCode());
+    }
+
+    @Test
+    public void testKeepResolvedType() {
+      Type unresolved = schema.property("names").type();
+      Assertions.assertSame(unresolved, resolved.resolve(unresolved));
+    }
+
     public class Container<T, S> {
       private T firstItem;
       private List<T> items;
       private S[] trash;
       private Map<S, List<Map<S[], Map<T, S>[]>>[][]> fooBar;
+      private List<? extends CharSequence> names;
     }
   }
 }
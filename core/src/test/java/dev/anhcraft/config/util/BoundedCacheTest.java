@@ -0,0 +1,98 @@
+package dev.anhcraft.config.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheTest {
+  @Test
+  public void testEvictLeastFrequentlyUsed() {
+    BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a");
+    cache.get("a");
+    cache.put("c", 3);
+    assertEquals(2, cache.size());
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("c"));
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  public void testAging() {
+    BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+    cache.put("a", 1);
+    for (int i = 0; i < 15; i++) cache.get("a");
+    cache.put("x", 0);
+    for (int i = 0; i < 5; i++) cache.get("x");
+    // the aging period has passed, so the frequency of "a" is halved
+    cache.put("b", 2);
+    assertFalse(cache.containsKey("x"));
+    for (int i = 0; i < 8; i++) cache.get("b");
+    cache.put("c", 3);
+    assertFalse(cache.containsKey("a"));
+    assertTrue(cache.containsKey("b"));
+    assertTrue(cache.containsKey("c"));
+  }
+
+  @Test
+  public void testStats() {
+    BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+    assertEquals(3, cache.getOrLoad("foo", String::length));
+    assertEquals(3, cache.getOrLoad("foo", k -> fail()));
+    assertNull(cache.get("bar"));
+    BoundedCache.Stats stats = cache.stats();
+    assertEquals(1, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals(1, stats.loadCount());
+    assertEquals(0, stats.evictionCount());
+    assertEquals(1d / 3, stats.hitRate(), 1e-9);
+  }
+
+  @Test
+  public void testRecursiveLoad() {
+    BoundedCache<Integer, Integer> cache = new BoundedCache<>(10);
+    assertEquals(10, sum(cache, 4));
+    assertEquals(5, cache.size());
+  }
+
+  private static int sum(BoundedCache<Integer, Integer> cache, int n) {
+    return cache.getOrLoad(n, k -> k == 0 ? 0 : k + sum(cache, k - 1));
+  }
+
+  @Test
+  public void testInvalidSize() {
+    assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    BoundedCache<Integer, Integer> cache = new BoundedCache<>(50);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 10000; i++) {
+                    int key = ThreadLocalRandom.current().nextInt(200);
+                    assertEquals(key * 2, cache.getOrLoad(key, k -> k * 2));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(cache.size() <= 50);
+    assertEquals(40000, cache.stats().hitCount() + cache.stats().missCount());
+  }
+}
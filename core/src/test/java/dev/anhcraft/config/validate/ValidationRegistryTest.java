@@ -1,8 +1,7 @@
 package dev.anhcraft.config.validate;
 
 import static dev.anhcraft.config.validate.ValidationRegistry.DEFAULT;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 import dev.anhcraft.config.error.ValidationParseException;
 import org.junit.jupiter.api.Nested;
@@ -90,5 +89,24 @@ public class ValidationRegistryTest {
       assertThrows(
           ValidationParseException.class, () -> DEFAULT.parseString("range=,,size=", true));
     }
+
+    @Test
+    public void testFailureIndex() {
+      Validator validator = DEFAULT.parseString("non-null, size=2|, range=|10", false);
+      assertEquals(Validator.PASSED, validator.test("foo"));
+      assertEquals(0, validator.test(null));
+      assertEquals(1, validator.test("f"));
+      assertEquals(2, validator.test(11));
+      assertEquals("must be at least 2", validator.message(1));
+      assertEquals("must be at most 10", validator.message(2));
+    }
+
+    @Test
+    public void testInterning() {
+      assertSame(
+          DEFAULT.parseString("not-null, size=2", true),
+          DEFAULT.parseString("not-null, size=2", true));
+      assertNotSame(DEFAULT.parseString("not-null", true), DEFAULT.parseString("not-null", false));
+    }
   }
 }
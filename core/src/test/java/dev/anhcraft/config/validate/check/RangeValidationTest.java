@@ -58,4 +58,17 @@ public class RangeValidationTest {
     assertTrue(new RangeValidation("|-0.0001").check(-0.0002));
     assertFalse(new RangeValidation("|-0.0001").check(-0.00009));
   }
+
+  @Test
+  public void testCheckPrimitive() {
+    RangeValidation validation = new RangeValidation("-5|10");
+    assertTrue(validation.checkInt(10));
+    assertFalse(validation.checkInt(11));
+    assertTrue(validation.checkLong(-5L));
+    assertFalse(validation.checkLong(Long.MIN_VALUE));
+    assertTrue(validation.checkDouble(9.99));
+    assertFalse(validation.checkDouble(10.01));
+    assertFalse(validation.checkDouble(Double.NaN));
+    assertTrue(new RangeValidation("0|").checkLong(Long.MAX_VALUE));
+  }
 }
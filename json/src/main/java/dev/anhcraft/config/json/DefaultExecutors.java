@@ -0,0 +1,46 @@
+package dev.anhcraft.config.json;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The default executors of {@link JsonPipeline}.<br>
+ * Blocking I/O runs on a shared pool of daemon threads created on demand, and conversion runs on the common
+ * {@link ForkJoinPool}. On Java 21 and later, this class is replaced by a version running both on virtual threads.
+ */
+final class DefaultExecutors {
+  private static final ExecutorService IO;
+
+  static {
+    AtomicInteger counter = new AtomicInteger();
+    IO =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "config-json-io-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  private DefaultExecutors() {}
+
+  /**
+   * Gets the default executor for blocking I/O.
+   * @return the executor
+   */
+  static @NotNull Executor io() {
+    return IO;
+  }
+
+  /**
+   * Gets the default executor for conversion.
+   * @return the executor
+   */
+  static @NotNull Executor cpu() {
+    return ForkJoinPool.commonPool();
+  }
+}
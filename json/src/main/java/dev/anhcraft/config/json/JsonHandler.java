@@ -0,0 +1,76 @@
+package dev.anhcraft.config.json;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A JSON handler receives a JSON value as a stream of token events pushed by {@link JsonReader#read(JsonHandler)}.<br>
+ * The events are well-nested and follow the grammar below:
+ * <ul>
+ *   <li>value: {@link #string(String)} | {@link #number(Number)} | {@link #bool(boolean)} | {@link #nullValue()} |
+ *   object | array</li>
+ *   <li>object: {@link #beginObject()} ({@link #name(String)} value?)* {@link #endObject()}</li>
+ *   <li>array: {@link #beginArray()} value* {@link #endArray()}</li>
+ * </ul>
+ * The value of a name is skipped without any event if {@link #name(String)} returns {@code false}.
+ */
+public interface JsonHandler {
+  /**
+   * Called at the start of an object.
+   * @throws Exception may throw exceptions
+   */
+  void beginObject() throws Exception;
+
+  /**
+   * Called at the end of the current object.
+   * @throws Exception may throw exceptions
+   */
+  void endObject() throws Exception;
+
+  /**
+   * Called at the start of an array.
+   * @throws Exception may throw exceptions
+   */
+  void beginArray() throws Exception;
+
+  /**
+   * Called at the end of the current array.
+   * @throws Exception may throw exceptions
+   */
+  void endArray() throws Exception;
+
+  /**
+   * Called with the name of the next entry in the current object.
+   * @param name the name
+   * @return {@code true} to read the value of the entry, or {@code false} to skip it
+   * @throws Exception may throw exceptions
+   */
+  boolean name(@NotNull String name) throws Exception;
+
+  /**
+   * Called with a string.
+   * @param value the string
+   * @throws Exception may throw exceptions
+   */
+  void string(@NotNull String value) throws Exception;
+
+  /**
+   * Called with a number.<br>
+   * The number is an {@link Integer} if it has no fraction and exponent, otherwise a {@link Double}.
+   * @param value the number
+   * @throws Exception may throw exceptions
+   */
+  void number(@NotNull Number value) throws Exception;
+
+  /**
+   * Called with a boolean.
+   * @param value the boolean
+   * @throws Exception may throw exceptions
+   */
+  void bool(boolean value) throws Exception;
+
+  /**
+   * Called with a {@code null}.
+   * @throws Exception may throw exceptions
+   */
+  void nullValue() throws Exception;
+}
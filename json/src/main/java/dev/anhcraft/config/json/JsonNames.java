@@ -0,0 +1,61 @@
+package dev.anhcraft.config.json;
+
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.ClassSchema;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JSON names are the quoted and escaped names of the properties of a schema, encoded once and reused.<br>
+ * The i-th name corresponds to the i-th property of {@link ClassSchema#properties()}. The names of the recent schema
+ * of each class are kept as long as the class is.
+ */
+final class JsonNames {
+  private static final ClassValue<Slot> SLOTS =
+      new ClassValue<>() {
+        @Override
+        protected Slot computeValue(Class<?> type) {
+          return new Slot();
+        }
+      };
+
+  private final ClassSchema schema;
+  private final char[][] names;
+
+  private JsonNames(ClassSchema schema, char[][] names) {
+    this.schema = schema;
+    this.names = names;
+  }
+
+  /**
+   * Gets the encoded property names of the given schema.
+   * @param schema the schema
+   * @return the encoded names
+   * @throws IOException if an I/O error occurs
+   */
+  static char[] @NotNull [] of(@NotNull ClassSchema schema) throws IOException {
+    Slot slot = SLOTS.get(schema.type());
+    JsonNames cached = slot.names;
+    if (cached == null || !cached.schema.equals(schema))
+      slot.names = cached = new JsonNames(schema, encode(schema.properties()));
+    return cached.names;
+  }
+
+  private static char[][] encode(List<ClassProperty> properties) throws IOException {
+    char[][] names = new char[properties.size()][];
+    StringWriter buffer = new StringWriter();
+    JsonWriter writer = new JsonWriter(buffer);
+    for (int i = 0; i < names.length; i++) {
+      buffer.getBuffer().setLength(0);
+      writer.serialize(properties.get(i).name());
+      names[i] = buffer.toString().toCharArray();
+    }
+    return names;
+  }
+
+  private static final class Slot {
+    private volatile JsonNames names;
+  }
+}
@@ -1,10 +1,14 @@
 package dev.anhcraft.config.json;
 
+import dev.anhcraft.config.ConfigDenormalizer;
+import dev.anhcraft.config.DenormalizationSource;
 import dev.anhcraft.config.Dictionary;
 import dev.anhcraft.config.SchemalessDictionary;
 import dev.anhcraft.config.json.error.MalformedJsonException;
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -23,9 +27,19 @@ import org.jetbrains.annotations.Nullable;
  *   <li>JSON Lines is unsupported</li>
  *   <li>Comment is unsupported</li>
  * </ul>
+ * To read a large JSON text incrementally without building the whole tree, use {@link JsonReader} instead.<br>
+ * The parser reads characters from the underlying {@link Reader} in chunks, so wrapping it in a
+ * {@link java.io.BufferedReader} is unnecessary. A parser can be reused for many JSON texts on the same thread by
+ * {@link #reset(Reader)}.
  */
 public class JsonParser {
-  private final Reader reader;
+  private static final int WINDOW_SIZE = 8192;
+  private Reader reader;
+  private final char[] window = new char[WINDOW_SIZE];
+  // a view of the window to parse numbers without creating strings
+  private final CharBuffer windowView = CharBuffer.wrap(window);
+  private int windowPos;
+  private int windowLimit;
   private final StringBuilder buffer = new StringBuilder();
   private final char[] unicodeBuffer = new char[4];
   private byte unicode = -1;
@@ -41,6 +55,24 @@ public class JsonParser {
     this.reader = reader;
   }
 
+  /**
+   * Resets this parser to read a new JSON text from the specified reader.<br>
+   * The internal buffers are kept, so that a parser can be reused to parse many small JSON texts with less
+   * allocation. Any unread character from the previous reader is discarded.
+   *
+   * @param reader the {@code Reader} from which JSON text will be read
+   * @return this parser
+   */
+  public @NotNull JsonParser reset(@NotNull Reader reader) {
+    this.reader = reader;
+    windowPos = 0;
+    windowLimit = 0;
+    unicode = -1;
+    currentChar = 0;
+    pos = -1;
+    return this;
+  }
+
   // Utilities
 
   private boolean isWhitespace(int c) {
@@ -50,7 +82,28 @@ public class JsonParser {
   private void readChar() throws IOException {
     if (currentChar == -1) return;
     pos++;
-    currentChar = reader.read();
+    if (windowPos == windowLimit && !fill()) {
+      currentChar = -1;
+      return;
+    }
+    currentChar = window[windowPos++];
+  }
+
+  private boolean fill() throws IOException {
+    int n;
+    do {
+      n = reader.read(window, 0, window.length);
+    } while (n == 0);
+    windowPos = 0;
+    windowLimit = Math.max(n, 0);
+    return n > 0;
+  }
+
+  // the current character is at windowPos - 1, consumes the window up to the given index
+  private void advanceTo(int index) {
+    pos += index - windowPos + 1;
+    currentChar = window[index];
+    windowPos = index + 1;
   }
 
   private void nextNonWhitespaceChar() throws IOException {
@@ -106,6 +159,26 @@ public class JsonParser {
     return value;
   }
 
+  /**
+   * Parses the given JSON text and denormalizes it into a complex object of the given type.<br>
+   * This results in the same complex object as {@code denormalizer.denormalize(parse(), targetType)}, but the JSON
+   * text is streamed into the target type so that the intermediate {@link Dictionary} is only built for values which
+   * are needed as simple objects, see {@link ConfigDenormalizer#denormalize(DenormalizationSource, Type)}.
+   * @param denormalizer the denormalizer
+   * @param targetType the target complex type
+   * @return the complex object or {@code null} if the JSON is {@code null} or cannot be denormalized
+   * @throws Exception may throw exceptions during denormalization or if an I/O error occurs
+   */
+  public @Nullable Object parse(@NotNull ConfigDenormalizer denormalizer, @NotNull Type targetType)
+      throws Exception {
+    JsonReader json = new JsonReader(reader);
+    Object value = denormalizer.denormalize(new JsonSource(json), targetType);
+    JsonToken token = json.peek();
+    if (token != JsonToken.END_DOCUMENT)
+      throw new MalformedJsonException("Expected END_DOCUMENT but was " + token);
+    return value;
+  }
+
   enum State {
     VALUE,
     OBJECT_KEY,
@@ -243,6 +316,19 @@ public class JsonParser {
 
   private String readString() throws IOException {
     expectCurrentChar('"');
+
+    // fast path: the string has no escape and ends inside the window
+    for (int i = windowPos; i < windowLimit; i++) {
+      char c = window[i];
+      if (c == '"') {
+        String value = new String(window, windowPos, i - windowPos);
+        advanceTo(i);
+        nextNonWhitespaceChar();
+        return value;
+      }
+      if (c == '\\' || c < ' ') break;
+    }
+
     buffer.setLength(0);
     boolean escaped = false;
     unicode = -1;
@@ -312,6 +398,18 @@ public class JsonParser {
           break;
         } else {
           buffer.append((char) currentChar);
+          // appends the following plain characters in the window at once
+          int start = windowPos;
+          int end = start;
+          while (end < windowLimit) {
+            char c = window[end];
+            if (c == '"' || c == '\\' || c < ' ') break;
+            end++;
+          }
+          if (end > start) {
+            buffer.append(window, start, end - start);
+            advanceTo(end - 1);
+          }
         }
       }
     } while (currentChar != -1);
@@ -343,6 +441,28 @@ public class JsonParser {
   }
 
   private Number readNumber() throws IOException {
+    // fast path: the number ends inside the window, an invalid number is left to the slow path
+    if (currentChar != -1 && windowPos > 0) {
+      int start = windowPos - 1;
+      boolean doubleNum = false;
+      for (int i = start; i < windowLimit; i++) {
+        char c = window[i];
+        if (c == '.' || c == 'e' || c == 'E') doubleNum = true;
+        else if (c != '+' && c != '-' && (c < '0' || c > '9')) {
+          Number v;
+          try {
+            if (doubleNum) v = Double.parseDouble(new String(window, start, i - start));
+            else v = Integer.parseInt(windowView, start, i, 10);
+          } catch (NumberFormatException e) {
+            break;
+          }
+          advanceTo(i);
+          skipWhitespace();
+          return v;
+        }
+      }
+    }
+
     buffer.setLength(0);
     boolean doubleNum = false;
 
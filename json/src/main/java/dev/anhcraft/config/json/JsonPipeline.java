@@ -0,0 +1,133 @@
+package dev.anhcraft.config.json;
+
+import dev.anhcraft.config.ConfigFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A JSON pipeline loads and saves complex objects as JSON files asynchronously.<br>
+ * Each operation is split into a blocking I/O stage and a conversion stage which run on separate executors, so the
+ * I/O of a file can overlap with the conversion of another:
+ * <ul>
+ *   <li>Loading: the file is read on the I/O executor, then parsed by {@link JsonParser} and denormalized on the
+ *   conversion executor</li>
+ *   <li>Saving: the object is streamed into {@link JsonWriter} on the conversion executor, then the file is written
+ *   on the I/O executor</li>
+ * </ul>
+ * By default, blocking I/O runs on a shared pool of daemon threads and conversion runs on the common
+ * {@link java.util.concurrent.ForkJoinPool}. On Java 21 and later, both run on virtual threads, one per task.<br>
+ * Files are read and written in UTF-8. Exceptions complete the future exceptionally.
+ */
+public class JsonPipeline {
+  private final ConfigFactory factory;
+  private final JsonWriterOptions options;
+  private final Executor ioExecutor;
+  private final Executor cpuExecutor;
+
+  /**
+   * Constructs a {@code JsonPipeline} with default options and executors.
+   * @param factory the {@link ConfigFactory} to convert objects
+   */
+  public JsonPipeline(@NotNull ConfigFactory factory) {
+    this(factory, JsonWriterOptions.DEFAULT, DefaultExecutors.io(), DefaultExecutors.cpu());
+  }
+
+  /**
+   * Constructs a {@code JsonPipeline} running every stage on the given executor.
+   * @param factory the {@link ConfigFactory} to convert objects
+   * @param options the {@link JsonWriterOptions} to save objects
+   * @param executor the executor
+   */
+  public JsonPipeline(
+      @NotNull ConfigFactory factory,
+      @NotNull JsonWriterOptions options,
+      @NotNull Executor executor) {
+    this(factory, options, executor, executor);
+  }
+
+  /**
+   * Constructs a {@code JsonPipeline} with separate executors for blocking I/O and conversion.
+   * @param factory the {@link ConfigFactory} to convert objects
+   * @param options the {@link JsonWriterOptions} to save objects
+   * @param ioExecutor the executor to read and write files
+   * @param cpuExecutor the executor to parse, serialize, normalize and denormalize
+   */
+  public JsonPipeline(
+      @NotNull ConfigFactory factory,
+      @NotNull JsonWriterOptions options,
+      @NotNull Executor ioExecutor,
+      @NotNull Executor cpuExecutor) {
+    this.factory = factory;
+    this.options = options;
+    this.ioExecutor = ioExecutor;
+    this.cpuExecutor = cpuExecutor;
+  }
+
+  /**
+   * Loads the given JSON file into a complex object of the given type.
+   * @param path the path to the file
+   * @param targetType the target complex type
+   * @return a future completed with the complex object, or {@code null} if the JSON is {@code null} or cannot be
+   * denormalized
+   */
+  public @NotNull CompletableFuture<Object> loadAsync(
+      @NotNull Path path, @NotNull Type targetType) {
+    return CompletableFuture.supplyAsync(() -> read(path), ioExecutor)
+        .thenApplyAsync(json -> convert(json, targetType), cpuExecutor);
+  }
+
+  /**
+   * Saves the given complex object into the given JSON file.<br>
+   * The file is created or overwritten.
+   * @param path the path to the file
+   * @param complex the complex object
+   * @return a future completed once the file is written
+   */
+  public @NotNull CompletableFuture<Void> saveAsync(@NotNull Path path, @NotNull Object complex) {
+    return CompletableFuture.supplyAsync(() -> convert(complex), cpuExecutor)
+        .thenAcceptAsync(json -> write(path, json), ioExecutor);
+  }
+
+  private static String read(Path path) {
+    try {
+      return Files.readString(path, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static void write(Path path, String json) {
+    try {
+      Files.writeString(path, json, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private Object convert(String json, Type targetType) {
+    try {
+      return new JsonParser(new StringReader(json)).parse(factory.getDenormalizer(), targetType);
+    } catch (Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private String convert(Object complex) {
+    try {
+      StringWriter writer = new StringWriter();
+      new JsonWriter(writer, options).serialize(factory.getNormalizer(), complex);
+      return writer.toString();
+    } catch (Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+}
@@ -0,0 +1,741 @@
+package dev.anhcraft.config.json;
+
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.SchemalessDictionary;
+import dev.anhcraft.config.json.error.MalformedJsonException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pull-based JSON reader which reads a JSON text token by token.<br>
+ * The reader follows the same rules as {@link JsonParser}, except that {@code null} is allowed anywhere a value is.
+ * Characters are read from the underlying {@link Reader} in chunks into an internal buffer, and strings and numbers
+ * are scanned directly inside the buffer where possible. Only the current path is kept in memory, so that a large JSON
+ * text can be processed incrementally and unneeded values can be skipped by {@link #skipValue()}.<br>
+ * The reader can also push the tokens of a value to a {@link JsonHandler} by {@link #read(JsonHandler)}.
+ * <pre>{@code
+ * JsonReader reader = new JsonReader(new StringReader("{\"id\": 1, \"tags\": [\"a\"]}"));
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *   if (reader.nextName().equals("id")) System.out.println(reader.nextInt());
+ *   else reader.skipValue();
+ * }
+ * reader.endObject();
+ * }</pre>
+ * The reader is not thread-safe.
+ */
+public final class JsonReader {
+  private static final int BUFFER_SIZE = 8192;
+  private static final int EMPTY_DOCUMENT = 0;
+  private static final int NONEMPTY_DOCUMENT = 1;
+  private static final int EMPTY_OBJECT = 2;
+  private static final int NONEMPTY_OBJECT = 3;
+  private static final int DANGLING_NAME = 4;
+  private static final int EMPTY_ARRAY = 5;
+  private static final int NONEMPTY_ARRAY = 6;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final StringBuilder builder = new StringBuilder();
+  private final char[] unicodeBuffer = new char[4];
+  private int pos;
+  private int limit;
+  // the number of characters before the buffer
+  private int offset;
+  private int[] stack = new int[32];
+  private int depth = 1;
+  private JsonToken peeked;
+  // the window of the last scanned number, either in the buffer or a copy
+  private char[] number;
+  private int numberStart;
+  private int numberLength;
+
+  /**
+   * Constructs a new {@code JsonReader} with the specified reader.
+   *
+   * @param reader the {@code Reader} from which JSON text will be read
+   */
+  public JsonReader(@NotNull Reader reader) {
+    this.reader = reader;
+    this.stack[0] = EMPTY_DOCUMENT;
+  }
+
+  // Utilities
+
+  private boolean fill() throws IOException {
+    offset += limit;
+    pos = 0;
+    int n;
+    do {
+      n = reader.read(buffer, 0, buffer.length);
+    } while (n == 0);
+    limit = Math.max(n, 0);
+    return n > 0;
+  }
+
+  private int nextNonWhitespace() throws IOException {
+    while (true) {
+      if (pos == limit && !fill()) return -1;
+      char c = buffer[pos];
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return c;
+      pos++;
+    }
+  }
+
+  private void push(int scope) {
+    if (depth == stack.length) stack = Arrays.copyOf(stack, depth << 1);
+    stack[depth++] = scope;
+  }
+
+  private String errorMessage(String s) {
+    return s + " at position " + (offset + pos);
+  }
+
+  private String formatChar(int codepoint) {
+    if (Character.isValidCodePoint(codepoint))
+      return "U+" + Integer.toHexString(codepoint) + " ('" + (char) codepoint + "')";
+    return "U+" + Integer.toHexString(codepoint);
+  }
+
+  private MalformedJsonException errorUnexpectedChar(int c) {
+    if (c == -1) return new MalformedJsonException(errorMessage("Unexpected end of input"));
+    return new MalformedJsonException(errorMessage("Unexpected character: " + formatChar(c)));
+  }
+
+  private MalformedJsonException errorUnexpectedChar(int c, int expected) {
+    return new MalformedJsonException(
+        errorMessage(
+            "Unexpected character: "
+                + (c == -1 ? "end of input" : formatChar(c))
+                + ", expected "
+                + formatChar(expected)));
+  }
+
+  private MalformedJsonException errorInvalidNumber(char[] chars, int start, int length) {
+    return new MalformedJsonException(
+        errorMessage("Invalid number: " + new String(chars, start, length)));
+  }
+
+  private void expect(JsonToken expected) throws IOException {
+    JsonToken token = peek();
+    if (token != expected)
+      throw new MalformedJsonException(errorMessage("Expected " + expected + " but was " + token));
+    peeked = null;
+  }
+
+  // Tokens
+
+  /**
+   * Peeks the next token without consuming it.
+   * @return the next token
+   * @throws IOException if an I/O error occurs or the JSON is malformed
+   */
+  public @NotNull JsonToken peek() throws IOException {
+    if (peeked != null) return peeked;
+    int scope = stack[depth - 1];
+    int c;
+    switch (scope) {
+      case EMPTY_DOCUMENT:
+        stack[depth - 1] = NONEMPTY_DOCUMENT;
+        c = nextNonWhitespace();
+        return peeked = c == -1 ? JsonToken.END_DOCUMENT : peekValue(c);
+      case NONEMPTY_DOCUMENT:
+        c = nextNonWhitespace();
+        if (c != -1) throw errorUnexpectedChar(c);
+        return peeked = JsonToken.END_DOCUMENT;
+      case EMPTY_OBJECT:
+      case NONEMPTY_OBJECT:
+        c = nextNonWhitespace();
+        if (c == '}') return peeked = JsonToken.END_OBJECT;
+        if (scope == NONEMPTY_OBJECT) {
+          if (c != ',') throw errorUnexpectedChar(c, ',');
+          pos++;
+          c = nextNonWhitespace();
+          // trailing comma
+          if (c == '}') return peeked = JsonToken.END_OBJECT;
+        }
+        if (c != '"') throw errorUnexpectedChar(c, '"');
+        stack[depth - 1] = DANGLING_NAME;
+        return peeked = JsonToken.NAME;
+      case DANGLING_NAME:
+        c = nextNonWhitespace();
+        if (c != ':') throw errorUnexpectedChar(c, ':');
+        pos++;
+        stack[depth - 1] = NONEMPTY_OBJECT;
+        return peeked = peekValue(nextNonWhitespace());
+      case EMPTY_ARRAY:
+        stack[depth - 1] = NONEMPTY_ARRAY;
+        c = nextNonWhitespace();
+        return peeked = c == ']' ? JsonToken.END_ARRAY : peekValue(c);
+      default:
+        c = nextNonWhitespace();
+        if (c == ']') return peeked = JsonToken.END_ARRAY;
+        if (c != ',') throw errorUnexpectedChar(c, ',');
+        pos++;
+        c = nextNonWhitespace();
+        // trailing comma
+        return peeked = c == ']' ? JsonToken.END_ARRAY : peekValue(c);
+    }
+  }
+
+  private JsonToken peekValue(int c) throws IOException {
+    switch (c) {
+      case '{':
+        return JsonToken.BEGIN_OBJECT;
+      case '[':
+        return JsonToken.BEGIN_ARRAY;
+      case '"':
+        return JsonToken.STRING;
+      case 't':
+      case 'f':
+        return JsonToken.BOOLEAN;
+      case 'n':
+        return JsonToken.NULL;
+      default:
+        if (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.') return JsonToken.NUMBER;
+        throw errorUnexpectedChar(c);
+    }
+  }
+
+  /**
+   * Checks whether the current object or array has another element.
+   * @return {@code true} if there is another element
+   * @throws IOException if an I/O error occurs or the JSON is malformed
+   */
+  public boolean hasNext() throws IOException {
+    JsonToken token = peek();
+    return token != JsonToken.END_OBJECT
+        && token != JsonToken.END_ARRAY
+        && token != JsonToken.END_DOCUMENT;
+  }
+
+  /**
+   * Consumes the start of an object.
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#BEGIN_OBJECT}
+   */
+  public void beginObject() throws IOException {
+    expect(JsonToken.BEGIN_OBJECT);
+    pos++;
+    push(EMPTY_OBJECT);
+  }
+
+  /**
+   * Consumes the end of the current object.
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#END_OBJECT}
+   */
+  public void endObject() throws IOException {
+    expect(JsonToken.END_OBJECT);
+    pos++;
+    depth--;
+  }
+
+  /**
+   * Consumes the start of an array.
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#BEGIN_ARRAY}
+   */
+  public void beginArray() throws IOException {
+    expect(JsonToken.BEGIN_ARRAY);
+    pos++;
+    push(EMPTY_ARRAY);
+  }
+
+  /**
+   * Consumes the end of the current array.
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#END_ARRAY}
+   */
+  public void endArray() throws IOException {
+    expect(JsonToken.END_ARRAY);
+    pos++;
+    depth--;
+  }
+
+  /**
+   * Consumes a property name.
+   * @return the name
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#NAME}
+   */
+  public @NotNull String nextName() throws IOException {
+    expect(JsonToken.NAME);
+    return readString();
+  }
+
+  /**
+   * Consumes a string.
+   * @return the string
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#STRING}
+   */
+  public @NotNull String nextString() throws IOException {
+    expect(JsonToken.STRING);
+    return readString();
+  }
+
+  /**
+   * Consumes a number.<br>
+   * The number is an {@link Integer} if it has no fraction and exponent, otherwise a {@link Double}.
+   * @return the number
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#NUMBER}
+   */
+  public @NotNull Number nextNumber() throws IOException {
+    expect(JsonToken.NUMBER);
+    return readNumber();
+  }
+
+  /**
+   * Consumes a number as an {@code int}.<br>
+   * A number with fraction or exponent is accepted if its value is an {@code int}, e.g. {@code 1.0} or {@code 1e2}.
+   * @return the number
+   * @throws IOException if an I/O error occurs, the next token is not {@link JsonToken#NUMBER} or the number is not
+   * an {@code int}
+   */
+  public int nextInt() throws IOException {
+    expect(JsonToken.NUMBER);
+    if (!scanNumber()) {
+      long value = parseLong(number, numberStart, numberLength);
+      if (value == (int) value) return (int) value;
+    } else {
+      double value = parseDouble(number, numberStart, numberLength);
+      if (value == (int) value) return (int) value;
+    }
+    throw errorInvalidNumber(number, numberStart, numberLength);
+  }
+
+  /**
+   * Consumes a number as a {@code long}.<br>
+   * A number with fraction or exponent is accepted if its value is a {@code long}, e.g. {@code 1.0} or {@code 1e2}.
+   * @return the number
+   * @throws IOException if an I/O error occurs, the next token is not {@link JsonToken#NUMBER} or the number is not
+   * a {@code long}
+   */
+  public long nextLong() throws IOException {
+    expect(JsonToken.NUMBER);
+    if (!scanNumber()) return parseLong(number, numberStart, numberLength);
+    double value = parseDouble(number, numberStart, numberLength);
+    // 2^63 is rounded down to Long.MAX_VALUE by the cast
+    if (value == (long) value && value != 0x1p63) return (long) value;
+    throw errorInvalidNumber(number, numberStart, numberLength);
+  }
+
+  /**
+   * Consumes a number as a {@code double}.
+   * @return the number
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#NUMBER}
+   */
+  public double nextDouble() throws IOException {
+    expect(JsonToken.NUMBER);
+    scanNumber();
+    return parseDouble(number, numberStart, numberLength);
+  }
+
+  /**
+   * Consumes a boolean.
+   * @return the boolean
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#BOOLEAN}
+   */
+  public boolean nextBoolean() throws IOException {
+    expect(JsonToken.BOOLEAN);
+    if (buffer[pos] == 't') {
+      readLiteral("true");
+      return true;
+    }
+    readLiteral("false");
+    return false;
+  }
+
+  /**
+   * Consumes a {@code null}.
+   * @throws IOException if an I/O error occurs or the next token is not {@link JsonToken#NULL}
+   */
+  public void nextNull() throws IOException {
+    expect(JsonToken.NULL);
+    readLiteral("null");
+  }
+
+  /**
+   * Consumes the next value as a whole.<br>
+   * Objects are read as {@link Dictionary} and arrays as {@code Object[]}, without {@code null} values.
+   * @return the value or {@code null}
+   * @throws IOException if an I/O error occurs or the next token is not a value
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable Object nextValue() throws IOException {
+    JsonToken token = peek();
+    if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) return nextScalar(token);
+
+    // containers are kept on the heap so that deep nesting does not overflow the stack
+    Deque<Object> containers = new ArrayDeque<>();
+    Deque<String> names = new ArrayDeque<>();
+    while (true) {
+      Object value;
+      switch (token) {
+        case BEGIN_OBJECT:
+          beginObject();
+          containers.push(new SchemalessDictionary());
+          token = peek();
+          continue;
+        case BEGIN_ARRAY:
+          beginArray();
+          containers.push(new ArrayList<>());
+          token = peek();
+          continue;
+        case NAME:
+          names.push(nextName());
+          token = peek();
+          continue;
+        case END_OBJECT:
+          endObject();
+          value = containers.pop();
+          break;
+        case END_ARRAY:
+          endArray();
+          value = ((List<Object>) containers.pop()).toArray();
+          break;
+        default:
+          value = nextScalar(token);
+      }
+      if (containers.isEmpty()) return value;
+      Object container = containers.peek();
+      if (container instanceof Dictionary) {
+        String name = names.pop();
+        if (value != null) ((Dictionary) container).put(name, value);
+      } else if (value != null) {
+        ((List<Object>) container).add(value);
+      }
+      token = peek();
+    }
+  }
+
+  private Object nextScalar(JsonToken token) throws IOException {
+    switch (token) {
+      case STRING:
+        return nextString();
+      case NUMBER:
+        return nextNumber();
+      case BOOLEAN:
+        return nextBoolean();
+      case NULL:
+        nextNull();
+        return null;
+      default:
+        throw new MalformedJsonException(errorMessage("Expected a value but was " + token));
+    }
+  }
+
+  /**
+   * Reads the next value as a whole and pushes its tokens to the given handler.<br>
+   * The value of an entry is skipped if the handler returns {@code false} from {@link JsonHandler#name(String)}.
+   * @param handler the handler
+   * @throws Exception if an I/O error occurs, the next token is not a value, or the handler throws an exception
+   */
+  public void read(@NotNull JsonHandler handler) throws Exception {
+    int count = 0;
+    do {
+      JsonToken token = peek();
+      switch (token) {
+        case BEGIN_OBJECT:
+          beginObject();
+          handler.beginObject();
+          count++;
+          break;
+        case BEGIN_ARRAY:
+          beginArray();
+          handler.beginArray();
+          count++;
+          break;
+        case END_OBJECT:
+          if (count == 0) throw new MalformedJsonException(errorMessage("Expected a value"));
+          endObject();
+          handler.endObject();
+          count--;
+          break;
+        case END_ARRAY:
+          if (count == 0) throw new MalformedJsonException(errorMessage("Expected a value"));
+          endArray();
+          handler.endArray();
+          count--;
+          break;
+        case NAME:
+          if (count == 0)
+            throw new MalformedJsonException(errorMessage("Expected a value but was NAME"));
+          if (!handler.name(nextName())) skipValue();
+          break;
+        case STRING:
+          handler.string(nextString());
+          break;
+        case NUMBER:
+          handler.number(nextNumber());
+          break;
+        case BOOLEAN:
+          handler.bool(nextBoolean());
+          break;
+        case NULL:
+          nextNull();
+          handler.nullValue();
+          break;
+        default:
+          throw new MalformedJsonException(errorMessage("Expected a value but was " + token));
+      }
+    } while (count > 0);
+  }
+
+  /**
+   * Skips the next value as a whole.
+   * @throws IOException if an I/O error occurs or the next token is not a value
+   */
+  public void skipValue() throws IOException {
+    int count = 0;
+    do {
+      JsonToken token = peek();
+      switch (token) {
+        case BEGIN_OBJECT:
+          beginObject();
+          count++;
+          break;
+        case BEGIN_ARRAY:
+          beginArray();
+          count++;
+          break;
+        case END_OBJECT:
+          if (count == 0) throw new MalformedJsonException(errorMessage("Expected a value"));
+          endObject();
+          count--;
+          break;
+        case END_ARRAY:
+          if (count == 0) throw new MalformedJsonException(errorMessage("Expected a value"));
+          endArray();
+          count--;
+          break;
+        case NAME:
+        case STRING:
+          if (token == JsonToken.NAME && count == 0)
+            throw new MalformedJsonException(errorMessage("Expected a value but was NAME"));
+          peeked = null;
+          skipString();
+          break;
+        case NUMBER:
+          peeked = null;
+          readNumber();
+          break;
+        case BOOLEAN:
+          nextBoolean();
+          break;
+        case NULL:
+          nextNull();
+          break;
+        default:
+          throw new MalformedJsonException(errorMessage("Expected a value but was " + token));
+      }
+    } while (count > 0);
+  }
+
+  // Scanners
+
+  private String readString() throws IOException {
+    pos++;
+    int start = pos;
+    for (int p = start; p < limit; p++) {
+      char c = buffer[p];
+      if (c == '"') {
+        pos = p + 1;
+        return new String(buffer, start, p - start);
+      }
+      if (c == '\\' || c < ' ') break;
+    }
+
+    // the string has escapes or spans over the buffer
+    builder.setLength(0);
+    while (true) {
+      start = pos;
+      while (pos < limit) {
+        char c = buffer[pos];
+        if (c == '"' || c == '\\' || c < ' ') break;
+        pos++;
+      }
+      builder.append(buffer, start, pos - start);
+      if (pos == limit) {
+        if (!fill())
+          throw new MalformedJsonException(
+              errorMessage("End of input reached while reading string"));
+        continue;
+      }
+      char c = buffer[pos];
+      if (c < ' ') throw errorIllegalCodepoint(c);
+      pos++;
+      if (c == '"') return builder.toString();
+      readEscape();
+    }
+  }
+
+  private MalformedJsonException errorIllegalCodepoint(int c) {
+    return new MalformedJsonException(
+        errorMessage("Illegal Unicode codepoint: U+" + Integer.toHexString(c)));
+  }
+
+  private void readEscape() throws IOException {
+    if (pos == limit && !fill())
+      throw new MalformedJsonException(errorMessage("End of input reached while reading string"));
+    char c = buffer[pos];
+    if (c < ' ') throw errorIllegalCodepoint(c);
+    pos++;
+    switch (c) {
+      case 'n':
+        builder.append('\n');
+        break;
+      case 'r':
+        builder.append('\r');
+        break;
+      case 't':
+        builder.append('\t');
+        break;
+      case 'b':
+        builder.append('\b');
+        break;
+      case 'f':
+        builder.append('\f');
+        break;
+      case '\\':
+        builder.append('\\');
+        break;
+      case '\"':
+        builder.append('\"');
+        break;
+      case 'u':
+        readUnicode();
+        break;
+      default:
+        builder.append('\\').append(c);
+        break;
+    }
+  }
+
+  private void readUnicode() throws IOException {
+    int codepoint = 0;
+    int n = 0;
+    while (n < 4) {
+      if (pos == limit && !fill()) break;
+      char c = buffer[pos];
+      int digit;
+      if (c >= '0' && c <= '9') digit = c - '0';
+      else if (c >= 'a' && c <= 'f') digit = c - 'a' + 10;
+      else if (c >= 'A' && c <= 'F') digit = c - 'A' + 10;
+      else break;
+      unicodeBuffer[n++] = c;
+      codepoint = (codepoint << 4) | digit;
+      pos++;
+    }
+    // an incomplete sequence is kept as is
+    if (n == 4) builder.append((char) codepoint);
+    else builder.append('\\').append('u').append(unicodeBuffer, 0, n);
+  }
+
+  private void skipString() throws IOException {
+    pos++;
+    while (true) {
+      if (pos == limit && !fill())
+        throw new MalformedJsonException(errorMessage("End of input reached while reading string"));
+      char c = buffer[pos];
+      if (c < ' ') throw errorIllegalCodepoint(c);
+      pos++;
+      if (c == '"') return;
+      if (c == '\\') {
+        if (pos == limit && !fill())
+          throw new MalformedJsonException(
+              errorMessage("End of input reached while reading string"));
+        if (buffer[pos] < ' ') throw errorIllegalCodepoint(buffer[pos]);
+        pos++;
+      }
+    }
+  }
+
+  private void readLiteral(String match) throws IOException {
+    for (int i = 0; i < match.length(); i++) {
+      if (pos == limit && !fill())
+        throw new MalformedJsonException(
+            errorMessage("End of input reached while reading literal: " + match));
+      if (buffer[pos] != match.charAt(i)) throw errorUnexpectedChar(buffer[pos]);
+      pos++;
+    }
+  }
+
+  private Number readNumber() throws IOException {
+    if (scanNumber()) return parseDouble(number, numberStart, numberLength);
+    long value = parseLong(number, numberStart, numberLength);
+    if (value != (int) value) throw errorInvalidNumber(number, numberStart, numberLength);
+    return (int) value;
+  }
+
+  // scans a number into the number window and returns whether it has fraction or exponent
+  private boolean scanNumber() throws IOException {
+    int start = pos;
+    boolean decimal = false;
+    boolean spilled = false;
+    while (true) {
+      if (pos == limit) {
+        // the number spans over the buffer
+        if (!spilled) builder.setLength(0);
+        spilled = true;
+        builder.append(buffer, start, pos - start);
+        start = 0;
+        if (!fill()) break;
+      }
+      char c = buffer[pos];
+      if (c >= '0' && c <= '9' || c == '-' || c == '+') {
+        pos++;
+      } else if (c == '.' || c == 'e' || c == 'E') {
+        decimal = true;
+        pos++;
+      } else {
+        break;
+      }
+    }
+
+    if (!spilled) {
+      number = buffer;
+      numberStart = start;
+      numberLength = pos - start;
+      return decimal;
+    }
+    builder.append(buffer, start, pos - start);
+    number = new char[builder.length()];
+    builder.getChars(0, number.length, number, 0);
+    numberStart = 0;
+    numberLength = number.length;
+    return decimal;
+  }
+
+  private double parseDouble(char[] chars, int start, int length) throws MalformedJsonException {
+    try {
+      return Double.parseDouble(new String(chars, start, length));
+    } catch (NumberFormatException e) {
+      throw new MalformedJsonException(
+          errorMessage("Invalid number: " + new String(chars, start, length)), e);
+    }
+  }
+
+  // equivalent to Long.parseLong without creating a string
+  private long parseLong(char[] chars, int start, int length) throws MalformedJsonException {
+    int i = start;
+    int end = start + length;
+    boolean negative = false;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) negative = chars[i++] == '-';
+    if (i == end) throw errorInvalidNumber(chars, start, length);
+    // accumulates negatively to reach Long.MIN_VALUE
+    long min = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long value = 0;
+    for (; i < end; i++) {
+      int digit = chars[i] - '0';
+      if (digit < 0 || digit > 9 || value < min / 10)
+        throw errorInvalidNumber(chars, start, length);
+      value *= 10;
+      if (value < min + digit) throw errorInvalidNumber(chars, start, length);
+      value -= digit;
+    }
+    return negative ? value : -value;
+  }
+}
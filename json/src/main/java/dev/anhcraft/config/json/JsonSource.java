@@ -0,0 +1,81 @@
+package dev.anhcraft.config.json;
+
+import dev.anhcraft.config.DenormalizationSource;
+import dev.anhcraft.config.json.error.MalformedJsonException;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link DenormalizationSource} backed by a {@link JsonReader}.<br>
+ * As {@link JsonParser} ignores {@code null} values, entries and elements which are {@code null} are skipped. An empty
+ * JSON text is read as {@code null}.
+ */
+final class JsonSource implements DenormalizationSource {
+  private final JsonReader reader;
+
+  JsonSource(@NotNull JsonReader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public @NotNull Kind peek() throws IOException {
+    switch (reader.peek()) {
+      case BEGIN_OBJECT:
+        return Kind.DICTIONARY;
+      case BEGIN_ARRAY:
+        return Kind.ARRAY;
+      case STRING:
+      case NUMBER:
+      case BOOLEAN:
+        return Kind.SCALAR;
+      case NULL:
+      case END_DOCUMENT:
+        return Kind.NULL;
+      default:
+        throw new MalformedJsonException("Expected a value but was " + reader.peek());
+    }
+  }
+
+  @Override
+  public void startDictionary() throws IOException {
+    reader.beginObject();
+  }
+
+  @Override
+  public @Nullable String nextKey() throws IOException {
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (reader.peek() != JsonToken.NULL) return name;
+      reader.nextNull();
+    }
+    reader.endObject();
+    return null;
+  }
+
+  @Override
+  public void startArray() throws IOException {
+    reader.beginArray();
+  }
+
+  @Override
+  public boolean nextElement() throws IOException {
+    while (reader.hasNext()) {
+      if (reader.peek() != JsonToken.NULL) return true;
+      reader.nextNull();
+    }
+    reader.endArray();
+    return false;
+  }
+
+  @Override
+  public @Nullable Object nextValue() throws IOException {
+    if (reader.peek() == JsonToken.END_DOCUMENT) return null;
+    return reader.nextValue();
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    if (reader.peek() != JsonToken.END_DOCUMENT) reader.skipValue();
+  }
+}
@@ -0,0 +1,56 @@
+package dev.anhcraft.config.json;
+
+/**
+ * The kind of token read by {@link JsonReader}.
+ */
+public enum JsonToken {
+  /**
+   * The start of a JSON object.
+   */
+  BEGIN_OBJECT,
+
+  /**
+   * The end of a JSON object.
+   */
+  END_OBJECT,
+
+  /**
+   * The start of a JSON array.
+   */
+  BEGIN_ARRAY,
+
+  /**
+   * The end of a JSON array.
+   */
+  END_ARRAY,
+
+  /**
+   * A property name in a JSON object.
+   */
+  NAME,
+
+  /**
+   * A JSON string.
+   */
+  STRING,
+
+  /**
+   * A JSON number.
+   */
+  NUMBER,
+
+  /**
+   * A JSON boolean.
+   */
+  BOOLEAN,
+
+  /**
+   * A JSON null.
+   */
+  NULL,
+
+  /**
+   * The end of the JSON text.
+   */
+  END_DOCUMENT
+}
@@ -1,10 +1,14 @@
 package dev.anhcraft.config.json;
 
+import dev.anhcraft.config.ConfigNormalizer;
 import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.NormalizationSink;
+import dev.anhcraft.config.blueprint.ClassSchema;
 import dev.anhcraft.config.type.ComplexTypes;
 import java.io.IOException;
 import java.io.Writer;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +64,20 @@ public class JsonWriter {
     }
   }
 
+  /**
+   * Normalizes the given complex object and serializes it into a JSON string.<br>
+   * This writes the same JSON as {@code serialize(normalizer.normalize(complex))}, but the object is streamed into
+   * the writer without building the intermediate {@link Dictionary}. Property names are encoded once per schema.
+   * @param normalizer the normalizer
+   * @param complex the complex object
+   * @throws Exception may throw exceptions during normalization or if an I/O error occurs
+   * @see ConfigNormalizer#normalize(dev.anhcraft.config.context.Context, Class, Object, NormalizationSink)
+   */
+  public void serialize(@NotNull ConfigNormalizer normalizer, @NotNull Object complex)
+      throws Exception {
+    normalizer.normalize(complex, new Sink());
+  }
+
   private void startBlock() throws IOException {
     if (options.isPretty()) {
       writer.append('\n');
@@ -136,4 +154,78 @@ public class JsonWriter {
     startBlock();
     writer.append(']');
   }
+
+  private final class Sink implements NormalizationSink {
+    // whether the dictionary or array at each level has an entry
+    private boolean[] filled = new boolean[16];
+    private int depth;
+    private boolean afterKey;
+    private ClassSchema schema;
+    private char[][] names;
+
+    private void separate() throws IOException {
+      if (afterKey) {
+        afterKey = false;
+        return;
+      }
+      if (depth == 0) return;
+      if (filled[depth]) writer.append(',');
+      filled[depth] = true;
+      startBlock();
+    }
+
+    private void start(char c) throws IOException {
+      separate();
+      writer.append(c);
+      currentIndent += 2;
+      if (++depth == filled.length) filled = Arrays.copyOf(filled, depth << 1);
+      filled[depth] = false;
+    }
+
+    private void end(char c) throws IOException {
+      if (filled[depth] && options.shouldAppendTrailingCommas()) writer.append(',');
+      depth--;
+      currentIndent -= 2;
+      startBlock();
+      writer.append(c);
+    }
+
+    @Override
+    public void startDictionary() throws IOException {
+      start('{');
+    }
+
+    @Override
+    public void endDictionary() throws IOException {
+      end('}');
+    }
+
+    @Override
+    public void startArray() throws IOException {
+      start('[');
+    }
+
+    @Override
+    public void endArray() throws IOException {
+      end(']');
+    }
+
+    @Override
+    public void property(@NotNull ClassSchema schema, int index) throws IOException {
+      separate();
+      if (schema != this.schema) {
+        this.schema = schema;
+        this.names = JsonNames.of(schema);
+      }
+      writer.write(names[index]);
+      writer.append(options.isPretty() ? ": " : ":");
+      afterKey = true;
+    }
+
+    @Override
+    public void value(@Nullable Object value) throws IOException {
+      separate();
+      serialize(value);
+    }
+  }
 }
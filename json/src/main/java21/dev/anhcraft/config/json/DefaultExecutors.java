@@ -0,0 +1,32 @@
+package dev.anhcraft.config.json;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The default executors of {@link JsonPipeline}.<br>
+ * Both blocking I/O and conversion run on virtual threads, one per task.
+ */
+final class DefaultExecutors {
+  private static final ExecutorService VIRTUAL = Executors.newVirtualThreadPerTaskExecutor();
+
+  private DefaultExecutors() {}
+
+  /**
+   * Gets the default executor for blocking I/O.
+   * @return the executor
+   */
+  static @NotNull Executor io() {
+    return VIRTUAL;
+  }
+
+  /**
+   * Gets the default executor for conversion.
+   * @return the executor
+   */
+  static @NotNull Executor cpu() {
+    return VIRTUAL;
+  }
+}
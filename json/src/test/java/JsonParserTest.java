@@ -1,9 +1,25 @@
 import static org.junit.jupiter.api.Assertions.*;
 
+import dev.anhcraft.config.ConfigDenormalizer;
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.SettingFlag;
+import dev.anhcraft.config.error.InvalidValueException;
 import dev.anhcraft.config.json.JsonParser;
+import dev.anhcraft.config.json.JsonWriter;
+import dev.anhcraft.config.json.error.MalformedJsonException;
+import dev.anhcraft.config.meta.Alias;
+import dev.anhcraft.config.meta.Denormalizer;
+import dev.anhcraft.config.meta.Fallback;
+import dev.anhcraft.config.meta.Validate;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.text.translate.UnicodeUnescaper;
 import org.junit.jupiter.api.Test;
@@ -171,4 +187,221 @@ public class JsonParserTest {
     int times = 10_000;
     assertDoesNotThrow(() -> parse("{\"a\":".repeat(times) + "}".repeat(times)));
   }
+
+  @Test
+  public void testParseAcrossWindow() throws IOException {
+    String text = "a\\\"b\\u0041".repeat(3000);
+    String number = "1234567";
+    StringBuilder json = new StringBuilder("[");
+    // shifts the values over the boundary of the read window
+    for (int i = 0; i < 3000; i++) json.append("\"x\", ").append(number).append(", 1.25, ");
+    json.append("\"").append(text).append("\", ").append(number).append(']');
+    Object[] array = (Object[]) parse(json.toString());
+    assertEquals(9002, array.length);
+    for (int i = 0; i < 3000; i++) {
+      assertEquals("x", array[i * 3]);
+      assertEquals(1234567, array[i * 3 + 1]);
+      assertEquals(1.25, array[i * 3 + 2]);
+    }
+    assertEquals("a\"bA".repeat(3000), array[9000]);
+    assertEquals(1234567, array[9001]);
+  }
+
+  @Test
+  public void testReset() throws IOException {
+    JsonParser parser = new JsonParser(new StringReader("{\"a\": [1, 2]}  "));
+    Dictionary dict = (Dictionary) parser.parse();
+    assertNotNull(dict);
+    assertArrayEquals(new Object[] {1, 2}, (Object[]) dict.get("a"));
+    assertEquals("b", parser.reset(new StringReader(" \"b\"")).parse());
+    assertThrows(IOException.class, () -> parser.reset(new StringReader("[1,,]")).parse());
+    assertEquals(3, parser.reset(new StringReader("3")).parse());
+    assertNull(parser.reset(new StringReader("")).parse());
+  }
+
+  public static class Address {
+    public String city;
+    public int zip;
+  }
+
+  public static class Account {
+    @Alias("username")
+    public String name;
+
+    public int age;
+    public double[] scores;
+    public List<Address> addresses;
+    public Set<String> tags;
+    public Address home;
+    public Address[] history;
+    public Map<String, Integer> limits;
+    public UUID id;
+    public Object raw;
+    public Dictionary meta;
+    public int count;
+    @Fallback public Map<String, Object> others;
+
+    @Denormalizer("count")
+    private int doubleCount(Integer count) {
+      return count == null ? 0 : count * 2;
+    }
+  }
+
+  public static class Item {
+    @Validate("range=1|")
+    public int amount;
+  }
+
+  public static class Parcel {
+    @Alias("pieces")
+    public Item[] items;
+  }
+
+  public static class Registry {
+    public List<Item[]> items;
+  }
+
+  public static class Member {
+    private final String name;
+    private final List<Address> addresses;
+    @Fallback private final Map<String, Object> extra;
+
+    public Member(String name, List<Address> addresses, Map<String, Object> extra) {
+      this.name = name;
+      this.addresses = addresses;
+      this.extra = extra;
+    }
+  }
+
+  private static final String ACCOUNT =
+      "{\"username\": \"alias\", \"extra\": {\"a\": [1, 2]}, \"name\": \"Alice\", \"age\": 30,"
+          + " \"scores\": [1.5, 2, 3e2], \"addresses\": [{\"city\": \"A\\n\\u0041\", \"zip\": 1},"
+          + " {\"zip\": 2, \"unknown\": [{}], \"city\": \"B\"}, null], \"tags\": [\"x\", \"y\"],"
+          + " \"home\": {\"city\": \"H\", \"zip\": -7,}, \"history\": [{\"city\": \"C\"}],"
+          + " \"limits\": {\"a\": 1, \"b\": \"2\"},"
+          + " \"id\": \"123e4567-e89b-12d3-a456-426614174000\","
+          + " \"raw\": {\"k\": [true, false]}, \"meta\": {\"m\": 1}, \"count\": 21,"
+          + " \"others\": {\"o\": 1}, \"skipped\": null}";
+
+  private static String serialize(ConfigFactory factory, Object object) throws Exception {
+    StringWriter writer = new StringWriter();
+    new JsonWriter(writer).serialize(factory.getNormalizer().normalize(object));
+    return writer.toString();
+  }
+
+  private static void assertStreamed(ConfigFactory factory, String json, Type type)
+      throws Exception {
+    Object expected = factory.getDenormalizer().denormalize(parse(json), type);
+    Object actual = new JsonParser(new StringReader(json)).parse(factory.getDenormalizer(), type);
+    assertNotNull(actual);
+    assertEquals(serialize(factory, expected), serialize(factory, actual));
+  }
+
+  @Test
+  public void testParseStreamedModel() throws Exception {
+    ConfigFactory factory = ConfigFactory.create().build();
+    assertStreamed(factory, ACCOUNT, Account.class);
+    ConfigDenormalizer denormalizer = factory.getDenormalizer();
+    Account account =
+        (Account) new JsonParser(new StringReader(ACCOUNT)).parse(denormalizer, Account.class);
+    assertNotNull(account);
+    assertEquals("Alice", account.name);
+    assertEquals(42, account.count);
+    assertEquals("A\nA", account.addresses.get(0).city);
+    assertEquals(2, account.addresses.size());
+    assertEquals(-7, account.home.zip);
+    assertEquals("alias", account.others.get("username"));
+    assertFalse(account.others.containsKey("name"));
+    assertEquals(2, account.limits.get("b"));
+  }
+
+  @Test
+  public void testParseStreamedAlias() throws Exception {
+    ConfigFactory factory = ConfigFactory.create().build();
+    assertStreamed(factory, "{\"username\": \"a\"}", Account.class);
+    assertStreamed(factory, "{\"name\": \"b\", \"username\": \"a\"}", Account.class);
+  }
+
+  @Test
+  public void testParseStreamedCodec() throws Exception {
+    ConfigFactory factory = ConfigFactory.create().useCodecCompilation(0).build();
+    assertStreamed(factory, ACCOUNT, Account.class);
+    String json = "{\"items\": [[{\"amount\": 1}], [{\"amount\": 0}]]}";
+    InvalidValueException expected =
+        assertThrows(
+            InvalidValueException.class,
+            () ->
+                new JsonParser(new StringReader(json))
+                    .parse(ConfigFactory.create().build().getDenormalizer(), Registry.class));
+    InvalidValueException actual =
+        assertThrows(
+            InvalidValueException.class,
+            () ->
+                new JsonParser(new StringReader(json))
+                    .parse(factory.getDenormalizer(), Registry.class));
+    assertEquals(expected.getContext().getPath(), actual.getContext().getPath());
+  }
+
+  @Test
+  public void testParseStreamedLosingAlias() throws Exception {
+    ConfigFactory factory = ConfigFactory.create().build();
+    String json = "{\"pieces\": [{\"amount\": 0}], \"items\": [{\"amount\": 1}]}";
+    assertStreamed(factory, json, Parcel.class);
+    Parcel parcel =
+        (Parcel)
+            new JsonParser(new StringReader(json)).parse(factory.getDenormalizer(), Parcel.class);
+    assertNotNull(parcel);
+    assertEquals(1, parcel.items.length);
+    assertEquals(1, parcel.items[0].amount);
+  }
+
+  @Test
+  public void testParseStreamedCanonicalConstructor() throws Exception {
+    ConfigFactory factory =
+        ConfigFactory.create()
+            .enableDenormalizerSetting(SettingFlag.Denormalizer.PREFER_CANONICAL_CONSTRUCTOR)
+            .build();
+    String json = "{\"addresses\": [{\"city\": \"A\"}], \"name\": \"Bob\", \"age\": 5}";
+    assertStreamed(factory, json, Member.class);
+    ConfigDenormalizer denormalizer = factory.getDenormalizer();
+    Member member =
+        (Member) new JsonParser(new StringReader(json)).parse(denormalizer, Member.class);
+    assertNotNull(member);
+    assertEquals("Bob", member.name);
+    assertEquals("A", member.addresses.get(0).city);
+    assertEquals(Map.of("age", 5), member.extra);
+  }
+
+  @Test
+  public void testParseStreamedErrorPath() {
+    ConfigFactory factory = ConfigFactory.create().build();
+    String json = "{\"items\": [[{\"amount\": 1}], [{\"amount\": 2}, {\"amount\": 0}]]}";
+    InvalidValueException e =
+        assertThrows(
+            InvalidValueException.class,
+            () ->
+                new JsonParser(new StringReader(json))
+                    .parse(factory.getDenormalizer(), Registry.class));
+    assertEquals("items[1].amount", e.getContext().getPath());
+  }
+
+  @Test
+  public void testParseStreamedDocument() throws Exception {
+    ConfigFactory factory = ConfigFactory.create().build();
+    assertNull(new JsonParser(new StringReader(" ")).parse(factory.getDenormalizer(), Item.class));
+    assertNull(
+        new JsonParser(new StringReader("null")).parse(factory.getDenormalizer(), Item.class));
+    JsonParser parser = new JsonParser(new StringReader("[1, 2]"));
+    int[] array = (int[]) parser.parse(factory.getDenormalizer(), int[].class);
+    assertArrayEquals(new int[] {1, 2}, array);
+    assertThrows(
+        MalformedJsonException.class,
+        () ->
+            new JsonParser(new StringReader("{} {}")).parse(factory.getDenormalizer(), Item.class));
+    assertThrows(
+        MalformedJsonException.class,
+        () ->
+            new JsonParser(new StringReader("{\"amount\": 1"))
+                .parse(factory.getDenormalizer(), Item.class));
+  }
 }
@@ -0,0 +1,100 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.json.JsonPipeline;
+import dev.anhcraft.config.json.JsonWriterOptions;
+import dev.anhcraft.config.json.error.MalformedJsonException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JsonPipelineTest {
+  private static final ConfigFactory factory = ConfigFactory.create().build();
+
+  private Path dir;
+
+  @BeforeEach
+  public void init() throws Exception {
+    dir = Files.createTempDirectory("json-pipeline");
+  }
+
+  public static class Region {
+    public String name;
+    public int[] bounds;
+    public List<String> owners;
+  }
+
+  @Test
+  public void testSaveAndLoad() throws Exception {
+    JsonWriterOptions options = JsonWriterOptions.create().setPretty(false).build();
+    JsonPipeline pipeline = new JsonPipeline(factory, options, Runnable::run);
+    Region region = new Region();
+    region.name = "spawn";
+    region.bounds = new int[] {0, 0, 16, 16};
+    region.owners = List.of("alice", "bob");
+    Path path = dir.resolve("spawn.json");
+
+    pipeline.saveAsync(path, region).join();
+    assertEquals(
+        "{\"name\":\"spawn\",\"bounds\":[0,0,16,16],\"owners\":[\"alice\",\"bob\"]}",
+        Files.readString(path));
+
+    Region loaded = (Region) pipeline.loadAsync(path, Region.class).join();
+    assertNotNull(loaded);
+    assertEquals("spawn", loaded.name);
+    assertArrayEquals(new int[] {0, 0, 16, 16}, loaded.bounds);
+    assertEquals(List.of("alice", "bob"), loaded.owners);
+  }
+
+  @Test
+  public void testCallerExecutor() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      JsonPipeline pipeline = new JsonPipeline(factory, JsonWriterOptions.DEFAULT, executor);
+      CompletableFuture<?>[] futures = new CompletableFuture[20];
+      for (int i = 0; i < futures.length; i++) {
+        Region region = new Region();
+        region.name = "r" + i;
+        futures[i] = pipeline.saveAsync(dir.resolve(i + ".json"), region);
+      }
+      CompletableFuture.allOf(futures).join();
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] = pipeline.loadAsync(dir.resolve(i + ".json"), Region.class);
+      }
+      CompletableFuture.allOf(futures).join();
+      for (int i = 0; i < futures.length; i++) {
+        assertEquals("r" + i, ((Region) futures[i].get()).name);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testMalformedJson() throws Exception {
+    Path path = dir.resolve("broken.json");
+    Files.writeString(path, "{\"name\":");
+    CompletionException e =
+        assertThrows(
+            CompletionException.class,
+            () -> new JsonPipeline(factory).loadAsync(path, Region.class).join());
+    assertInstanceOf(MalformedJsonException.class, e.getCause());
+  }
+
+  @Test
+  public void testMissingFile() {
+    CompletionException e =
+        assertThrows(
+            CompletionException.class,
+            () ->
+                new JsonPipeline(factory).loadAsync(dir.resolve("none.json"), Region.class).join());
+    assertInstanceOf(NoSuchFileException.class, e.getCause());
+  }
+}
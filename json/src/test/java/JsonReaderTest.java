@@ -0,0 +1,189 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.json.JsonHandler;
+import dev.anhcraft.config.json.JsonReader;
+import dev.anhcraft.config.json.JsonToken;
+import dev.anhcraft.config.json.error.MalformedJsonException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+public class JsonReaderTest {
+  private static JsonReader reader(String json) {
+    return new JsonReader(new StringReader(json));
+  }
+
+  @Test
+  public void testReadTokens() throws IOException {
+    JsonReader reader =
+        reader(
+            "{\"id\": 7, \"name\": \"a\\tb\", \"tags\": [true, null, 1.5,],"
+                + " \"skip\": {\"x\": [1]}}");
+    assertEquals(JsonToken.BEGIN_OBJECT, reader.peek());
+    reader.beginObject();
+    assertEquals(JsonToken.NAME, reader.peek());
+    assertEquals("id", reader.nextName());
+    assertEquals(JsonToken.NUMBER, reader.peek());
+    assertEquals(7, reader.nextInt());
+    assertEquals("name", reader.nextName());
+    assertEquals("a\tb", reader.nextString());
+    assertEquals("tags", reader.nextName());
+    reader.beginArray();
+    assertTrue(reader.nextBoolean());
+    assertEquals(JsonToken.NULL, reader.peek());
+    reader.nextNull();
+    assertEquals(1.5, reader.nextDouble());
+    assertFalse(reader.hasNext());
+    reader.endArray();
+    assertEquals("skip", reader.nextName());
+    reader.skipValue();
+    assertFalse(reader.hasNext());
+    reader.endObject();
+    assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+  }
+
+  @Test
+  public void testReadNumbers() throws IOException {
+    JsonReader reader =
+        reader("[9223372036854775807, -9223372036854775808, 1e2, 2147483647, 3, -0.5, 1.0]");
+    reader.beginArray();
+    assertEquals(Long.MAX_VALUE, reader.nextLong());
+    assertEquals(Long.MIN_VALUE, reader.nextLong());
+    assertEquals(100, reader.nextInt());
+    assertEquals(Integer.MAX_VALUE, reader.nextInt());
+    assertEquals(3L, reader.nextLong());
+    assertEquals(-0.5, reader.nextDouble());
+    assertEquals(1, reader.nextNumber().intValue());
+    reader.endArray();
+  }
+
+  @Test
+  public void testReadInvalidNumbers() throws IOException {
+    JsonReader reader = reader("[2147483648, 1.5, 9223372036854775808, 1e19, -]");
+    reader.beginArray();
+    assertThrows(MalformedJsonException.class, reader::nextInt);
+    assertThrows(MalformedJsonException.class, reader::nextLong);
+    assertThrows(MalformedJsonException.class, reader::nextLong);
+    assertThrows(MalformedJsonException.class, reader::nextLong);
+    assertThrows(MalformedJsonException.class, reader::nextDouble);
+  }
+
+  @Test
+  public void testReadMismatchedToken() throws IOException {
+    JsonReader reader = reader("{\"a\": \"b\"}");
+    assertThrows(MalformedJsonException.class, reader::beginArray);
+    reader.beginObject();
+    assertThrows(MalformedJsonException.class, reader::nextString);
+    reader.nextName();
+    assertThrows(MalformedJsonException.class, reader::nextInt);
+    assertThrows(MalformedJsonException.class, reader::endObject);
+  }
+
+  @Test
+  public void testReadLongString() throws IOException {
+    String text = "x\\\"y".repeat(5000);
+    JsonReader reader = reader("[\"" + text + "\", " + "1".repeat(9000) + "]");
+    reader.beginArray();
+    assertEquals("x\"y".repeat(5000), reader.nextString());
+    assertThrows(MalformedJsonException.class, reader::nextLong);
+  }
+
+  @Test
+  public void testNextValue() throws IOException {
+    JsonReader reader = reader("{\"a\": [1, null, {\"b\": null, \"c\": \"d\"}], \"e\": null}");
+    Dictionary dict = (Dictionary) reader.nextValue();
+    assertNotNull(dict);
+    assertEquals(1, dict.size());
+    Object[] array = (Object[]) dict.get("a");
+    assertNotNull(array);
+    assertEquals(2, array.length);
+    assertEquals(1, array[0]);
+    assertEquals(Dictionary.of(Map.of("c", "d")), array[1]);
+  }
+
+  @Test
+  public void testNextValueDeepNesting() throws IOException {
+    String json = "[".repeat(10000) + "1" + "]".repeat(10000);
+    Object value = reader(json).nextValue();
+    for (int i = 0; i < 9999; i++) value = ((Object[]) value)[0];
+    assertArrayEquals(new Object[] {1}, (Object[]) value);
+  }
+
+  private static class Recorder implements JsonHandler {
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void beginObject() {
+      events.add("{");
+    }
+
+    @Override
+    public void endObject() {
+      events.add("}");
+    }
+
+    @Override
+    public void beginArray() {
+      events.add("[");
+    }
+
+    @Override
+    public void endArray() {
+      events.add("]");
+    }
+
+    @Override
+    public boolean name(@NotNull String name) {
+      events.add(name + ":");
+      return !name.startsWith("_");
+    }
+
+    @Override
+    public void string(@NotNull String value) {
+      events.add("'" + value + "'");
+    }
+
+    @Override
+    public void number(@NotNull Number value) {
+      events.add(value.toString());
+    }
+
+    @Override
+    public void bool(boolean value) {
+      events.add(String.valueOf(value));
+    }
+
+    @Override
+    public void nullValue() {
+      events.add("null");
+    }
+  }
+
+  @Test
+  public void testReadWithHandler() throws Exception {
+    JsonReader reader =
+        reader("[{\"a\": 1, \"_b\": {\"c\": [2, 3]}, \"d\": [\"e\", false, null, 2.5]}, 4] 5");
+    Recorder recorder = new Recorder();
+    reader.read(recorder);
+    assertEquals(
+        List.of(
+            "[", "{", "a:", "1", "_b:", "d:", "[", "'e'", "false", "null", "2.5", "]", "}", "4",
+            "]"),
+        recorder.events);
+    assertThrows(MalformedJsonException.class, reader::peek);
+  }
+
+  @Test
+  public void testReadWithHandlerScalar() throws Exception {
+    JsonReader reader = reader("\"a\"");
+    Recorder recorder = new Recorder();
+    reader.read(recorder);
+    assertEquals(List.of("'a'"), recorder.events);
+    assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+  }
+}
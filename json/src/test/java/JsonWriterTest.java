@@ -1,4 +1,7 @@
+import static org.junit.jupiter.api.Assertions.*;
+
 import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.SettingFlag;
 import dev.anhcraft.config.context.Context;
 import dev.anhcraft.config.context.ContextProvider;
 import dev.anhcraft.config.context.InjectableContext;
@@ -6,9 +9,11 @@ import dev.anhcraft.config.context.injector.PropertyDescriptionInjector;
 import dev.anhcraft.config.json.JsonWriter;
 import dev.anhcraft.config.json.JsonWriterOptions;
 import dev.anhcraft.config.meta.Describe;
+import dev.anhcraft.config.meta.Normalizer;
 import java.io.BufferedWriter;
 import java.io.StringWriter;
 import java.util.List;
+import java.util.UUID;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -63,4 +68,87 @@ public class JsonWriterTest {
     serializer.serialize(factory.getNormalizer().normalize(store));
     bufferedWriter.flush();
   }
+
+  public static class Address {
+    public Address(String street, int number) {
+      this.street = street;
+      this.number = number;
+    }
+
+    public String street;
+    public int number;
+  }
+
+  public static class Site {
+    public Address address;
+  }
+
+  public static class Shop {
+    public String name = "The \"Corner\" \\ Shop";
+    public UUID id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    public Address address = new Address("Main", 1);
+    public Address unknown = new Address(null, 0);
+    public Site site = new Site();
+    public Product[] products = {new Product("1", "Avocado", 1.99), null};
+    public List<Product> stock = List.of(new Product("2", "Cheese", 0));
+    public Object[] mixed = {1, "x", new Address(null, 0), new int[0]};
+    public int[] none = new int[0];
+    public boolean open;
+    public int rating;
+    public transient int cache = 5;
+    public String tag;
+
+    @Normalizer("tag")
+    private String provideTag() {
+      return "#" + name.length();
+    }
+  }
+
+  private static void assertStreamed(ConfigFactory factory, JsonWriterOptions options)
+      throws Exception {
+    Shop shop = new Shop();
+    shop.site.address = new Address(null, 0);
+    StringWriter expected = new StringWriter();
+    new JsonWriter(expected, options).serialize(factory.getNormalizer().normalize(shop));
+    StringWriter actual = new StringWriter();
+    new JsonWriter(actual, options).serialize(factory.getNormalizer(), shop);
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void testSerializeStreamedModel() throws Exception {
+    ConfigFactory[] factories = {
+      ConfigFactory.create().build(),
+      ConfigFactory.create().enableNormalizerSetting(SettingFlag.Normalizer.values()).build(),
+      ConfigFactory.create().useCodecCompilation(0).build(),
+      ConfigFactory.create()
+          .useCodecCompilation(0)
+          .enableNormalizerSetting(SettingFlag.Normalizer.values())
+          .build()
+    };
+    JsonWriterOptions[] options = {
+      JsonWriterOptions.DEFAULT,
+      JsonWriterOptions.create().setPretty(false).build(),
+      JsonWriterOptions.create().appendTrailingCommas(true).build()
+    };
+    for (ConfigFactory factory : factories) {
+      for (JsonWriterOptions option : options) {
+        assertStreamed(factory, option);
+      }
+    }
+  }
+
+  @Test
+  public void testSerializeStreamedEmptyDictionary() throws Exception {
+    ConfigFactory factory =
+        ConfigFactory.create()
+            .enableNormalizerSetting(SettingFlag.Normalizer.IGNORE_EMPTY_DICTIONARY)
+            .build();
+    Site site = new Site();
+    site.address = new Address(null, 0);
+    StringWriter writer = new StringWriter();
+    new JsonWriter(writer, JsonWriterOptions.create().setPretty(false).build())
+        .serialize(factory.getNormalizer(), site);
+    assertEquals("{}", writer.toString());
+  }
 }
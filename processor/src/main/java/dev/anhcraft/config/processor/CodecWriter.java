@@ -0,0 +1,385 @@
+package dev.anhcraft.config.processor;
+
+import dev.anhcraft.config.blueprint.ClassCodec;
+import dev.anhcraft.config.blueprint.Property;
+import dev.anhcraft.config.meta.Alias;
+import dev.anhcraft.config.meta.Constant;
+import dev.anhcraft.config.meta.Denormalizer;
+import dev.anhcraft.config.meta.Describe;
+import dev.anhcraft.config.meta.Exclude;
+import dev.anhcraft.config.meta.Fallback;
+import dev.anhcraft.config.meta.Name;
+import dev.anhcraft.config.meta.Normalizer;
+import dev.anhcraft.config.meta.Optional;
+import dev.anhcraft.config.meta.Transient;
+import dev.anhcraft.config.meta.Validate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the source code of the {@link ClassCodec} of a class.<br>
+ * The generated code mirrors the rules of the reflection-based schema scanner: members which the scanner ignores are
+ * ignored here too, and members which cannot be accessed directly are left to the scanner. The annotations of the
+ * fields are written as field metadata, so that the scanner does not need to read them at runtime.
+ */
+class CodecWriter {
+  private static final String BLUEPRINT = "dev.anhcraft.config.blueprint.";
+  private static final String PROCESSOR = BLUEPRINT + "Processor";
+
+  private final Types types;
+  private final Elements elements;
+  private final TypeElement type;
+  private final String typeName;
+  private final TypeMirror contextType;
+  private final TypeMirror exceptionType;
+  private final TypeMirror errorType;
+
+  CodecWriter(ProcessingEnvironment env, TypeElement type) {
+    this.types = env.getTypeUtils();
+    this.elements = env.getElementUtils();
+    this.type = type;
+    this.typeName = erasure(type.asType());
+    this.contextType = elements.getTypeElement("dev.anhcraft.config.context.Context").asType();
+    this.exceptionType = elements.getTypeElement("java.lang.Exception").asType();
+    this.errorType = elements.getTypeElement("java.lang.Error").asType();
+  }
+
+  String write() {
+    String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+    String binaryName = elements.getBinaryName(type).toString();
+    String simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + ClassCodec.SUFFIX;
+
+    StringBuilder sb = new StringBuilder();
+    if (!packageName.isEmpty()) sb.append("package ").append(packageName).append(";\n\n");
+    sb.append("@javax.annotation.processing.Generated(\"")
+        .append(ConfigProcessor.class.getName())
+        .append("\")\n");
+    sb.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+    sb.append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(BLUEPRINT)
+        .append("ClassCodec<")
+        .append(typeName)
+        .append("> {\n");
+
+    sb.append("  @Override\n");
+    sb.append("  public Class<").append(typeName).append("> type() {\n");
+    sb.append("    return ").append(typeName).append(".class;\n");
+    sb.append("  }\n\n");
+
+    writeFields(sb);
+    writeAccessors(sb);
+    writeNormalizers(sb);
+    writeDenormalizers(sb);
+    writeConstructor(sb);
+
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  private void writeFields(StringBuilder sb) {
+    List<String> entries = new ArrayList<>();
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      // similar to ReflectSchemaScanner#isExcluded(Field)
+      if (field.getModifiers().contains(Modifier.STATIC)
+          || field.getModifiers().contains(Modifier.TRANSIENT)
+          || field.getAnnotation(Exclude.class) != null) continue;
+      Name name = field.getAnnotation(Name.class);
+      Alias alias = field.getAnnotation(Alias.class);
+      Describe describe = field.getAnnotation(Describe.class);
+      Validate validate = field.getAnnotation(Validate.class);
+      entries.add(
+          String.format(
+              "new %sFieldMetadata(%s, %s, %s, %s, (byte) %d, %s, %s)",
+              BLUEPRINT,
+              elements.getConstantExpression(field.getSimpleName().toString()),
+              stringArray(name == null ? new String[0] : name.value()),
+              stringArray(alias == null ? new String[0] : alias.value()),
+              stringArray(describe == null ? new String[0] : describe.value()),
+              modifier(field),
+              validate == null ? "null" : elements.getConstantExpression(validate.value()),
+              validate != null && validate.silent()));
+    }
+
+    sb.append("  @Override\n");
+    sb.append("  public java.util.List<").append(BLUEPRINT).append("FieldMetadata> fields() {\n");
+    sb.append("    return java.util.List.of(");
+    for (int i = 0; i < entries.size(); i++) {
+      sb.append(i == 0 ? "\n" : ",\n").append("        ").append(entries.get(i));
+    }
+    sb.append(");\n");
+    sb.append("  }\n\n");
+  }
+
+  // similar to ReflectSchemaScanner#scanModifier(Field)
+  private byte modifier(VariableElement field) {
+    byte modifier = 0;
+    modifier |= field.getAnnotation(Optional.class) != null ? Property.MODIFIER_OPTIONAL : 0;
+    modifier |= field.getAnnotation(Transient.class) != null ? Property.MODIFIER_TRANSIENT : 0;
+    modifier |= field.getAnnotation(Constant.class) != null ? Property.MODIFIER_CONSTANT : 0;
+    modifier |= field.getAnnotation(Fallback.class) != null ? Property.MODIFIER_FALLBACK : 0;
+    return modifier;
+  }
+
+  private String stringArray(String[] values) {
+    StringBuilder sb = new StringBuilder("new String[] {");
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) sb.append(", ");
+      sb.append(elements.getConstantExpression(values[i]));
+    }
+    return sb.append("}").toString();
+  }
+
+  private void writeAccessors(StringBuilder sb) {
+    sb.append("  @Override\n");
+    sb.append("  public ").append(BLUEPRINT).append("PropertyAccessor accessor(String field) {\n");
+    sb.append("    switch (field) {\n");
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getModifiers().contains(Modifier.STATIC)
+          || field.getModifiers().contains(Modifier.PRIVATE)
+          || field.getModifiers().contains(Modifier.FINAL)) continue;
+      String name = field.getSimpleName().toString();
+      sb.append("      case \"").append(name).append("\":\n");
+      sb.append("        return new ").append(BLUEPRINT).append("PropertyAccessor() {\n");
+      sb.append("          @Override\n");
+      sb.append("          public Object get(Object instance) {\n");
+      sb.append("            return ((").append(typeName).append(") instance).");
+      sb.append(name).append(";\n");
+      sb.append("          }\n\n");
+      sb.append("          @Override\n");
+      sb.append("          public void set(Object instance, Object value) {\n");
+      sb.append("            ((").append(typeName).append(") instance).").append(name);
+      sb.append(" = (").append(boxedErasure(field.asType())).append(") value;\n");
+      sb.append("          }\n");
+      writePrimitiveAccessor(sb, field);
+      sb.append("        };\n");
+    }
+    sb.append("      default:\n");
+    sb.append("        return null;\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+  }
+
+  private void writePrimitiveAccessor(StringBuilder sb, VariableElement field) {
+    String primitive;
+    switch (field.asType().getKind()) {
+      case INT:
+        primitive = "Int";
+        break;
+      case LONG:
+        primitive = "Long";
+        break;
+      case DOUBLE:
+        primitive = "Double";
+        break;
+      case BOOLEAN:
+        primitive = "Boolean";
+        break;
+      default:
+        return;
+    }
+    String name = field.getSimpleName().toString();
+    String kind = primitive.toLowerCase(Locale.ROOT);
+    sb.append("\n");
+    sb.append("          @Override\n");
+    sb.append("          public ").append(kind).append(" get").append(primitive);
+    sb.append("(Object instance) {\n");
+    sb.append("            return ((").append(typeName).append(") instance).");
+    sb.append(name).append(";\n");
+    sb.append("          }\n\n");
+    sb.append("          @Override\n");
+    sb.append("          public void set").append(primitive);
+    sb.append("(Object instance, ").append(kind).append(" value) {\n");
+    sb.append("            ((").append(typeName).append(") instance).").append(name);
+    sb.append(" = value;\n");
+    sb.append("          }\n");
+  }
+
+  private void writeNormalizers(StringBuilder sb) {
+    List<String> statements = new ArrayList<>();
+    boolean complete = true;
+    int processors = 0;
+
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      Normalizer normalizer = method.getAnnotation(Normalizer.class);
+      if (normalizer == null || isExcluded(method)) continue;
+      if (method.getReturnType().getKind() == TypeKind.VOID) continue;
+
+      String call;
+      List<? extends VariableElement> params = method.getParameters();
+      if (params.isEmpty()) {
+        call = "";
+      } else if (params.size() == 1 && types.isAssignable(params.get(0).asType(), contextType)) {
+        call = "(" + erasure(params.get(0).asType()) + ") ctx";
+      } else {
+        continue;
+      }
+
+      if (!isCallable(method)) {
+        complete = false;
+        break;
+      }
+
+      String var = "p" + processors++;
+      statements.add(
+          String.format(
+              "%s %s = new %s((%s.NormalizationInvoker) (ctx, instance) -> ((%s) instance).%s(%s),"
+                  + " dev.anhcraft.config.meta.Normalizer.Strategy.%s);",
+              PROCESSOR,
+              var,
+              PROCESSOR,
+              PROCESSOR,
+              typeName,
+              method.getSimpleName(),
+              call,
+              normalizer.strategy().name()));
+      addNames(statements, var, normalizer.value());
+    }
+
+    writeProcessors(sb, "normalizers", complete ? statements : null);
+  }
+
+  private void writeDenormalizers(StringBuilder sb) {
+    List<String> statements = new ArrayList<>();
+    boolean complete = true;
+    int processors = 0;
+
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      Denormalizer denormalizer = method.getAnnotation(Denormalizer.class);
+      if (denormalizer == null || isExcluded(method)) continue;
+
+      List<? extends VariableElement> params = method.getParameters();
+      if (params.isEmpty() || params.size() > 2) continue;
+
+      boolean castable = true;
+      for (VariableElement param : params) {
+        // primitive parameters rely on the unboxing and widening done by reflection
+        castable &= !param.asType().getKind().isPrimitive();
+      }
+      if (params.size() == 2) {
+        TypeMirror param = params.get(1).asType();
+        castable &=
+            types.isAssignable(param, contextType) || types.isAssignable(contextType, param);
+      }
+      if (!castable || !isCallable(method)) {
+        complete = false;
+        break;
+      }
+
+      String call = "(" + erasure(params.get(0).asType()) + ") simple";
+      if (params.size() == 2) call += ", (" + erasure(params.get(1).asType()) + ") ctx";
+      String invocation =
+          String.format("((%s) instance).%s(%s)", typeName, method.getSimpleName(), call);
+
+      String var = "p" + processors++;
+      if (method.getReturnType().getKind() == TypeKind.VOID)
+        statements.add(
+            String.format(
+                "%s %s = new %s((%s.VoidDenormalizationInvoker) (ctx, instance, simple) -> { %s;"
+                    + " return null; }, dev.anhcraft.config.meta.Denormalizer.Strategy.%s);",
+                PROCESSOR, var, PROCESSOR, PROCESSOR, invocation, denormalizer.strategy().name()));
+      else
+        statements.add(
+            String.format(
+                "%s %s = new %s((%s.DenormalizationInvoker) (ctx, instance, simple) -> %s,"
+                    + " dev.anhcraft.config.meta.Denormalizer.Strategy.%s);",
+                PROCESSOR, var, PROCESSOR, PROCESSOR, invocation, denormalizer.strategy().name()));
+      addNames(statements, var, denormalizer.value());
+    }
+
+    writeProcessors(sb, "denormalizers", complete ? statements : null);
+  }
+
+  private void addNames(List<String> statements, String var, String[] names) {
+    for (String name : names) {
+      if (name.isBlank()) continue;
+      statements.add(
+          String.format("lookup.put(%s, %s);", elements.getConstantExpression(name.trim()), var));
+    }
+  }
+
+  private void writeProcessors(StringBuilder sb, String method, List<String> statements) {
+    sb.append("  @Override\n");
+    sb.append("  public java.util.Map<String, ")
+        .append(PROCESSOR)
+        .append("> ")
+        .append(method)
+        .append("() {\n");
+    if (statements == null) {
+      sb.append("    return null;\n");
+    } else {
+      sb.append("    java.util.Map<String, ")
+          .append(PROCESSOR)
+          .append("> lookup = new java.util.LinkedHashMap<>();\n");
+      for (String statement : statements) {
+        sb.append("    ").append(statement).append("\n");
+      }
+      sb.append("    return lookup;\n");
+    }
+    sb.append("  }\n\n");
+  }
+
+  private void writeConstructor(StringBuilder sb) {
+    boolean instantiable =
+        !type.getModifiers().contains(Modifier.ABSTRACT)
+            && (type.getNestingKind() == NestingKind.TOP_LEVEL
+                || type.getModifiers().contains(Modifier.STATIC));
+    boolean found = false;
+    if (instantiable) {
+      for (ExecutableElement constructor :
+          ElementFilter.constructorsIn(type.getEnclosedElements())) {
+        if (constructor.getParameters().isEmpty() && isCallable(constructor)) {
+          found = true;
+          break;
+        }
+      }
+    }
+
+    sb.append("  @Override\n");
+    sb.append("  public java.util.function.Supplier<")
+        .append(typeName)
+        .append("> constructor() {\n");
+    sb.append("    return ").append(found ? typeName + "::new" : "null").append(";\n");
+    sb.append("  }\n");
+  }
+
+  // similar to ReflectSchemaScanner#isExcluded(Method), varargs shares the bit of transient
+  private boolean isExcluded(ExecutableElement method) {
+    return method.getModifiers().contains(Modifier.STATIC)
+        || method.getModifiers().contains(Modifier.NATIVE)
+        || method.isVarArgs();
+  }
+
+  private boolean isCallable(ExecutableElement method) {
+    if (method.getModifiers().contains(Modifier.PRIVATE)) return false;
+    for (TypeMirror thrown : method.getThrownTypes()) {
+      if (!types.isAssignable(thrown, exceptionType) && !types.isAssignable(thrown, errorType))
+        return false;
+    }
+    return true;
+  }
+
+  private String erasure(TypeMirror mirror) {
+    return types.erasure(mirror).toString();
+  }
+
+  private String boxedErasure(TypeMirror mirror) {
+    if (mirror.getKind().isPrimitive())
+      return types
+          .boxedClass(types.getPrimitiveType(mirror.getKind()))
+          .getQualifiedName()
+          .toString();
+    return erasure(mirror);
+  }
+}
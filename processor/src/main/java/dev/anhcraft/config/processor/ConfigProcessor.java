@@ -0,0 +1,127 @@
+package dev.anhcraft.config.processor;
+
+import dev.anhcraft.config.blueprint.ClassCodec;
+import dev.anhcraft.config.meta.Alias;
+import dev.anhcraft.config.meta.Constant;
+import dev.anhcraft.config.meta.Denormalizer;
+import dev.anhcraft.config.meta.Describe;
+import dev.anhcraft.config.meta.Exclude;
+import dev.anhcraft.config.meta.Fallback;
+import dev.anhcraft.config.meta.Name;
+import dev.anhcraft.config.meta.Normalizer;
+import dev.anhcraft.config.meta.Optional;
+import dev.anhcraft.config.meta.Transient;
+import dev.anhcraft.config.meta.Validate;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * An annotation processor generating {@link ClassCodec} for classes using the configuration annotations.<br>
+ * A class is processed if at least one of its fields or methods is annotated with an annotation from
+ * {@code dev.anhcraft.config.meta}. The generated codec only covers members accessible from the same package, the rest
+ * is left to reflection at runtime.
+ */
+public class ConfigProcessor extends AbstractProcessor {
+  private static final List<Class<?>> ANNOTATIONS =
+      List.of(
+          Alias.class,
+          Constant.class,
+          Denormalizer.class,
+          Describe.class,
+          Exclude.class,
+          Fallback.class,
+          Name.class,
+          Normalizer.class,
+          Optional.class,
+          Transient.class,
+          Validate.class);
+
+  private final Set<String> generated = new HashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    Set<String> types = new LinkedHashSet<>();
+    for (Class<?> annotation : ANNOTATIONS) {
+      types.add(annotation.getCanonicalName());
+    }
+    return types;
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Set<TypeElement> types = new LinkedHashSet<>();
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.FIELD && element.getKind() != ElementKind.METHOD)
+          continue;
+        types.add((TypeElement) element.getEnclosingElement());
+      }
+    }
+
+    for (TypeElement type : types) {
+      String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+      if (!generated.add(binaryName)) continue;
+      if (!isEligible(type)) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.NOTE,
+                "Skipped generating codec for inaccessible class " + binaryName,
+                type);
+        continue;
+      }
+      write(binaryName + ClassCodec.SUFFIX, new CodecWriter(processingEnv, type), type);
+    }
+
+    return false;
+  }
+
+  // the codec lives in the same package, so the class and its enclosing classes must not be private
+  private boolean isEligible(TypeElement type) {
+    if (type.getKind() != ElementKind.CLASS) return false;
+    Element element = type;
+    while (element.getKind().isClass() || element.getKind().isInterface()) {
+      TypeElement typeElement = (TypeElement) element;
+      if (typeElement.getNestingKind() == NestingKind.LOCAL
+          || typeElement.getNestingKind() == NestingKind.ANONYMOUS) return false;
+      if (typeElement.getModifiers().contains(Modifier.PRIVATE)) return false;
+      element = element.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private void write(String name, CodecWriter writer, TypeElement origin) {
+    try {
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(name, origin);
+      try (Writer out = file.openWriter()) {
+        out.write(writer.write());
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              String.format("Cannot generate codec %s: %s", name, e.getMessage()),
+              origin);
+    }
+  }
+}
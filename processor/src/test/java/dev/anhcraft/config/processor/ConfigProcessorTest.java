@@ -0,0 +1,207 @@
+package dev.anhcraft.config.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.anhcraft.config.ConfigFactory;
+import dev.anhcraft.config.Dictionary;
+import dev.anhcraft.config.blueprint.ClassCodec;
+import dev.anhcraft.config.blueprint.ClassProperty;
+import dev.anhcraft.config.blueprint.ClassSchema;
+import dev.anhcraft.config.blueprint.FieldMetadata;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ConfigProcessorTest {
+  private static final String USER =
+      String.join(
+          "\n",
+          "package sample;",
+          "",
+          "import dev.anhcraft.config.context.Context;",
+          "import dev.anhcraft.config.meta.*;",
+          "import java.util.List;",
+          "",
+          "public class User {",
+          "  @Alias(\"username\")",
+          "  public String name;",
+          "  int age;",
+          "  protected List<String> roles;",
+          "  private String secret;",
+          "  @Optional public final String id = \"unknown\";",
+          "  @Exclude public String ignored;",
+          "  transient int cache;",
+          "",
+          "  @Normalizer(value = \"name\", strategy = Normalizer.Strategy.BEFORE)",
+          "  String normalizeName(Context ctx) {",
+          "    return name.toUpperCase();",
+          "  }",
+          "",
+          "  @Denormalizer(\"age\")",
+          "  Object denormalizeAge(Object value) {",
+          "    return ((Number) value).intValue() + 1;",
+          "  }",
+          "",
+          "  public static class Admin extends User {",
+          "    @Describe(\"The level\")",
+          "    public int level;",
+          "",
+          "    private Admin(int level) {",
+          "      this.level = level;",
+          "    }",
+          "  }",
+          "}");
+
+  private static final String SECRET =
+      String.join(
+          "\n",
+          "package sample;",
+          "",
+          "import dev.anhcraft.config.meta.*;",
+          "",
+          "public class Secret {",
+          "  public String value;",
+          "",
+          "  @Normalizer(\"value\")",
+          "  private String hide() {",
+          "    return \"***\";",
+          "  }",
+          "}");
+
+  private ClassLoader classLoader;
+
+  @BeforeAll
+  public void compile() throws Exception {
+    Path dir = Files.createTempDirectory("config-processor");
+    Path src = Files.createDirectories(dir.resolve("src/sample"));
+    Path out = Files.createDirectories(dir.resolve("out"));
+    Files.write(src.resolve("User.java"), USER.getBytes(StandardCharsets.UTF_8));
+    Files.write(src.resolve("Secret.java"), SECRET.getBytes(StandardCharsets.UTF_8));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      String classpath =
+          new File(ClassCodec.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+              .getPath();
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of("-classpath", classpath, "-d", out.toString()),
+              null,
+              fileManager.getJavaFileObjects(
+                  src.resolve("User.java").toFile(), src.resolve("Secret.java").toFile()));
+      task.setProcessors(List.of(new ConfigProcessor()));
+      assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+    }
+
+    classLoader = new URLClassLoader(new URL[] {out.toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  @Test
+  public void testGenerateCodec() throws Exception {
+    Class<?> user = classLoader.loadClass("sample.User");
+    ClassCodec<?> codec = ClassCodec.lookup(user);
+    assertNotNull(codec);
+    assertSame(user, codec.type());
+    assertNotNull(codec.accessor("name"));
+    assertNotNull(codec.accessor("age"));
+    assertNotNull(codec.accessor("roles"));
+    assertNull(codec.accessor("secret"));
+    assertNull(codec.accessor("id"));
+    assertNotNull(codec.normalizers());
+    assertNotNull(codec.denormalizers());
+    assertNotNull(codec.constructor());
+  }
+
+  @Test
+  public void testFieldMetadata() throws Exception {
+    Class<?> user = classLoader.loadClass("sample.User");
+    ClassCodec<?> codec = ClassCodec.lookup(user);
+    assertNotNull(codec);
+    assertNotNull(codec.fields());
+    assertEquals(
+        List.of("name", "age", "roles", "secret", "id"),
+        codec.fields().stream().map(FieldMetadata::name).collect(Collectors.toList()));
+
+    ConfigFactory factory = ConfigFactory.create().build();
+    ClassSchema schema = factory.getSchema(user);
+    assertEquals(Set.of("username"), schema.property("name").aliases());
+    assertTrue(schema.property("id").isOptional());
+    assertNotNull(schema.property("secret"));
+    assertNull(schema.property("ignored"));
+    assertNull(schema.property("cache"));
+    ClassSchema admin = factory.getSchema(classLoader.loadClass("sample.User$Admin"));
+    assertEquals(List.of("The level"), admin.property("level").description());
+  }
+
+  @Test
+  public void testNestedClass() throws Exception {
+    Class<?> admin = classLoader.loadClass("sample.User$Admin");
+    ClassCodec<?> codec = ClassCodec.lookup(admin);
+    assertNotNull(codec);
+    assertNotNull(codec.accessor("level"));
+    assertNull(codec.constructor());
+  }
+
+  @Test
+  public void testPrivateProcessor() throws Exception {
+    ClassCodec<?> codec = ClassCodec.lookup(classLoader.loadClass("sample.Secret"));
+    assertNotNull(codec);
+    assertNull(codec.normalizers());
+    assertNotNull(codec.denormalizers());
+  }
+
+  @Test
+  public void testSchemaUsesCodec() throws Exception {
+    Class<?> user = classLoader.loadClass("sample.User");
+    ConfigFactory factory = ConfigFactory.create().build();
+    ClassSchema schema = factory.getSchema(user);
+    ClassProperty name = schema.property("name");
+    assertNotNull(name);
+    assertTrue(name.accessor().getClass().getName().startsWith("sample.User" + ClassCodec.SUFFIX));
+
+    Object instance =
+        factory
+            .getDenormalizer()
+            .denormalize(
+                Dictionary.of(
+                    Map.of("username", "alice", "age", 20, "roles", new Object[] {"admin"})),
+                user);
+    assertNotNull(instance);
+    assertEquals("alice", name.accessor().get(instance));
+    assertEquals(21, schema.property("age").accessor().get(instance));
+    assertEquals(List.of("admin"), schema.property("roles").accessor().get(instance));
+
+    Dictionary dict = (Dictionary) factory.getNormalizer().normalize(instance);
+    assertNotNull(dict);
+    assertEquals("ALICE", dict.get("name"));
+  }
+
+  @Test
+  public void testPrivateFallbackToReflection() throws Exception {
+    Class<?> secret = classLoader.loadClass("sample.Secret");
+    ConfigFactory factory = ConfigFactory.create().build();
+    Object instance =
+        factory.getDenormalizer().denormalize(Dictionary.of(Map.of("value", "a")), secret);
+    assertNotNull(instance);
+    Dictionary dict = (Dictionary) factory.getNormalizer().normalize(instance);
+    assertNotNull(dict);
+    assertEquals("***", dict.get("value"));
+  }
+}